@@ -0,0 +1,78 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext 의 principal)
+ * JWT 에서 꺼낸 사용자 식별 정보를 그대로 담아, 컨트롤러가 DB 조회 없이 호출자를 알 수 있게 함
+ *
+ * {@link AuthenticatedPrincipal} 을 구현하므로 {@code Authentication.getName()} 은 이전과 같이 이메일을 반환합니다.
+ *
+ * @param userId 사용자 ID
+ * @param userType 사용자 타입
+ * @param email 사용자 이메일
+ * @param authorities 권한 목록 (ROLE_{userType})
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public record AuthenticatedUser(Long userId, UserType userType, String email,
+                                List<GrantedAuthority> authorities) implements AuthenticatedPrincipal {
+
+    /**
+     * 사용자 타입별 권한 목록 (요청마다 새로 만들지 않도록 미리 생성)
+     */
+    private static final Map<UserType, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserType.class);
+
+    static {
+        for (UserType userType : UserType.values()) {
+            AUTHORITIES.put(userType, List.of(new SimpleGrantedAuthority("ROLE_" + userType.name())));
+        }
+    }
+
+    public AuthenticatedUser {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * 사용자 타입에 맞는 권한으로 생성
+     * @param userId 사용자 ID
+     * @param userType 사용자 타입
+     * @param email 사용자 이메일
+     * @return 인증된 사용자
+     */
+    public static AuthenticatedUser of(Long userId, UserType userType, String email) {
+        return new AuthenticatedUser(userId, userType, email, AUTHORITIES.get(userType));
+    }
+
+    /**
+     * 검증된 토큰으로부터 생성
+     * @param token 검증된 토큰
+     * @return 인증된 사용자
+     */
+    public static AuthenticatedUser from(VerifiedToken token) {
+        return of(token.userId(), token.userType(), token.email());
+    }
+
+    /**
+     * 주어진 사용자 타입인지 확인
+     * @param type 사용자 타입
+     * @return 일치 여부
+     */
+    public boolean is(UserType type) {
+        return userType == type;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 파라미터에 현재 인증된 사용자({@link AuthenticatedUser})를 주입
+ *
+ * <pre>
+ * public ResponseEntity&lt;?&gt; myRentals(@CurrentUser AuthenticatedUser user) { ... }
+ * </pre>
+ *
+ * 인증되지 않은 요청이면 required=true 일 때 401 (C005), required=false 일 때 null 을 주입합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    /**
+     * 인증 필수 여부
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,43 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link CurrentUser} 파라미터 리졸버
+ * SecurityContext 에 저장된 {@link AuthenticatedUser} 를 그대로 꺼내므로 DB 조회가 없음
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+
+        CurrentUser annotation = parameter.getParameterAnnotation(CurrentUser.class);
+        if (annotation != null && !annotation.required()) {
+            return null;
+        }
+        throw new BusinessException(ErrorCode.AUTHENTICATION_REQUIRED);
+    }
+}
@@ -0,0 +1,232 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google id_token 로컬 검증기
+ * 토큰 교환 응답에 포함된 id_token 을 Google 공개 키로 직접 검증하여
+ * userinfo API 호출 없이 사용자 정보를 얻기 위해 사용
+ *
+ * 주요 특징:
+ * - 공개 키 목록(JWKS)은 응답의 Cache-Control max-age 동안 메모리에 보관
+ * - 모르는 kid 가 오면 키 목록을 다시 받되, 최소 간격을 두어 위조 토큰으로 인한 반복 호출을 막음
+ * - iss, aud(client-id), exp, email_verified 를 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final RestTemplate restTemplate;
+
+    @Value("${google.oauth.client-id}")
+    private String clientId;
+
+    @Value("${google.oauth.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}")
+    private String jwksUri;
+
+    @Value("${google.oauth.jwks-refresh-min-interval:60000}") // 모르는 kid 로 인한 재조회 최소 간격 (밀리초)
+    private long refreshMinIntervalMillis;
+
+    @Value("${google.oauth.jwks-default-max-age:3600000}") // Cache-Control 이 없을 때 보관 시간 (밀리초)
+    private long defaultMaxAgeMillis;
+
+    private volatile KeySet keySet = new KeySet(Map.of(), 0L);
+
+    private volatile long lastFetchMillis;
+
+    // 키 목록 조회(블로킹 HTTP 호출)를 감싸므로 synchronized 대신 사용 (가상 스레드의 캐리어를 붙잡지 않음)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void initialize() {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .clockSkewSeconds(60)
+                .build();
+    }
+
+    /**
+     * id_token 검증
+     * @param idToken Google id_token
+     * @return 검증된 사용자 정보 (검증 실패 시 empty)
+     */
+    public Optional<GoogleUserInfoDto> verify(String idToken) {
+        if (idToken == null || idToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = jwtParser.parseSignedClaims(idToken).getPayload();
+
+            if (!ISSUERS.contains(claims.getIssuer())) {
+                log.warn("id_token 발급자 불일치: {}", claims.getIssuer());
+                return Optional.empty();
+            }
+            if (claims.getAudience() == null || !claims.getAudience().contains(clientId)) {
+                log.warn("id_token 대상(aud) 불일치: {}", claims.getAudience());
+                return Optional.empty();
+            }
+            if (!Boolean.TRUE.equals(claims.get("email_verified", Boolean.class))) {
+                log.warn("id_token 이메일 미인증: {}", claims.get("email"));
+                return Optional.empty();
+            }
+
+            return Optional.of(GoogleUserInfoDto.builder()
+                    .id(claims.getSubject())
+                    .email(claims.get("email", String.class))
+                    .name(claims.get("name", String.class))
+                    .givenName(claims.get("given_name", String.class))
+                    .familyName(claims.get("family_name", String.class))
+                    .picture(claims.get("picture", String.class))
+                    .locale(claims.get("locale", String.class))
+                    .verifiedEmail(true)
+                    .build());
+        } catch (JwtException | IllegalArgumentException | RestClientException e) {
+            log.warn("id_token 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * kid 로 공개 키 조회
+     * 키 목록이 만료되었거나 모르는 kid 이면 (최소 간격 내에서) 다시 받아옴
+     */
+    private Key findKey(String kid) {
+        if (kid == null) {
+            throw new UnsupportedJwtException("id_token 에 kid 가 없습니다.");
+        }
+
+        KeySet current = keySet;
+        if (current.isExpired(System.currentTimeMillis()) || !current.keys().containsKey(kid)) {
+            current = refresh(current);
+        }
+
+        PublicKey key = current.keys().get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 Google 서명 키입니다: " + kid);
+        }
+        return key;
+    }
+
+    private KeySet refresh(KeySet seen) {
+        refreshLock.lock();
+        try {
+            // 다른 스레드가 먼저 갱신했거나 최소 간격이 지나지 않았으면 가진 키를 그대로 사용
+            long now = System.currentTimeMillis();
+            if (keySet != seen || now - lastFetchMillis < refreshMinIntervalMillis) {
+                return keySet;
+            }
+            lastFetchMillis = now;
+
+            try {
+                ResponseEntity<Map> response = restTemplate.getForEntity(jwksUri, Map.class);
+                if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                    throw new RestClientException("Google 공개 키 조회 실패: " + response.getStatusCode());
+                }
+
+                KeySet fetched = new KeySet(parseKeys(response.getBody()), now + maxAgeMillis(response));
+                this.keySet = fetched;
+                log.info("Google 공개 키 갱신: {}개", fetched.keys().size());
+                return fetched;
+            } catch (RestClientException e) {
+                if (seen.keys().isEmpty()) {
+                    throw e;
+                }
+                // 조회 실패 시 만료된 키라도 계속 사용 (Google 키는 교체 후에도 한동안 유효)
+                log.warn("Google 공개 키 갱신 실패, 기존 키 사용: {}", e.getMessage());
+                return seen;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private long maxAgeMillis(ResponseEntity<?> response) {
+        String cacheControl = response.getHeaders().getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1)) * 1000;
+            }
+        }
+        return defaultMaxAgeMillis;
+    }
+
+    private static Map<String, PublicKey> parseKeys(Map<?, ?> jwks) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        Object entries = jwks.get("keys");
+        if (!(entries instanceof List<?> list)) {
+            return keys;
+        }
+
+        for (Object entry : list) {
+            if (!(entry instanceof Map<?, ?> jwk) || !"RSA".equals(jwk.get("kty"))) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("n")));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("e")));
+                keys.put((String) jwk.get("kid"),
+                        KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            } catch (GeneralSecurityException | RuntimeException e) {
+                log.warn("Google 공개 키 해석 실패: kid={}, {}", jwk.get("kid"), e.getMessage());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 공개 키 목록과 만료 시각
+     */
+    private record KeySet(Map<String, PublicKey> keys, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.entity.JwtSigningKey;
+import kr.hs.sdh.digitechnetwork.repository.JwtSigningKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * JWT 비대칭 서명 키 묶음(Key Ring)
+ * ES256/RS256 서명 키를 키 ID(kid)와 함께 관리하고 주기적으로 교체
+ *
+ * 다음 키는 활성화되기 전에 JWKS 캐시 수명만큼 먼저 공개되므로, 공개 키를 캐시한
+ * 다른 서비스도 교체 직후의 토큰을 검증할 수 있습니다. 교체된 키는 가장 긴 토큰
+ * 수명(리프레시 토큰) 동안 검증용으로 유지한 뒤 삭제합니다.
+ * 키는 데이터베이스에 보관되며 개인 키는 jwt.secret 에서 유도한 키로 암호화됩니다.
+ *
+ * jwt.algorithm 이 HS256(기본값)이면 비활성 상태로 남고, JwtService 가 기존
+ * 공유 비밀 키 방식으로 동작합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing {
+
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final long UNKNOWN_KID_RELOAD_INTERVAL_MILLIS = 30_000L;
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    @Value("${jwt.algorithm:HS256}")
+    private String algorithmName;
+
+    @Value("${jwt.secret:defaultSecretKeyForDevelopmentOnly}")
+    private String secret;
+
+    @Value("${jwt.key-rotation-interval:604800000}") // 7일 (밀리초)
+    private long rotationIntervalMillis;
+
+    @Value("${jwt.jwks-max-age:3600}") // 1시간 (초)
+    private long jwksMaxAgeSeconds;
+
+    @Value("${jwt.refresh-expiration:604800000}") // 가장 긴 토큰 수명 (밀리초)
+    private long maxTokenLifetimeMillis;
+
+    /**
+     * 활성화 시각 오름차순 키 목록 (교체 시 통째로 바꿔 끼움)
+     */
+    private volatile List<RingKey> keys = List.of();
+
+    private volatile long lastReloadMillis;
+
+    @PostConstruct
+    void initialize() {
+        if (!isAsymmetric()) {
+            return;
+        }
+        getAlgorithm(); // 지원하지 않는 알고리즘이면 기동 시 실패
+        reload();
+        if (keys.isEmpty()) {
+            createKey(LocalDateTime.now());
+        }
+        log.info("JWT 서명 키 묶음 초기화: algorithm={}, keys={}", algorithmName, keys.size());
+    }
+
+    /**
+     * 비대칭 서명 사용 여부
+     * @return ES256/RS256 이면 true, HS256 이면 false
+     */
+    public boolean isAsymmetric() {
+        return !"HS256".equalsIgnoreCase(algorithmName);
+    }
+
+    /**
+     * 설정된 비대칭 서명 알고리즘
+     * @return 서명 알고리즘
+     */
+    public SignatureAlgorithm getAlgorithm() {
+        return switch (algorithmName.toUpperCase(Locale.ROOT)) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "RS256" -> Jwts.SIG.RS256;
+            default -> throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithmName);
+        };
+    }
+
+    /**
+     * 현재 서명에 사용할 키 (활성화된 키 중 가장 최근 것)
+     * @return 서명 키
+     */
+    public RingKey currentSigningKey() {
+        LocalDateTime now = LocalDateTime.now();
+        RingKey current = null;
+        for (RingKey key : keys) {
+            if (!key.activatesAt().isAfter(now)) {
+                current = key;
+            }
+        }
+        if (current == null) {
+            throw new IllegalStateException("활성화된 JWT 서명 키가 없습니다.");
+        }
+        return current;
+    }
+
+    /**
+     * 키 ID로 검증용 공개 키 조회
+     * 다른 인스턴스가 방금 만든 키일 수 있으므로, 모르는 키 ID면 제한된 빈도로 다시 읽음
+     * @param kid 키 ID
+     * @return 공개 키 (없으면 empty)
+     */
+    public Optional<PublicKey> findVerificationKey(String kid) {
+        Optional<PublicKey> found = find(kid);
+        if (found.isPresent()) {
+            return found;
+        }
+        if (System.currentTimeMillis() - lastReloadMillis >= UNKNOWN_KID_RELOAD_INTERVAL_MILLIS) {
+            reload();
+            return find(kid);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<PublicKey> find(String kid) {
+        for (RingKey key : keys) {
+            if (key.kid().equals(kid)) {
+                return Optional.of(key.publicKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * JWKS(RFC 7517) 형식의 공개 키 목록
+     * 활성화 대기 중인 다음 키와 검증용으로 유지 중인 이전 키를 모두 포함
+     * @return 공개 JWK 목록 (HS256 모드이면 빈 목록)
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        if (!isAsymmetric()) {
+            return List.of();
+        }
+        List<Map<String, Object>> jwks = new ArrayList<>(keys.size());
+        for (RingKey key : keys) {
+            jwks.add(toPublicJwk(key));
+        }
+        return jwks;
+    }
+
+    /**
+     * JWKS 응답의 캐시 유효 시간 (초)
+     * @return 캐시 유효 시간
+     */
+    public long getJwksMaxAgeSeconds() {
+        return jwksMaxAgeSeconds;
+    }
+
+    /**
+     * 키 교체 확인
+     * 다음 키가 아직 없고 현재 키의 교체 시점이 공개 선행 시간 안으로 들어오면 다음 키를 생성하고,
+     * 검증 보관 기간이 지난 키를 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-rotation-check-interval:600000}",
+            initialDelayString = "${jwt.key-rotation-check-interval:600000}")
+    public void rotateIfDue() {
+        if (!isAsymmetric()) {
+            return;
+        }
+        reload();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RingKey> snapshot = keys;
+        if (snapshot.isEmpty()) {
+            createKey(now);
+            return;
+        }
+
+        RingKey newest = snapshot.get(snapshot.size() - 1);
+        LocalDateTime nextActivation = newest.activatesAt().plusNanos(rotationIntervalMillis * 1_000_000L);
+        LocalDateTime earliestActivation = now.plusSeconds(jwksMaxAgeSeconds);
+        if (!newest.activatesAt().isAfter(now) && !now.isBefore(nextActivation.minusSeconds(jwksMaxAgeSeconds))) {
+            createKey(nextActivation.isBefore(earliestActivation) ? earliestActivation : nextActivation);
+        }
+
+        pruneRetiredKeys(now);
+    }
+
+    /**
+     * 후속 키가 활성화된 뒤 가장 긴 토큰 수명이 지난 키 삭제
+     */
+    private void pruneRetiredKeys(LocalDateTime now) {
+        List<RingKey> snapshot = keys;
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i + 1 < snapshot.size(); i++) {
+            LocalDateTime retiredAt = snapshot.get(i + 1).activatesAt();
+            if (retiredAt.plusNanos(maxTokenLifetimeMillis * 1_000_000L).isBefore(now)) {
+                expired.add(snapshot.get(i).kid());
+            }
+        }
+        if (!expired.isEmpty()) {
+            jwtSigningKeyRepository.deleteAllById(expired);
+            log.info("보관 기간이 지난 JWT 서명 키 삭제: {}", expired);
+            reload();
+        }
+    }
+
+    private void createKey(LocalDateTime activatesAt) {
+        KeyPair keyPair = getAlgorithm().keyPair().build();
+        String kid = UUID.randomUUID().toString();
+
+        jwtSigningKeyRepository.save(JwtSigningKey.builder()
+                .kid(kid)
+                .algorithm(algorithmName.toUpperCase(Locale.ROOT))
+                .publicKey(keyPair.getPublic().getEncoded())
+                .encryptedPrivateKey(encrypt(keyPair.getPrivate().getEncoded()))
+                .activatesAt(activatesAt)
+                .build());
+        log.info("JWT 서명 키 생성: kid={}, activatesAt={}", kid, activatesAt);
+        reload();
+    }
+
+    private void reload() {
+        List<JwtSigningKey> stored = jwtSigningKeyRepository
+                .findByAlgorithmOrderByActivatesAtAsc(algorithmName.toUpperCase(Locale.ROOT));
+
+        List<RingKey> loaded = new ArrayList<>(stored.size());
+        for (JwtSigningKey entity : stored) {
+            loaded.add(toRingKey(entity));
+        }
+        this.keys = List.copyOf(loaded);
+        this.lastReloadMillis = System.currentTimeMillis();
+    }
+
+    private RingKey toRingKey(JwtSigningKey entity) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm());
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(entity.getPublicKey()));
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(decrypt(entity.getEncryptedPrivateKey())));
+            return new RingKey(entity.getKid(), publicKey, privateKey, entity.getActivatesAt());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 복원할 수 없습니다: " + entity.getKid(), e);
+        }
+    }
+
+    private String keyFactoryAlgorithm() {
+        return getAlgorithm() == Jwts.SIG.RS256 ? "RSA" : "EC";
+    }
+
+    private Map<String, Object> toPublicJwk(RingKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key.publicKey() instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        } else if (key.publicKey() instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), (rsa.getModulus().bitLength() + 7) / 8));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), (rsa.getPublicExponent().bitLength() + 7) / 8));
+        }
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithmName.toUpperCase(Locale.ROOT));
+        return jwk;
+    }
+
+    /**
+     * 부호 없는 고정 길이 빅엔디언 정수를 base64url(패딩 없음)로 인코딩
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] unsigned = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, unsigned, length - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+    }
+
+    private byte[] encrypt(byte[] plain) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            new SecureRandom().nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, wrappingKey(), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plain);
+            return ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 암호화할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] decrypt(byte[] stored) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, wrappingKey(), new GCMParameterSpec(GCM_TAG_BITS, stored, 0, GCM_IV_LENGTH));
+        return cipher.doFinal(stored, GCM_IV_LENGTH, stored.length - GCM_IV_LENGTH);
+    }
+
+    private SecretKeySpec wrappingKey() throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(digest, "AES");
+    }
+
+    /**
+     * 키 묶음에 포함된 서명 키
+     *
+     * @param kid 키 ID (JWT 헤더의 kid)
+     * @param publicKey 검증용 공개 키
+     * @param privateKey 서명용 개인 키
+     * @param activatesAt 서명에 사용되기 시작하는 시각
+     */
+    public record RingKey(String kid, PublicKey publicKey, PrivateKey privateKey, LocalDateTime activatesAt) {
+    }
+}
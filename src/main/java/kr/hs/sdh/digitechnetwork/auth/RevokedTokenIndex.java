@@ -0,0 +1,189 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.entity.RevokedToken;
+import kr.hs.sdh.digitechnetwork.repository.RevokedTokenRepository;
+import kr.hs.sdh.digitechnetwork.utility.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 폐기된 토큰(jti) 색인
+ * 필터와 토큰 갱신 경로에서 폐기 여부를 마이크로초 단위로 판정하기 위한 메모리 색인
+ *
+ * 구조:
+ * - 블룸 필터: 대부분의 (폐기되지 않은) 토큰을 해시 몇 번으로 통과시킴
+ * - jti → 만료 시각 맵: 블룸 필터가 "있을 수 있음"이라고 할 때만 정확히 확인
+ * - 만료 시각 순 정렬 집합: 만료된 항목을 앞에서부터 잘라내기 위해 사용
+ *
+ * 폐기 기록은 revoked_tokens 테이블에도 저장하여 재시작 후 다시 적재하고,
+ * 주기적으로 다른 인스턴스의 폐기 기록을 가져옵니다. 같은 jti 의 두 번째 폐기는
+ * 기본 키 충돌로 감지되므로 리프레시 토큰은 인스턴스가 여러 개여도 한 번만 사용됩니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    private final Map<String, Long> expiresAtByJti = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Revocation> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Revocation::expiresAtMillis).thenComparing(Revocation::jti));
+
+    private volatile BloomFilter bloomFilter;
+
+    private volatile LocalDateTime lastSynchronizedAt;
+
+    @PostConstruct
+    void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        for (RevokedToken revoked : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            remember(revoked.getJti(), toMillis(revoked.getExpiresAt()));
+        }
+        this.lastSynchronizedAt = now;
+        log.info("폐기 토큰 색인 적재 완료: {}건", expiresAtByJti.size());
+    }
+
+    /**
+     * 폐기 여부 확인
+     * @param jti 토큰 ID
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return expiresAtByJti.containsKey(jti);
+    }
+
+    /**
+     * 토큰 폐기
+     * 데이터베이스에 먼저 기록하여 다른 인스턴스가 이미 폐기한 jti 도 감지
+     * @param jti 토큰 ID
+     * @param expiresAt 토큰 만료 시각 (이 시각 이후 기록 삭제)
+     * @return 이번 호출로 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String jti, Instant expiresAt) {
+        if (isRevoked(jti)) {
+            return false;
+        }
+
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(toLocalDateTime(expiresAtMillis))
+                    .revokedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            remember(jti, expiresAtMillis);
+            return false;
+        }
+        return remember(jti, expiresAtMillis);
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 폐기 내역 동기화
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:30000}",
+            initialDelayString = "${jwt.revocation.sync-interval:30000}")
+    public void synchronize() {
+        LocalDateTime since = lastSynchronizedAt.minusSeconds(5); // 커밋 지연 여유
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedToken revoked : revokedTokenRepository.findByRevokedAtAfter(since)) {
+            remember(revoked.getJti(), toMillis(revoked.getExpiresAt()));
+        }
+        this.lastSynchronizedAt = now;
+    }
+
+    /**
+     * 만료된 폐기 기록 정리
+     * 만료 시각 순 집합의 앞부분만 잘라내고, 블룸 필터는 남은 항목으로 다시 만듦
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:3600000}",
+            initialDelayString = "${jwt.revocation.purge-interval:3600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        Revocation head;
+        while ((head = byExpiry.pollFirst()) != null) {
+            if (head.expiresAtMillis() > now) {
+                byExpiry.add(head);
+                break;
+            }
+            expiresAtByJti.remove(head.jti(), head.expiresAtMillis());
+            removed++;
+        }
+
+        if (removed > 0) {
+            rebuildBloomFilter();
+        }
+        int deleted = revokedTokenRepository.deleteExpired(toLocalDateTime(now));
+        log.info("만료된 폐기 토큰 정리: 메모리 {}건, DB {}건", removed, deleted);
+    }
+
+    /**
+     * 색인 상태 조회
+     * @return 항목 수와 블룸 필터 크기
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", expiresAtByJti.size());
+        stats.put("bloomFilterBytes", bloomFilter.sizeInBytes());
+        return stats;
+    }
+
+    /**
+     * 메모리 색인에 추가 (맵 → 블룸 필터 순서로 기록하여 조회 시 누락이 없도록 함)
+     * @return 새로 추가되었으면 true
+     */
+    private synchronized boolean remember(String jti, long expiresAtMillis) {
+        if (expiresAtByJti.putIfAbsent(jti, expiresAtMillis) != null) {
+            return false;
+        }
+        byExpiry.add(new Revocation(jti, expiresAtMillis));
+        bloomFilter.put(jti);
+        return true;
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, expiresAtByJti.size() * 2), FALSE_POSITIVE_RATE);
+        expiresAtByJti.keySet().forEach(rebuilt::put);
+        this.bloomFilter = rebuilt;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record Revocation(String jti, long expiresAtMillis) {
+    }
+}
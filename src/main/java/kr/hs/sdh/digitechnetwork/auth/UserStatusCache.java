@@ -0,0 +1,86 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import kr.hs.sdh.digitechnetwork.utility.ExpiringCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 활성화 상태 캐시
+ * JWT 인증 필터가 요청마다 사용자 엔티티를 조회하지 않도록
+ * (userType, userId) → 활성화 여부를 TTL 동안 메모리에 보관
+ *
+ * 사용자 상태가 변경되면 StudentService/TeacherService 가 커밋 후 {@link #invalidate} 를 호출합니다.
+ * 존재하지 않는 사용자는 비활성(false)으로 캐시됩니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+
+    @Value("${auth.user-status-cache.max-size:10000}")
+    private int maximumSize;
+
+    @Value("${auth.user-status-cache.ttl:300000}") // 5분 (밀리초)
+    private long ttlMillis;
+
+    private ExpiringCache<UserKey, Boolean> cache;
+
+    @PostConstruct
+    void initialize() {
+        this.cache = new ExpiringCache<>(maximumSize);
+    }
+
+    /**
+     * 사용자 활성화 여부 조회 (캐시 미스 시 활성화 컬럼만 조회)
+     * @param userType 사용자 타입
+     * @param userId 사용자 ID
+     * @return 존재하며 활성화된 사용자이면 true
+     */
+    public boolean isEnabled(UserType userType, Long userId) {
+        return cache.get(new UserKey(userType, userId), this::loadEnabled, Duration.ofMillis(ttlMillis));
+    }
+
+    /**
+     * 사용자 상태 캐시 무효화
+     * @param userType 사용자 타입
+     * @param userId 사용자 ID
+     */
+    public void invalidate(UserType userType, Long userId) {
+        cache.invalidate(new UserKey(userType, userId));
+        log.debug("사용자 상태 캐시 무효화: userType={}, userId={}", userType, userId);
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 적중/미스 등 통계
+     */
+    public ExpiringCache.Stats getStats() {
+        return cache.stats();
+    }
+
+    private Boolean loadEnabled(UserKey key) {
+        return switch (key.userType()) {
+            case STUDENT -> studentRepository.findIsEnabledById(key.userId()).orElse(false);
+            case TEACHER -> teacherRepository.findIsEnabledById(key.userId()).orElse(false);
+            default -> false;
+        };
+    }
+
+    private record UserKey(UserType userType, Long userId) {
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import kr.hs.sdh.digitechnetwork.enums.TokenType;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 클레임
+ * 토큰을 한 번만 파싱하고 필요한 값을 모두 담아 전달하기 위해 사용
+ *
+ * @param userType 사용자 타입
+ * @param userId 사용자 ID
+ * @param email 사용자 이메일
+ * @param expiresAt 토큰 만료 시각
+ * @param tokenId 토큰 ID (jti, 폐기 단위이며 이전 버전 토큰에는 없음)
+ * @param tokenType 토큰 종류 (이전 버전 토큰에는 없음)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public record VerifiedToken(UserType userType, Long userId, String email, Instant expiresAt,
+                            String tokenId, TokenType tokenType) {
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     * @param now 기준 시각
+     * @return 만료 여부
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,96 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.utility.ExpiringCache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+/**
+ * 검증된 JWT 토큰 결과 캐시
+ * 같은 토큰 문자열이 반복해서 들어올 때 HMAC 검증과 클레임 파싱을 다시 하지 않도록
+ * 토큰의 SHA-256 다이제스트를 키로 검증 결과를 보관
+ *
+ * 주요 특징:
+ * - 각 항목은 토큰의 exp 시각에 정확히 만료
+ * - 원문 토큰 대신 32바이트 다이제스트만 보관하여 메모리 사용량 제한
+ * - 검증에 성공한 토큰만 캐시 (위조 토큰으로 캐시를 채울 수 없음)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final ExpiringCache<TokenDigest, VerifiedToken> cache;
+
+    public VerifiedTokenCache(int maximumSize) {
+        this.cache = new ExpiringCache<>(maximumSize);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     * @param token JWT 토큰
+     * @return 검증 결과 (캐시에 없거나 만료되었으면 empty)
+     */
+    public Optional<VerifiedToken> get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증 결과 저장 (토큰 만료 시각까지 보관)
+     * @param token JWT 토큰
+     * @param verifiedToken 검증 결과
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(digest(token), verifiedToken, verifiedToken.expiresAt().toEpochMilli());
+    }
+
+    /**
+     * 특정 토큰의 검증 결과 제거
+     * @param token JWT 토큰
+     */
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 특정 사용자의 모든 검증 결과 제거
+     * @param userType 사용자 타입
+     * @param userId 사용자 ID
+     */
+    public void evictUser(UserType userType, Long userId) {
+        cache.invalidateIf(verified -> verified.userType() == userType && verified.userId().equals(userId));
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 통계 스냅샷
+     */
+    public ExpiringCache.Stats getStats() {
+        return cache.stats();
+    }
+
+    private static TokenDigest digest(String token) {
+        MessageDigest messageDigest = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * 256비트 다이제스트를 long 4개로 보관하여 equals/hashCode 비용을 줄인 키
+     */
+    private record TokenDigest(long first, long second, long third, long fourth) {
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hs.sdh.digitechnetwork.config;
+
+import kr.hs.sdh.digitechnetwork.utility.Bulkhead;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출 동시 실행 제한 설정
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Configuration
+public class BulkheadConfig {
+
+    /**
+     * Google OAuth 원격 호출(토큰 교환, 사용자 정보)용 Bulkhead
+     * 로그인이 몰려도 Google 로 나가는 동시 요청 수를 제한하고, 한도를 넘으면 빠르게 거부
+     * 한도는 HTTP 연결 풀의 호스트별 연결 수(http.client.max-per-route)를 넘지 않음
+     * (넘으면 Bulkhead 를 통과한 호출이 연결 풀에서 다시 대기하다 연결 대기 시간 초과로 실패)
+     */
+    @Bean
+    public Bulkhead googleOAuthBulkhead(
+            @Value("${http.client.max-per-route:20}") int maxPerRoute,
+            @Value("${google.oauth.bulkhead.max-concurrent:${http.client.max-per-route:20}}") int maxConcurrent,
+            @Value("${google.oauth.bulkhead.acquire-timeout:500}") long acquireTimeoutMillis) {
+        if (maxConcurrent > maxPerRoute) {
+            log.warn("Google OAuth Bulkhead 한도({})가 호스트별 연결 수({})보다 커서 연결 수로 낮춤", maxConcurrent, maxPerRoute);
+        }
+        return new Bulkhead("google-oauth", Math.min(maxConcurrent, maxPerRoute), Duration.ofMillis(acquireTimeoutMillis));
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hs.sdh.digitechnetwork.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA(Hibernate) 설정
+ *
+ * 엔티티 그래프가 지정되지 않은 경로에서 지연 로딩이 일어나더라도,
+ * 같은 영속성 컨텍스트의 프록시/컬렉션을 IN 절로 묶어 한 번에 초기화하도록 배치 fetch 크기를 지정합니다.
+ * (행 N개 → 쿼리 N개 대신 ceil(N / batch-size) 개)
+ *
+ * 설정 항목:
+ * - jpa.default-batch-fetch-size: 한 번에 초기화할 프록시/컬렉션 수
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${jpa.default-batch-fetch-size:100}")
+    private int defaultBatchFetchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchFetchCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, defaultBatchFetchSize);
+    }
+}
@@ -4,23 +4,21 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import kr.hs.sdh.digitechnetwork.entity.Student;
-import kr.hs.sdh.digitechnetwork.entity.Teacher;
+import kr.hs.sdh.digitechnetwork.auth.AuthenticatedUser;
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
+import kr.hs.sdh.digitechnetwork.auth.VerifiedToken;
+import kr.hs.sdh.digitechnetwork.enums.TokenType;
 import kr.hs.sdh.digitechnetwork.enums.UserType;
-import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
-import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
 import kr.hs.sdh.digitechnetwork.service.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.Optional;
 
 /**
@@ -37,8 +35,7 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final StudentRepository studentRepository;
-    private final TeacherRepository teacherRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -47,21 +44,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
             
-            if (StringUtils.hasText(token) && jwtService.validateToken(token)) {
-                UserType userType = jwtService.getUserTypeFromToken(token);
-                Long userId = jwtService.getUserIdFromToken(token);
-                String email = jwtService.getEmailFromToken(token);
-                
-                // 사용자 정보 조회
-                Optional<?> userOptional = findUserByTypeAndId(userType, userId);
+            // 리프레시 토큰은 API 인증에 사용할 수 없음 (이전 버전 토큰은 종류가 없으므로 허용)
+            Optional<VerifiedToken> verifiedToken = (StringUtils.hasText(token)
+                    ? jwtService.verifyToken(token)
+                    : Optional.<VerifiedToken>empty())
+                    .filter(verified -> verified.tokenType() != TokenType.REFRESH);
+
+            if (verifiedToken.isPresent()) {
+                UserType userType = verifiedToken.get().userType();
+                Long userId = verifiedToken.get().userId();
+                String email = verifiedToken.get().email();
                 
-                if (userOptional.isPresent()) {
+                // 사용자 활성화 여부 확인 (캐시 적중 시 DB 조회 없음)
+                if (userStatusCache.isEnabled(userType, userId)) {
                     // 인증 정보 생성
-                    UsernamePasswordAuthenticationToken authentication = createAuthentication(userType, userId, email);
+                    UsernamePasswordAuthenticationToken authentication = createAuthentication(verifiedToken.get());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("JWT 인증 성공: userType={}, userId={}, email={}", userType, userId, email);
                 } else {
-                    log.warn("토큰의 사용자 정보를 찾을 수 없음: userType={}, userId={}", userType, userId);
+                    log.warn("토큰의 사용자가 없거나 비활성화됨: userType={}, userId={}", userType, userId);
                 }
             }
         } catch (Exception e) {
@@ -86,34 +87,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    /**
-     * 사용자 타입과 ID로 사용자 조회
-     * @param userType 사용자 타입
-     * @param userId 사용자 ID
-     * @return 사용자 정보 (Optional)
-     */
-    private Optional<?> findUserByTypeAndId(UserType userType, Long userId) {
-        return switch (userType) {
-            case STUDENT -> studentRepository.findById(userId);
-            case TEACHER -> teacherRepository.findById(userId);
-            default -> Optional.empty();
-        };
-    }
-
     /**
      * 인증 정보 생성
-     * @param userType 사용자 타입
-     * @param userId 사용자 ID
-     * @param email 사용자 이메일
+     * 토큰의 사용자 ID/타입/이메일을 principal 로 담아 컨트롤러에서 재조회하지 않도록 함
+     * @param verifiedToken 검증된 토큰
      * @return 인증 토큰
      */
-    private UsernamePasswordAuthenticationToken createAuthentication(UserType userType, Long userId, String email) {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + userType.name());
+    private UsernamePasswordAuthenticationToken createAuthentication(VerifiedToken verifiedToken) {
+        AuthenticatedUser principal = AuthenticatedUser.from(verifiedToken);
         
         return new UsernamePasswordAuthenticationToken(
-                email, // principal
-                null,  // credentials
-                Collections.singletonList(authority)
+                principal, // principal
+                null,      // credentials
+                principal.authorities()
         );
     }
 }
@@ -1,13 +1,142 @@
 package kr.hs.sdh.digitechnetwork.config;
 
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출용 RestTemplate 설정
+ *
+ * 연결 풀(keep-alive)을 사용하여 Google OAuth 호출마다 TCP/TLS 연결을 새로 맺지 않고,
+ * 연결/응답/풀 대기 시간에 상한을 두어 외부 지연이 서블릿 스레드를 붙잡지 않도록 합니다.
+ *
+ * 설정 항목 (http.client.*):
+ * - max-total / max-per-route: 전체 및 호스트별 최대 연결 수 (Google OAuth Bulkhead 한도의 상한으로도 사용)
+ * - route-limits: 호스트별 개별 한도 (예: https://oauth2.googleapis.com=30,https://www.googleapis.com=10)
+ *   Google 호스트 한도를 max-per-route 보다 낮추면 google.oauth.bulkhead.max-concurrent 도 그 이하로 설정
+ * - connect-timeout / response-timeout / connection-request-timeout: 연결, 응답, 풀 대기 제한 시간 (밀리초)
+ * - idle-eviction / time-to-live: 유휴 연결 정리 주기와 연결 최대 수명 (밀리초)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
 @Configuration
 public class RestTemplateConfig {
+
+    @Value("${http.client.max-total:50}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${http.client.route-limits:}")
+    private String routeLimits;
+
+    @Value("${http.client.connect-timeout:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${http.client.response-timeout:5000}")
+    private long responseTimeoutMillis;
+
+    @Value("${http.client.connection-request-timeout:1000}")
+    private long connectionRequestTimeoutMillis;
+
+    @Value("${http.client.idle-eviction:30000}")
+    private long idleEvictionMillis;
+
+    @Value("${http.client.time-to-live:300000}")
+    private long timeToLiveMillis;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        for (String entry : routeLimits.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalStateException("http.client.route-limits 형식이 올바르지 않습니다: " + entry);
+            }
+            URI uri = URI.create(pair[0].trim());
+            boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+            int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+            HttpHost host = new HttpHost(uri.getScheme(), uri.getHost(), port);
+            // https 요청의 경로는 secure 로 만들어지므로 같은 경로로 등록해야 한도가 적용됨
+            connectionManager.setMaxPerRoute(new HttpRoute(host, null, secure), Integer.parseInt(pair[1].trim()));
+        }
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMillis))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 연결 풀 사용 현황
+     * @param connectionManager 연결 풀
+     * @return 전체 및 호스트별 사용 중/대기/가용 연결 수
+     */
+    public static Map<String, Object> poolStats(PoolingHttpClientConnectionManager connectionManager) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", toMap(connectionManager.getTotalStats()));
+
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), toMap(connectionManager.getStats(route)));
+        }
+        stats.put("routes", routes);
+        return stats;
+    }
+
+    private static Map<String, Integer> toMap(PoolStats poolStats) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("leased", poolStats.getLeased());
+        map.put("available", poolStats.getAvailable());
+        map.put("pending", poolStats.getPending());
+        map.put("max", poolStats.getMax());
+        return map;
     }
 }
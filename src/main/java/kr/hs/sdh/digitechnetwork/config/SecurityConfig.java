@@ -52,6 +52,7 @@ public class SecurityConfig {
                 // 기자재 조회는 인증된 사용자만 접근 가능
                 .requestMatchers("/api/v1/equipment").permitAll()
                 .requestMatchers("/api/v1/equipment/{id}").permitAll()
+                .requestMatchers("/api/v1/equipment/identifier/{identifier}").permitAll()
                 .requestMatchers("/api/v1/equipment/public").permitAll()
                 .requestMatchers("/api/v1/equipment/available").permitAll()
                 .requestMatchers("/api/v1/equipment/status/{status}").permitAll()
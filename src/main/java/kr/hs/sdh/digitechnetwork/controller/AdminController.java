@@ -1,20 +1,53 @@
 package kr.hs.sdh.digitechnetwork.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.sdh.digitechnetwork.auth.RevokedTokenIndex;
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
+import kr.hs.sdh.digitechnetwork.config.RestTemplateConfig;
+import kr.hs.sdh.digitechnetwork.dto.CursorPageResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateResultDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentPageRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentImportSummaryDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
-import kr.hs.sdh.digitechnetwork.entity.Equipment;
 import kr.hs.sdh.digitechnetwork.entity.Student;
 import kr.hs.sdh.digitechnetwork.entity.Teacher;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentImportFormat;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
 import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
+import kr.hs.sdh.digitechnetwork.service.EquipmentImportService;
+import kr.hs.sdh.digitechnetwork.service.EquipmentReadCache;
+import kr.hs.sdh.digitechnetwork.service.EquipmentSearchIndex;
 import kr.hs.sdh.digitechnetwork.service.EquipmentService;
+import kr.hs.sdh.digitechnetwork.service.EquipmentStatusCounters;
+import kr.hs.sdh.digitechnetwork.service.EquipmentWriteRetry;
+import kr.hs.sdh.digitechnetwork.service.JwtService;
+import kr.hs.sdh.digitechnetwork.service.OverdueRentalMonitor;
+import kr.hs.sdh.digitechnetwork.service.ReservationIndex;
 import kr.hs.sdh.digitechnetwork.service.StudentService;
 import kr.hs.sdh.digitechnetwork.service.TeacherService;
+import kr.hs.sdh.digitechnetwork.utility.Bulkhead;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +70,19 @@ public class AdminController {
     private final EquipmentService equipmentService;
     private final StudentService studentService;
     private final TeacherService teacherService;
+    private final UserStatusCache userStatusCache;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final EquipmentSearchIndex equipmentSearchIndex;
+    private final EquipmentStatusCounters equipmentStatusCounters;
+    private final EquipmentReadCache equipmentReadCache;
+    private final EquipmentWriteRetry equipmentWriteRetry;
+    private final ReservationIndex reservationIndex;
+    private final OverdueRentalMonitor overdueRentalMonitor;
+    private final EquipmentImportService equipmentImportService;
+    private final ObjectMapper objectMapper;
+    private final JwtService jwtService;
+    private final PoolingHttpClientConnectionManager httpConnectionManager;
+    private final Bulkhead googleOAuthBulkhead;
 
     /**
      * 시스템 대시보드 통계 조회
@@ -91,13 +137,76 @@ public class AdminController {
      * 특정 상태의 기자재들을 관리자가 조회
      * 
      * @param status 조회할 기자재 상태
-     * @return 해당 상태의 기자재 목록
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 해당 상태의 기자재 페이지
      */
     @GetMapping("/equipment/status/{status}")
-    public ResponseEntity<List<Equipment>> getEquipmentsByStatus(@PathVariable EquipmentStatus status) {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getEquipmentsByStatus(@PathVariable EquipmentStatus status,
+                                                                                        @Valid @ModelAttribute EquipmentPageRequestDto pageRequest) {
         log.info("관리자 기자재 상태별 조회 요청: 상태={}", status);
-        List<Equipment> equipments = equipmentService.getEquipmentsByStatus(status);
-        return ResponseEntity.ok(equipments);
+        return ResponseEntity.ok(equipmentService.getEquipmentPage(EquipmentSearchCondition.ofStatus(status), pageRequest));
+    }
+
+    /**
+     * 기자재 상태 일괄 변경
+     * ID 목록 또는 필터(타입, 현재 상태)에 해당하는 기자재를 한 트랜잭션에서 한 번에 변경
+     * 
+     * @param request 대상과 변경할 상태
+     * @return 변경된 기자재 ID 목록
+     */
+    @PatchMapping("/equipment/status")
+    public ResponseEntity<EquipmentBulkUpdateResultDto> changeEquipmentStatuses(@Valid @RequestBody EquipmentBulkUpdateRequestDto request) {
+        log.info("관리자 기자재 상태 일괄 변경 요청: 상태={}", request.getStatus());
+        return ResponseEntity.ok(equipmentService.changeEquipmentStatuses(request));
+    }
+
+    /**
+     * 기자재 공개/비공개 일괄 설정
+     * ID 목록 또는 필터(타입, 현재 상태)에 해당하는 기자재를 한 트랜잭션에서 한 번에 변경
+     * 
+     * @param request 대상과 공개 여부
+     * @return 변경된 기자재 ID 목록
+     */
+    @PatchMapping("/equipment/publicity")
+    public ResponseEntity<EquipmentBulkUpdateResultDto> setEquipmentPublicities(@Valid @RequestBody EquipmentBulkUpdateRequestDto request) {
+        log.info("관리자 기자재 공개 설정 일괄 변경 요청: 공개여부={}", request.getIsPublic());
+        return ResponseEntity.ok(equipmentService.setEquipmentPublicities(request));
+    }
+
+    /**
+     * 기자재 일괄 등록
+     * CSV(첫 줄 헤더) 또는 NDJSON 요청 본문을 스트리밍으로 읽어 등록하고,
+     * 행별 결과를 처리되는 대로 NDJSON 으로 내려준 뒤 마지막 줄에 요약을 붙임
+     * 
+     * @param request 요청 (Content-Type: text/csv 또는 application/x-ndjson)
+     * @param response 응답 (application/x-ndjson)
+     * @throws IOException 요청 본문을 읽거나 응답을 쓸 수 없는 경우
+     */
+    @PostMapping(value = "/equipment/import", consumes = {"text/csv", "application/x-ndjson"})
+    public void importEquipments(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        EquipmentImportFormat format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(EquipmentImportFormat.NDJSON.getMediaType()))
+                ? EquipmentImportFormat.NDJSON
+                : EquipmentImportFormat.CSV;
+        log.info("관리자 기자재 일괄 등록 요청: 형식={}", format);
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(EquipmentImportFormat.NDJSON.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter writer = response.getWriter();
+        
+        Map<String, Object> last = new HashMap<>();
+        try (Reader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            EquipmentImportSummaryDto summary = equipmentImportService.importEquipments(reader, format,
+                    result -> writeLine(writer, result));
+            last.put("summary", summary);
+        } catch (IOException | RuntimeException e) {
+            // 이미 결과 일부를 보냈으므로 상태 코드 대신 마지막 줄로 알림 (그 전까지 등록된 행은 유지됨)
+            log.warn("기자재 일괄 등록 중단: {}", e.getMessage());
+            last.put("error", e.getMessage());
+        }
+        writeLine(writer, last);
+        writer.flush();
     }
 
     /**
@@ -148,11 +257,11 @@ public class AdminController {
         
         try {
             if (userType == UserType.STUDENT) {
-                // studentService.updateUserStatus(userId, isEnabled);
+                studentService.updateUserStatus(userId, isEnabled);
                 success = true;
                 message = "학생 상태가 성공적으로 변경되었습니다.";
             } else if (userType == UserType.TEACHER) {
-                // teacherService.updateUserStatus(userId, isEnabled);
+                teacherService.updateUserStatus(userId, isEnabled);
                 success = true;
                 message = "교사 상태가 성공적으로 변경되었습니다.";
             }
@@ -194,6 +303,33 @@ public class AdminController {
         return ResponseEntity.ok(health);
     }
 
+    /**
+     * 시스템 내부 지표 조회
+     * 인메모리 캐시 적중률 등 성능 관련 지표를 확인
+     * 
+     * @return 시스템 지표
+     */
+    @GetMapping("/system/metrics")
+    public ResponseEntity<Map<String, Object>> getSystemMetrics() {
+        log.info("관리자 시스템 지표 조회 요청");
+        
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("userStatusCache", userStatusCache.getStats());
+        metrics.put("revokedTokenIndex", revokedTokenIndex.getStats());
+        metrics.put("equipmentSearchIndex", equipmentSearchIndex.getStats());
+        metrics.put("equipmentStatusCounters", equipmentStatusCounters.getStats());
+        metrics.put("equipmentReadCache", equipmentReadCache.getStats());
+        metrics.put("equipmentWriteRetry", equipmentWriteRetry.getStats());
+        metrics.put("reservationIndex", reservationIndex.getStats());
+        metrics.put("overdueRentalMonitor", overdueRentalMonitor.getStats());
+        metrics.put("httpClientPool", RestTemplateConfig.poolStats(httpConnectionManager));
+        metrics.put("googleOAuthBulkhead", googleOAuthBulkhead.stats());
+        jwtService.getVerifiedTokenCacheStats()
+                .ifPresent(stats -> metrics.put("verifiedTokenCache", stats));
+        
+        return ResponseEntity.ok(metrics);
+    }
+
     /**
      * 관리자 권한 확인
      * 현재 요청한 사용자가 관리자 권한을 가지고 있는지 확인
@@ -212,4 +348,13 @@ public class AdminController {
         
         return ResponseEntity.ok(response);
     }
+
+    private void writeLine(PrintWriter writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        writer.write('\n');
+    }
 }
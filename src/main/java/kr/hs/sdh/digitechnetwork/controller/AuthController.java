@@ -1,14 +1,19 @@
 package kr.hs.sdh.digitechnetwork.controller;
 
+import kr.hs.sdh.digitechnetwork.auth.JwtKeyRing;
 import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.GoogleOAuthRequestDto;
 import kr.hs.sdh.digitechnetwork.service.GoogleOAuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -17,6 +22,7 @@ import java.util.Map;
 public class AuthController {
     
     private final GoogleOAuthService googleOAuthService;
+    private final JwtKeyRing jwtKeyRing;
     
     /**
      * Google OAuth 로그인 URL 생성
@@ -29,21 +35,21 @@ public class AuthController {
     
     /**
      * Google OAuth 콜백 처리
+     * 원격 호출이 끝날 때까지 서블릿 스레드를 반환하도록 비동기로 응답
      */
     @PostMapping("/google/callback")
-    public ResponseEntity<AuthResponseDto> googleOAuthCallback(@RequestBody GoogleOAuthRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> googleOAuthCallback(@RequestBody GoogleOAuthRequestDto requestDto) {
         log.info("Google OAuth callback received with code: {}", requestDto.getCode());
         
-        AuthResponseDto authResponse = googleOAuthService.authenticate(requestDto);
-        
-        return ResponseEntity.ok(authResponse);
+        return googleOAuthService.authenticateAsync(requestDto)
+                .thenApply(ResponseEntity::ok);
     }
     
     /**
      * Google OAuth 콜백 처리 (GET 방식 - 브라우저 리다이렉트용)
      */
     @GetMapping("/google/callback")
-    public ResponseEntity<AuthResponseDto> googleOAuthCallbackGet(
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> googleOAuthCallbackGet(
             @RequestParam("code") String code,
             @RequestParam(value = "state", required = false) String state) {
         
@@ -54,8 +60,19 @@ public class AuthController {
                 .state(state)
                 .build();
         
-        AuthResponseDto authResponse = googleOAuthService.authenticate(requestDto);
-        
-        return ResponseEntity.ok(authResponse);
+        return googleOAuthService.authenticateAsync(requestDto)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * JWT 검증용 공개 키 목록 (JWKS)
+     * 다른 서비스가 토큰을 로컬에서 검증할 수 있도록 공개하며, 다음 키는 활성화 전에 미리 포함됨
+     * HS256 호환 모드에서는 빈 목록을 반환
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtKeyRing.getJwksMaxAgeSeconds(), TimeUnit.SECONDS).cachePublic())
+                .body(Map.of("keys", jwtKeyRing.getPublicJwks()));
     }
 }
@@ -1,7 +1,9 @@
 package kr.hs.sdh.digitechnetwork.controller;
 
+import kr.hs.sdh.digitechnetwork.dto.CursorPageResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentCreateRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentPageRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentUpdateRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentVersionHistoryDto;
@@ -9,19 +11,26 @@ import kr.hs.sdh.digitechnetwork.entity.Equipment;
 import kr.hs.sdh.digitechnetwork.entity.EquipmentType;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
 import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
 import kr.hs.sdh.digitechnetwork.repository.EquipmentTypeRepository;
+import kr.hs.sdh.digitechnetwork.service.EquipmentCollectionVersion;
 import kr.hs.sdh.digitechnetwork.service.EquipmentService;
+import kr.hs.sdh.digitechnetwork.service.EquipmentWriteRetry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Equipment REST API 컨트롤러
@@ -40,16 +49,18 @@ public class EquipmentController {
     
     private final EquipmentService equipmentService;
     private final EquipmentTypeRepository equipmentTypeRepository;
+    private final EquipmentCollectionVersion equipmentCollectionVersion;
+    private final EquipmentWriteRetry equipmentWriteRetry;
 
     /**
-     * 모든 기자재 목록 조회
-     * @return 기자재 정보 목록
+     * 모든 기자재 목록 조회 (커서 페이지)
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 기자재 정보 페이지
      */
     @GetMapping
-    public ResponseEntity<List<EquipmentInfoDto>> getEquipmentList() {
-        log.info("기자재 목록 조회 요청");
-        List<EquipmentInfoDto> equipmentList = equipmentService.getAllEquipments();
-        return ResponseEntity.ok(equipmentList);
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getEquipmentList(@Valid @ModelAttribute EquipmentPageRequestDto pageRequest, WebRequest request) {
+        log.info("기자재 목록 조회 요청: size={}, sort={}", pageRequest.getSize(), pageRequest.getSort());
+        return conditionalCollection(request, () -> equipmentService.getEquipmentPage(EquipmentSearchCondition.all(), pageRequest));
     }
 
     /**
@@ -58,19 +69,28 @@ public class EquipmentController {
      * @return 기자재 정보
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EquipmentInfoDto> getEquipmentById(@PathVariable Long id) {
+    public ResponseEntity<EquipmentInfoDto> getEquipmentById(@PathVariable Long id, WebRequest request) {
         log.info("기자재 조회 요청: ID={}", id);
         
-        Optional<Equipment> equipmentOpt = equipmentService.getEquipmentById(id);
+        EquipmentInfoDto equipmentInfoDto = equipmentService.getEquipmentInfo(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Equipment", id));
         
-        if (equipmentOpt.isEmpty()) {
-            throw new ResourceNotFoundException("Equipment", id);
-        }
+        return conditionalDetail(request, equipmentInfoDto);
+    }
+
+    /**
+     * 식별자로 기자재 조회 (QR 스캔)
+     * @param identifier 기자재 식별자
+     * @return 기자재 정보
+     */
+    @GetMapping("/identifier/{identifier}")
+    public ResponseEntity<EquipmentInfoDto> getEquipmentByIdentifier(@PathVariable String identifier, WebRequest request) {
+        log.info("기자재 조회 요청: 식별자={}", identifier);
         
-        Equipment equipment = equipmentOpt.get();
-        EquipmentInfoDto equipmentInfoDto = convertToEquipmentInfoDto(equipment);
+        EquipmentInfoDto equipmentInfoDto = equipmentService.getEquipmentInfoByIdentifier(identifier)
+                .orElseThrow(() -> new ResourceNotFoundException("Equipment", identifier));
         
-        return ResponseEntity.ok(equipmentInfoDto);
+        return conditionalDetail(request, equipmentInfoDto);
     }
 
     /**
@@ -106,6 +126,7 @@ public class EquipmentController {
 
     /**
      * 기자재 정보 수정 (관리자만)
+     * 요청에 version 이 있으면 현재 버전과 다를 때, 수정 중 다른 요청이 먼저 변경했을 때 409 (재시도하지 않음)
      * @param id 기자재 ID
      * @param requestDto 수정할 기자재 정보
      * @return 수정된 기자재 정보
@@ -128,16 +149,17 @@ public class EquipmentController {
                 .equipmentType(equipmentType)
                 .status(requestDto.getStatus())
                 .isPublic(requestDto.getIsPublic())
+                .version(requestDto.getVersion())
                 .build();
         
-        Equipment updatedEquipment = equipmentService.updateEquipment(id, equipment);
+        Equipment updatedEquipment = equipmentWriteRetry.once(id, () -> equipmentService.updateEquipment(id, equipment));
         EquipmentInfoDto equipmentInfoDto = convertToEquipmentInfoDto(updatedEquipment);
         
         return ResponseEntity.ok(equipmentInfoDto);
     }
 
     /**
-     * 기자재 상태 변경 (관리자만)
+     * 기자재 상태 변경 (관리자만, 동시 수정 충돌 시 재시도)
      * @param id 기자재 ID
      * @param status 변경할 상태
      * @return 상태가 변경된 기자재 정보
@@ -147,14 +169,14 @@ public class EquipmentController {
     public ResponseEntity<EquipmentInfoDto> changeEquipmentStatus(@PathVariable Long id, @RequestParam EquipmentStatus status) {
         log.info("기자재 상태 변경 요청 (관리자): ID={}, 상태={}", id, status);
         
-        Equipment equipment = equipmentService.changeEquipmentStatus(id, status);
+        Equipment equipment = equipmentWriteRetry.idempotent(id, () -> equipmentService.changeEquipmentStatus(id, status));
         EquipmentInfoDto equipmentInfoDto = convertToEquipmentInfoDto(equipment);
         
         return ResponseEntity.ok(equipmentInfoDto);
     }
 
     /**
-     * 기자재 공개/비공개 설정 (관리자만)
+     * 기자재 공개/비공개 설정 (관리자만, 동시 수정 충돌 시 재시도)
      * @param id 기자재 ID
      * @param isPublic 공개 여부
      * @return 설정이 변경된 기자재 정보
@@ -164,14 +186,14 @@ public class EquipmentController {
     public ResponseEntity<EquipmentInfoDto> setEquipmentPublicity(@PathVariable Long id, @RequestParam Boolean isPublic) {
         log.info("기자재 공개 설정 변경 요청 (관리자): ID={}, 공개여부={}", id, isPublic);
         
-        Equipment equipment = equipmentService.setEquipmentPublicity(id, isPublic);
+        Equipment equipment = equipmentWriteRetry.idempotent(id, () -> equipmentService.setEquipmentPublicity(id, isPublic));
         EquipmentInfoDto equipmentInfoDto = convertToEquipmentInfoDto(equipment);
         
         return ResponseEntity.ok(equipmentInfoDto);
     }
 
     /**
-     * 기자재 삭제 (관리자만)
+     * 기자재 삭제 (관리자만, 동시 수정 충돌 시 재시도)
      * @param id 기자재 ID
      * @return 삭제 완료 응답
      */
@@ -180,67 +202,76 @@ public class EquipmentController {
     public ResponseEntity<Void> deleteEquipment(@PathVariable Long id) {
         log.info("기자재 삭제 요청 (관리자): ID={}", id);
         
-        equipmentService.deleteEquipment(id);
+        equipmentWriteRetry.idempotent(id, () -> {
+            equipmentService.deleteEquipment(id);
+            return null;
+        });
         
         return ResponseEntity.noContent().build();
     }
 
     /**
-     * 공개된 기자재 목록 조회
-     * @return 공개된 기자재 목록
+     * 공개된 기자재 목록 조회 (커서 페이지)
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 공개된 기자재 페이지
      */
     @GetMapping("/public")
-    public ResponseEntity<List<Equipment>> getPublicEquipments() {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getPublicEquipments(@Valid @ModelAttribute EquipmentPageRequestDto pageRequest, WebRequest request) {
         log.info("공개 기자재 목록 조회 요청");
-        List<Equipment> publicEquipments = equipmentService.getPublicEquipments();
-        return ResponseEntity.ok(publicEquipments);
+        return conditionalCollection(request, () -> equipmentService.getEquipmentPage(EquipmentSearchCondition.publicOnly(), pageRequest));
     }
 
     /**
-     * 사용 가능한 기자재 목록 조회
-     * @return 사용 가능한 기자재 목록
+     * 사용 가능한 기자재 목록 조회 (커서 페이지)
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 사용 가능한 기자재 페이지
      */
     @GetMapping("/available")
-    public ResponseEntity<List<Equipment>> getAvailableEquipments() {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getAvailableEquipments(@Valid @ModelAttribute EquipmentPageRequestDto pageRequest, WebRequest request) {
         log.info("사용 가능한 기자재 목록 조회 요청");
-        List<Equipment> availableEquipments = equipmentService.getAvailableEquipments();
-        return ResponseEntity.ok(availableEquipments);
+        return conditionalCollection(request, () -> equipmentService.getEquipmentPage(EquipmentSearchCondition.available(), pageRequest));
     }
 
     /**
-     * 특정 상태의 기자재 목록 조회
+     * 특정 상태의 기자재 목록 조회 (커서 페이지)
      * @param status 기자재 상태
-     * @return 해당 상태의 기자재 목록
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 해당 상태의 기자재 페이지
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Equipment>> getEquipmentsByStatus(@PathVariable EquipmentStatus status) {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getEquipmentsByStatus(@PathVariable EquipmentStatus status,
+                                                                                        @Valid @ModelAttribute EquipmentPageRequestDto pageRequest,
+                                                                                        WebRequest request) {
         log.info("상태별 기자재 목록 조회 요청: 상태={}", status);
-        List<Equipment> equipments = equipmentService.getEquipmentsByStatus(status);
-        return ResponseEntity.ok(equipments);
+        return conditionalCollection(request, () -> equipmentService.getEquipmentPage(EquipmentSearchCondition.ofStatus(status), pageRequest));
     }
 
     /**
-     * 특정 타입의 기자재 목록 조회
+     * 특정 타입의 기자재 목록 조회 (커서 페이지)
      * @param typeId 기자재 타입 ID
-     * @return 해당 타입의 기자재 목록
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 해당 타입의 기자재 페이지
      */
     @GetMapping("/type/{typeId}")
-    public ResponseEntity<List<Equipment>> getEquipmentsByType(@PathVariable Long typeId) {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> getEquipmentsByType(@PathVariable Long typeId,
+                                                                                      @Valid @ModelAttribute EquipmentPageRequestDto pageRequest,
+                                                                                      WebRequest request) {
         log.info("타입별 기자재 목록 조회 요청: 타입ID={}", typeId);
-        List<Equipment> equipments = equipmentService.getEquipmentsByType(typeId);
-        return ResponseEntity.ok(equipments);
+        return conditionalCollection(request, () -> equipmentService.getEquipmentPage(EquipmentSearchCondition.ofType(typeId), pageRequest));
     }
 
     /**
-     * 기자재 검색
+     * 기자재 검색 (관련도 순 커서 페이지)
      * @param keyword 검색 키워드
-     * @return 검색 결과
+     * @param pageRequest 커서, 크기, 전체 개수 포함 여부
+     * @return 검색 결과 페이지
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Equipment>> searchEquipments(@RequestParam String keyword) {
+    public ResponseEntity<CursorPageResponseDto<EquipmentInfoDto>> searchEquipments(@RequestParam String keyword,
+                                                                                   @Valid @ModelAttribute EquipmentPageRequestDto pageRequest,
+                                                                                   WebRequest request) {
         log.info("기자재 검색 요청: 키워드={}", keyword);
-        List<Equipment> searchResults = equipmentService.searchEquipments(keyword);
-        return ResponseEntity.ok(searchResults);
+        return conditionalCollection(request, () -> equipmentService.searchEquipments(keyword, pageRequest));
     }
 
     /**
@@ -277,6 +308,74 @@ public class EquipmentController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * 목록 조건부 응답
+     * 목록 버전만 비교하여 바뀌지 않았으면 조회/직렬화 없이 304 반환
+     * @param request 요청 (If-None-Match, If-Modified-Since)
+     * @param page 목록 조회
+     * @return 목록 또는 304
+     */
+    private <T> ResponseEntity<T> conditionalCollection(WebRequest request, Supplier<T> page) {
+        EquipmentCollectionVersion.Snapshot version = equipmentCollectionVersion.current();
+        String eTag = equipmentCollectionVersion.eTag(version);
+        if (request.checkNotModified(eTag, version.lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(version.lastModifiedMillis())
+                .body(page.get());
+    }
+
+    /**
+     * 상세 조건부 응답
+     * 응답에 타입 이름이 포함되므로 ETag 는 기자재 ID, 기자재 버전, 타입의 마지막 수정 시각으로 만듦
+     * (기자재가 바뀌지 않아도 타입 이름이 바뀌면 다른 ETag)
+     * @param request 요청 (If-None-Match, If-Modified-Since)
+     * @param equipmentInfoDto 기자재 정보 (캐시에서 조회)
+     * @return 기자재 정보 또는 304
+     */
+    private ResponseEntity<EquipmentInfoDto> conditionalDetail(WebRequest request, EquipmentInfoDto equipmentInfoDto) {
+        LocalDateTime typeTime = equipmentInfoDto.getTypeLastUpdateTime();
+        LocalDateTime equipmentTime = lastModifiedTime(equipmentInfoDto.getLastUpdateTime(), equipmentInfoDto.getCreatedAt());
+        long typeLastModified = epochMillis(typeTime);
+        String eTag = "\"" + equipmentInfoDto.getEquipmentId() + "-" + equipmentInfoDto.getVersion() + "-" + typeLastModified + "\"";
+
+        // 시각을 알 수 없으면 Last-Modified 없이 ETag 로만 재검증 (1970 년 시각으로 If-Modified-Since 가 맞아떨어지지 않도록)
+        LocalDateTime latest = equipmentTime == null || (typeTime != null && typeTime.isAfter(equipmentTime)) ? typeTime : equipmentTime;
+        if (latest == null) {
+            if (request.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(eTag)
+                    .body(equipmentInfoDto);
+        }
+
+        long lastModified = epochMillis(latest);
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(equipmentInfoDto);
+    }
+
+    /**
+     * 마지막 수정 시각 (수정 이력이 없으면 생성 시각)
+     */
+    private static LocalDateTime lastModifiedTime(LocalDateTime lastUpdateTime, LocalDateTime createdAt) {
+        return lastUpdateTime != null ? lastUpdateTime : createdAt;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
     /**
      * Equipment 엔티티를 EquipmentInfoDto로 변환
      * @param equipment Equipment 엔티티
@@ -293,6 +392,10 @@ public class EquipmentController {
                 .description(equipment.getDescription())
                 .status(equipment.getStatus().getMessage())
                 .identifier(equipment.getIdentifier())
+                .version(equipment.getVersion())
+                .typeLastUpdateTime(equipment.getEquipmentType() != null
+                        ? lastModifiedTime(equipment.getEquipmentType().getLastUpdateTime(), equipment.getEquipmentType().getCreatedAt())
+                        : null)
                 .build();
     }
 }
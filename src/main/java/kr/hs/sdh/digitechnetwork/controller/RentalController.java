@@ -0,0 +1,126 @@
+package kr.hs.sdh.digitechnetwork.controller;
+
+import kr.hs.sdh.digitechnetwork.auth.AuthenticatedUser;
+import kr.hs.sdh.digitechnetwork.auth.CurrentUser;
+import kr.hs.sdh.digitechnetwork.dto.RentalCartCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalExtendRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalInfoDto;
+import kr.hs.sdh.digitechnetwork.service.RentalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * 기자재 대여 REST API 컨트롤러
+ * 대여, 반납, 기한 연장, 반납 확인, 대여 조회 요청을 처리
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/rentals")
+@RequiredArgsConstructor
+public class RentalController {
+
+    private final RentalService rentalService;
+
+    /**
+     * 기자재 대여 (학생, 교사)
+     * @param user 현재 사용자
+     * @param request 대여할 기자재와 반납 예정 시각
+     * @return 대여 정보
+     */
+    @PostMapping
+    public ResponseEntity<RentalInfoDto> checkout(@CurrentUser AuthenticatedUser user,
+                                                  @Valid @RequestBody RentalCheckoutRequestDto request) {
+        log.info("기자재 대여 요청: 기자재 ID={}, 사용자={}:{}", request.getEquipmentId(), user.userType(), user.userId());
+        RentalInfoDto rental = rentalService.checkout(user.userType(), user.userId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(rental);
+    }
+
+    /**
+     * 여러 기자재 한 번에 대여 (학생, 교사)
+     * 전부 대여하거나, 하나라도 대여할 수 없으면 아무것도 대여하지 않고 기자재별 사유와 함께 409
+     * @param user 현재 사용자
+     * @param request 대여할 기자재 목록과 반납 예정 시각
+     * @return 대여 정보 목록
+     */
+    @PostMapping("/cart")
+    public ResponseEntity<List<RentalInfoDto>> checkoutCart(@CurrentUser AuthenticatedUser user,
+                                                            @Valid @RequestBody RentalCartCheckoutRequestDto request) {
+        log.info("기자재 일괄 대여 요청: {}건, 사용자={}:{}", request.getEquipmentIds().size(), user.userType(), user.userId());
+        List<RentalInfoDto> rentals = rentalService.checkoutCart(user.userType(), user.userId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(rentals);
+    }
+
+    /**
+     * 내 대여 목록 조회 (최신순)
+     * @param user 현재 사용자
+     * @return 대여 정보 목록
+     */
+    @GetMapping("/me")
+    public ResponseEntity<List<RentalInfoDto>> getMyRentals(@CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(rentalService.getRentals(user.userType(), user.userId()));
+    }
+
+    /**
+     * 대여 정보 조회 (대여자 본인 또는 관리자)
+     * @param user 현재 사용자
+     * @param id 대여 이력 ID
+     * @return 대여 정보
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<RentalInfoDto> getRental(@CurrentUser AuthenticatedUser user, @PathVariable Long id) {
+        return ResponseEntity.ok(rentalService.getRental(id, user.userType(), user.userId()));
+    }
+
+    /**
+     * 기자재 반납 (대여자 본인 또는 관리자)
+     * 기자재는 반납 확인 전까지 CHECK 상태가 됨
+     * @param user 현재 사용자
+     * @param id 대여 이력 ID
+     * @return 대여 정보
+     */
+    @PostMapping("/{id}/return")
+    public ResponseEntity<RentalInfoDto> returnRental(@CurrentUser AuthenticatedUser user, @PathVariable Long id) {
+        log.info("기자재 반납 요청: 대여 ID={}, 사용자={}:{}", id, user.userType(), user.userId());
+        return ResponseEntity.ok(rentalService.returnRental(id, user.userType(), user.userId()));
+    }
+
+    /**
+     * 반납 기한 연장 (대여자 본인 또는 관리자, 연체 전인 대여만)
+     * @param user 현재 사용자
+     * @param id 대여 이력 ID
+     * @param request 새 반납 예정 시각
+     * @return 대여 정보
+     */
+    @PostMapping("/{id}/extend")
+    public ResponseEntity<RentalInfoDto> extend(@CurrentUser AuthenticatedUser user, @PathVariable Long id,
+                                                @Valid @RequestBody RentalExtendRequestDto request) {
+        log.info("대여 기한 연장 요청: 대여 ID={}, 새 기한={}, 사용자={}:{}", id, request.getDueAt(), user.userType(), user.userId());
+        return ResponseEntity.ok(rentalService.extend(id, user.userType(), user.userId(), request));
+    }
+
+    /**
+     * 반납 확인 (관리자만)
+     * @param id 대여 이력 ID
+     * @param broken 고장 여부 (true 면 BROKEN, 아니면 다시 대여 가능)
+     * @return 대여 정보
+     */
+    @PostMapping("/{id}/inspection")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RentalInfoDto> completeInspection(@PathVariable Long id,
+                                                            @RequestParam(defaultValue = "false") boolean broken) {
+        log.info("반납 확인 요청 (관리자): 대여 ID={}, 고장={}", id, broken);
+        return ResponseEntity.ok(rentalService.completeInspection(id, broken));
+    }
+}
@@ -0,0 +1,103 @@
+package kr.hs.sdh.digitechnetwork.controller;
+
+import kr.hs.sdh.digitechnetwork.auth.AuthenticatedUser;
+import kr.hs.sdh.digitechnetwork.auth.CurrentUser;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationCreateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservedSlotDto;
+import kr.hs.sdh.digitechnetwork.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기자재 예약 REST API 컨트롤러
+ * 예약, 예약 취소, 예약 조회, 빈 기자재 조회 요청을 처리
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    /**
+     * 기자재 예약 (학생, 교사)
+     * @param user 현재 사용자
+     * @param request 예약할 기자재와 시간 구간
+     * @return 예약 정보
+     */
+    @PostMapping
+    public ResponseEntity<ReservationInfoDto> reserve(@CurrentUser AuthenticatedUser user,
+                                                      @Valid @RequestBody ReservationCreateRequestDto request) {
+        log.info("기자재 예약 요청: 기자재 ID={}, {} ~ {}, 사용자={}:{}", request.getEquipmentId(),
+                request.getStartAt(), request.getEndAt(), user.userType(), user.userId());
+        ReservationInfoDto reservation = reservationService.reserve(user.userType(), user.userId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    /**
+     * 내 예약 목록 조회 (시작 시각 최신순)
+     * @param user 현재 사용자
+     * @return 예약 정보 목록
+     */
+    @GetMapping("/me")
+    public ResponseEntity<List<ReservationInfoDto>> getMyReservations(@CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(reservationService.getReservations(user.userType(), user.userId()));
+    }
+
+    /**
+     * 예약 취소 (예약자 본인 또는 관리자)
+     * @param user 현재 사용자
+     * @param id 예약 ID
+     * @return 예약 정보
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ReservationInfoDto> cancel(@CurrentUser AuthenticatedUser user, @PathVariable Long id) {
+        log.info("기자재 예약 취소 요청: 예약 ID={}, 사용자={}:{}", id, user.userType(), user.userId());
+        return ResponseEntity.ok(reservationService.cancel(id, user.userType(), user.userId()));
+    }
+
+    /**
+     * 기자재의 예약된 시간 구간 조회
+     * @param equipmentId 기자재 ID
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @return 예약된 시간 구간 목록
+     */
+    @GetMapping("/equipment/{equipmentId}")
+    public ResponseEntity<List<ReservedSlotDto>> getSchedule(
+            @PathVariable Long equipmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(reservationService.getSchedule(equipmentId, from, to));
+    }
+
+    /**
+     * 타입별로 시간 구간에 예약할 수 있는 기자재 조회
+     * @param typeId 기자재 타입 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 예약할 수 있는 기자재 목록
+     */
+    @GetMapping("/available")
+    public ResponseEntity<List<EquipmentSummaryDto>> findAvailable(
+            @RequestParam Long typeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startAt,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endAt) {
+        return ResponseEntity.ok(reservationService.findAvailable(typeId, startAt, endAt));
+    }
+}
@@ -1,5 +1,7 @@
 package kr.hs.sdh.digitechnetwork.controller;
 
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.UserVerificationRequestDto;
@@ -50,6 +52,20 @@ public class UserVerificationController {
         }
     }
 
+    /**
+     * 사용자 일괄 검증
+     * 다른 내부 서비스가 여러 토큰을 한 번의 요청으로 검증할 때 사용
+     * @param requestDto 일괄 검증 요청 정보 (최대 {@value BatchUserVerificationRequestDto#MAX_TOKENS}개)
+     * @return 토큰별 검증 결과 (요청 순서 유지)
+     */
+    @PostMapping("/users")
+    public ResponseEntity<BatchUserVerificationResponseDto> verifyUsers(@Valid @RequestBody BatchUserVerificationRequestDto requestDto) {
+        log.info("사용자 일괄 검증 요청");
+        
+        BatchUserVerificationResponseDto response = userVerificationService.verifyUsers(requestDto);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 토큰 갱신
      * @param requestDto 토큰 갱신 요청 정보
@@ -69,6 +85,25 @@ public class UserVerificationController {
         }
     }
 
+    /**
+     * 로그아웃
+     * 리프레시 토큰과 Authorization 헤더의 액세스 토큰을 폐기
+     * @param requestDto 폐기할 리프레시 토큰
+     * @param authorization Authorization 헤더 (선택)
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody TokenRefreshRequestDto requestDto,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization) {
+        log.info("로그아웃 요청");
+        
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        userVerificationService.logout(requestDto, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 토큰 유효성 검증 (간단한 검증)
      * @param token JWT 토큰
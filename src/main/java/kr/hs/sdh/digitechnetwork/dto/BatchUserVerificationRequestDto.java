@@ -0,0 +1,34 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 사용자 일괄 검증 요청 DTO
+ * 
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUserVerificationRequestDto {
+    
+    /**
+     * 한 번에 검증할 수 있는 최대 토큰 수
+     */
+    public static final int MAX_TOKENS = 100;
+    
+    @NotEmpty(message = "검증할 액세스 토큰은 최소 1개 이상이어야 합니다.")
+    @Size(max = MAX_TOKENS, message = "한 번에 최대 " + MAX_TOKENS + "개의 토큰까지 검증할 수 있습니다.")
+    private List<@NotBlank(message = "액세스 토큰은 비어 있을 수 없습니다.") String> accessTokens;
+}
@@ -0,0 +1,27 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 검증 응답 DTO
+ * results 는 요청한 토큰과 같은 순서로 반환됩니다.
+ * 
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUserVerificationResponseDto {
+    
+    private List<UserVerificationResponseDto> results;
+    private int validCount;
+    private int invalidCount;
+}
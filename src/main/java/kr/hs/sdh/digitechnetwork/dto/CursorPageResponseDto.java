@@ -0,0 +1,35 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회
+ *
+ * @param <T> 항목 타입
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor; // 마지막 페이지면 null
+
+    private Long totalCount; // includeTotal=false 이면 null
+}
@@ -0,0 +1,51 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 기자재 일괄 변경 요청 DTO
+ * 대상은 ID 목록(ids) 또는 필터(typeId, currentStatus)로 지정하며, 둘 다 주면 모두 만족하는 기자재만 변경
+ * 변경 값은 상태 변경이면 status, 공개 설정이면 isPublic 을 사용
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentBulkUpdateRequestDto {
+
+    /**
+     * 한 번에 변경할 수 있는 최대 기자재 수
+     */
+    public static final int MAX_TARGETS = 1000;
+
+    @Size(max = MAX_TARGETS, message = "한 번에 최대 " + MAX_TARGETS + "개의 기자재까지 변경할 수 있습니다.")
+    private List<@NotNull(message = "기자재 ID 는 비어 있을 수 없습니다.") Long> ids;
+
+    private Long typeId;
+
+    private EquipmentStatus currentStatus;
+
+    private EquipmentStatus status;
+
+    private Boolean isPublic;
+
+    /**
+     * 대상이 지정되었는지 (전체 기자재를 실수로 바꾸지 않도록 ID 목록이나 필터 중 하나는 필수)
+     * @return 대상 지정 여부
+     */
+    public boolean hasTarget() {
+        return (ids != null && !ids.isEmpty()) || typeId != null || currentStatus != null;
+    }
+}
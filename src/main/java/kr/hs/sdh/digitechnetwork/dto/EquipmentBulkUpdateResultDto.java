@@ -0,0 +1,29 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기자재 일괄 변경 결과 DTO
+ * 대상 중 이미 요청한 값인 기자재는 변경하지 않으므로 matchedCount 보다 affectedIds 가 적을 수 있음
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentBulkUpdateResultDto {
+
+    private int matchedCount;
+
+    private int affectedCount;
+
+    private List<Long> affectedIds;
+}
@@ -0,0 +1,29 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import kr.hs.sdh.digitechnetwork.enums.EquipmentImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기자재 일괄 등록 행별 결과 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentImportResultDto {
+
+    private long line; // 입력 파일의 줄 번호
+
+    private String identifier;
+
+    private EquipmentImportStatus status;
+
+    private String message; // 등록된 경우 null
+}
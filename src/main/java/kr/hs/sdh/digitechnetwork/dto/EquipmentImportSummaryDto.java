@@ -0,0 +1,32 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기자재 일괄 등록 요약 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentImportSummaryDto {
+
+    private long totalCount;
+
+    private long createdCount;
+
+    private long duplicateCount;
+
+    private long invalidCount;
+
+    private long failedCount;
+
+    private long elapsedMillis;
+}
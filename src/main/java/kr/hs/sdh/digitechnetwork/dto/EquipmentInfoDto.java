@@ -1,5 +1,6 @@
 package kr.hs.sdh.digitechnetwork.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,4 +22,8 @@ public class EquipmentInfoDto {
     private String type;
     private LocalDateTime createdAt;
     private LocalDateTime lastUpdateTime;
+    private Long version;
+
+    @JsonIgnore
+    private LocalDateTime typeLastUpdateTime; // 응답에는 포함하지 않고 상세 ETag 계산에만 사용
 }
@@ -0,0 +1,40 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 기자재 목록 페이지 요청 DTO (쿼리 파라미터 바인딩)
+ * 예: ?size=50&sort=NAME&direction=DESC&includeTotal=false&cursor=...
+ *
+ * 커서는 발급될 때의 정렬 기준을 담고 있으므로, 다음 페이지를 요청할 때는 같은 sort/direction 을 사용해야 합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EquipmentPageRequestDto {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = MAX_SIZE, message = "페이지 크기는 100 이하여야 합니다.")
+    private int size = DEFAULT_SIZE;
+
+    private EquipmentSortKey sort = EquipmentSortKey.ID;
+
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    private boolean includeTotal = true;
+}
@@ -43,4 +43,23 @@ public class EquipmentStatisticsDto {
      * 공개된 기자재 수
      */
     private long publicCount;
+    
+    /**
+     * 반납 처리 중인 기자재 수
+     */
+    private long checkCount;
+    
+    /**
+     * 사용이 불가능한 기자재 수
+     */
+    private long unavailableCount;
+    
+    /**
+     * 수리 중인 기자재 수
+     */
+    private long fixCount;
+    
+    public EquipmentStatisticsDto(long totalCount, long availableCount, long rentedCount, long brokenCount, long publicCount) {
+        this(totalCount, availableCount, rentedCount, brokenCount, publicCount, 0, 0, 0);
+    }
 }
@@ -0,0 +1,38 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기자재 목록 조회용 읽기 모델
+ * 목록 쿼리가 엔티티 대신 필요한 컬럼만 (EquipmentType 이름 포함) 한 번에 select 하여 생성
+ *
+ * 생성자 인자 순서는 EquipmentRepositoryCustomImpl 의 select 순서와 같아야 합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EquipmentSummaryDto {
+    private Long id;
+    private String identifier;
+    private String name;
+    private String description;
+    private EquipmentStatus status;
+    private Boolean isPublic;
+    private String cautionMessage;
+    private String typeName; // 타입이 없으면 null
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUpdateTime;
+    private Long version;
+    private LocalDateTime typeLastUpdateTime; // 타입의 마지막 수정 시각 (수정 이력이 없으면 생성 시각, 타입이 없으면 null, 상세 ETag 에 사용)
+}
@@ -40,4 +40,6 @@ public class EquipmentUpdateRequestDto {
     
     @NotNull(message = "공개 여부는 필수입니다.")
     private Boolean isPublic;
+    
+    private Long version; // 조회했던 버전 (있으면 현재 버전과 다를 때 충돌로 거부)
 }
@@ -0,0 +1,37 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 기자재 한 번에 대여 요청 DTO (수업용 일괄 대여)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalCartCheckoutRequestDto {
+
+    /**
+     * 한 번에 대여할 수 있는 최대 기자재 수
+     */
+    public static final int MAX_ITEMS = 50;
+
+    @NotEmpty(message = "대여할 기자재는 최소 1개 이상이어야 합니다.")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 " + MAX_ITEMS + "개의 기자재까지 대여할 수 있습니다.")
+    private List<@NotNull(message = "기자재 ID 는 비어 있을 수 없습니다.") Long> equipmentIds;
+
+    private LocalDateTime dueAt; // 반납 예정 시각 (없으면 기본 대여 기간)
+}
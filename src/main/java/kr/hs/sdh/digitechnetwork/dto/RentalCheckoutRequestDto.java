@@ -0,0 +1,28 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 기자재 대여 요청 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalCheckoutRequestDto {
+
+    @NotNull(message = "기자재 ID 는 필수입니다.")
+    private Long equipmentId;
+
+    private LocalDateTime dueAt; // 반납 예정 시각 (없으면 기본 대여 기간)
+}
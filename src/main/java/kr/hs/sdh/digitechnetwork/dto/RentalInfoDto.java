@@ -0,0 +1,44 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 정보 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalInfoDto {
+
+    private Long rentalId;
+
+    private Long equipmentId;
+
+    private String equipmentIdentifier;
+
+    private String equipmentName;
+
+    private UserType renterType;
+
+    private Long renterId;
+
+    private RentStatus status;
+
+    private LocalDateTime rentedAt;
+
+    private LocalDateTime dueAt;
+
+    private LocalDateTime returnedAt;
+}
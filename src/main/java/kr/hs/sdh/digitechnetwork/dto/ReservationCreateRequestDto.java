@@ -0,0 +1,32 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 기자재 예약 요청 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationCreateRequestDto {
+
+    @NotNull(message = "기자재 ID 는 필수입니다.")
+    private Long equipmentId;
+
+    @NotNull(message = "시작 시각은 필수입니다.")
+    private LocalDateTime startAt;
+
+    @NotNull(message = "종료 시각은 필수입니다.")
+    private LocalDateTime endAt; // 이 시각은 포함하지 않음 (바로 이어서 다음 예약 가능)
+}
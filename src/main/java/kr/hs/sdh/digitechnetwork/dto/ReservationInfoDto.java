@@ -0,0 +1,42 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import kr.hs.sdh.digitechnetwork.enums.ReservationStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 정보 DTO
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationInfoDto {
+
+    private Long reservationId;
+
+    private Long equipmentId;
+
+    private String equipmentIdentifier;
+
+    private String equipmentName;
+
+    private UserType reserverType;
+
+    private Long reserverId;
+
+    private ReservationStatus status;
+
+    private LocalDateTime startAt;
+
+    private LocalDateTime endAt;
+}
@@ -0,0 +1,28 @@
+package kr.hs.sdh.digitechnetwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기자재의 예약된 시간 구간 DTO (예약자 정보 없이 시간만 공개)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservedSlotDto {
+
+    private Long reservationId;
+
+    private LocalDateTime startAt;
+
+    private LocalDateTime endAt;
+}
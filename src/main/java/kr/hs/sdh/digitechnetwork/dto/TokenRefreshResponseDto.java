@@ -19,6 +19,7 @@ import lombok.NoArgsConstructor;
 public class TokenRefreshResponseDto {
     
     private String accessToken;
+    private String refreshToken; // 교체된 새 리프레시 토큰 (이전 토큰은 폐기됨)
     private String tokenType;
     private Long expiresIn;
 }
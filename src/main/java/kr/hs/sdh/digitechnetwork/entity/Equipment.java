@@ -3,9 +3,11 @@ package kr.hs.sdh.digitechnetwork.entity;
 import jakarta.persistence.*;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "equipments")
+@NamedEntityGraph(name = "Equipment.withType", attributeNodes = @NamedAttributeNode("equipmentType"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,6 +41,11 @@ public class Equipment extends BaseEntity {
     @JoinColumn(name = "equipment_type_id")
     private EquipmentType equipmentType;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void setIdentifier(String identifier) {
         this.identifier = identifier;
     }
@@ -2,6 +2,7 @@ package kr.hs.sdh.digitechnetwork.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,11 @@ public class EquipmentType extends BaseEntity {
     @OneToMany(mappedBy = "equipmentType", fetch = FetchType.LAZY)
     private List<Equipment> equipmentList = new ArrayList<>();
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void setType(String type) {
         this.type = type;
     }
@@ -0,0 +1,32 @@
+package kr.hs.sdh.digitechnetwork.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jwt_signing_keys")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class JwtSigningKey extends BaseEntity {
+    @Id
+    @Column(name = "kid", length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] publicKey; // X.509 인코딩
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] encryptedPrivateKey; // PKCS#8 인코딩을 AES-GCM 으로 암호화
+
+    @Column(nullable = false)
+    private LocalDateTime activatesAt; // 이 시각부터 서명에 사용
+}
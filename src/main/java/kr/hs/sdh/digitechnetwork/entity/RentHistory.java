@@ -1,10 +1,18 @@
 package kr.hs.sdh.digitechnetwork.entity;
 
 import jakarta.persistence.*;
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "rent_histories")
+@Table(name = "rent_histories", indexes = {
+        @Index(name = "idx_rent_histories_equipment_status", columnList = "equipment_id, status"),
+        @Index(name = "idx_rent_histories_renter", columnList = "renterType, renterId"),
+        @Index(name = "idx_rent_histories_status_due_at", columnList = "status, dueAt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -14,4 +22,32 @@ public class RentHistory extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "rent_histories_id")
     private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "equipment_id", nullable = false)
+    private Equipment equipment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserType renterType; // STUDENT 또는 TEACHER
+
+    @Column(nullable = false)
+    private Long renterId; // 학생/교사 ID (renterType 에 따라)
+
+    @Column(nullable = false)
+    private LocalDateTime rentedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime dueAt; // 반납 예정 시각
+
+    @Column
+    private LocalDateTime returnedAt; // 반납(CHECK) 시각
+
+    public boolean isRentedBy(UserType userType, Long userId) {
+        return renterType == userType && renterId.equals(userId);
+    }
 }
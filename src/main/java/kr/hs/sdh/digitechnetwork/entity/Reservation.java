@@ -0,0 +1,50 @@
+package kr.hs.sdh.digitechnetwork.entity;
+
+import jakarta.persistence.*;
+import kr.hs.sdh.digitechnetwork.enums.ReservationStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_equipment_range", columnList = "equipment_id, status, startAt, endAt"),
+        @Index(name = "idx_reservations_reserver", columnList = "reserverType, reserverId"),
+        @Index(name = "idx_reservations_status_end_at", columnList = "status, endAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Reservation extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "equipment_id", nullable = false)
+    private Equipment equipment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserType reserverType; // STUDENT 또는 TEACHER
+
+    @Column(nullable = false)
+    private Long reserverId; // 학생/교사 ID (reserverType 에 따라)
+
+    @Column(nullable = false)
+    private LocalDateTime startAt; // 포함
+
+    @Column(nullable = false)
+    private LocalDateTime endAt; // 제외
+
+    public boolean isReservedBy(UserType userType, Long userId) {
+        return reserverType == userType && reserverId.equals(userId);
+    }
+}
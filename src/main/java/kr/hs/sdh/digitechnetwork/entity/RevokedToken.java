@@ -0,0 +1,42 @@
+package kr.hs.sdh.digitechnetwork.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revokedAt")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevokedToken implements Persistable<String> {
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt; // 토큰 만료 시각 (이후 삭제 가능)
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    /**
+     * 폐기 기록은 항상 새로 INSERT 하여, 같은 jti 의 중복 폐기(리프레시 토큰 재사용)를
+     * 기본 키 충돌로 감지
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -6,6 +6,10 @@ import lombok.*;
 
 @Entity
 @Table(name = "student_rent_histories")
+@NamedEntityGraph(name = "StudentRentHistory.withStudentAndRentHistory", attributeNodes = {
+        @NamedAttributeNode("student"),
+        @NamedAttributeNode("rentHistory")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -7,6 +7,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "teacher_rent_histories")
+@NamedEntityGraph(name = "TeacherRentHistory.withTeacherAndRentHistory", attributeNodes = {
+        @NamedAttributeNode("teacher"),
+        @NamedAttributeNode("rentHistory")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,24 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+/**
+ * 기자재 일괄 등록 입력 형식
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public enum EquipmentImportFormat {
+    CSV("text/csv", "첫 줄이 헤더인 CSV"),
+    NDJSON("application/x-ndjson", "한 줄에 JSON 객체 하나");
+
+    private final String mediaType;
+    private final String description;
+
+    EquipmentImportFormat(String mediaType, String description) {
+        this.mediaType = mediaType;
+        this.description = description;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+/**
+ * 기자재 일괄 등록 행 처리 결과
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public enum EquipmentImportStatus {
+    CREATED("등록됨"),
+    DUPLICATE("이미 존재하는 식별자"),
+    INVALID("잘못된 행"),
+    FAILED("저장 실패");
+
+    private final String message;
+
+    EquipmentImportStatus(String message) {
+        this.message = message;
+    }
+}
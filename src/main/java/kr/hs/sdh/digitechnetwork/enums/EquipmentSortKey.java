@@ -0,0 +1,25 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+/**
+ * 기자재 목록 정렬 기준
+ * 모든 정렬은 equipment_id 를 보조 키로 사용하여 순서가 항상 유일하게 정해짐
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public enum EquipmentSortKey {
+    ID("기자재 ID"),
+    IDENTIFIER("기자재 식별자"),
+    NAME("기자재 이름"),
+    CREATED_AT("등록 시각");
+
+    private final String description;
+
+    EquipmentSortKey(String description) {
+        this.description = description;
+    }
+}
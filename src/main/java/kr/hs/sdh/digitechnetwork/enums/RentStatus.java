@@ -0,0 +1,26 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+/**
+ * 대여 기록의 상태
+ * 기자재 상태와 함께 RENTED(RENT) → RETURNING(CHECK) → RETURNED(AVAILABLE/BROKEN) 순으로 바뀜
+ * 반납 기한이 지나도록 반납하지 않으면 RENTED → OVERDUE 가 되며, 연체 중에도 반납할 수 있음
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public enum RentStatus {
+    RENTED("대여 중"),
+    OVERDUE("연체 중"),
+    RETURNING("반납 확인 중"),
+    RETURNED("반납 완료");
+
+    private final String message;
+
+    RentStatus(String message) {
+        this.message = message;
+    }
+}
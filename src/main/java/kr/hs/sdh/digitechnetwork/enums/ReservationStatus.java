@@ -0,0 +1,23 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+/**
+ * 기자재 예약의 상태
+ * 예약된 구간만 다른 예약과 충돌하며, 취소된 예약은 기록으로만 남음
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public enum ReservationStatus {
+    RESERVED("예약됨"),
+    CANCELLED("예약 취소");
+
+    private final String message;
+
+    ReservationStatus(String message) {
+        this.message = message;
+    }
+}
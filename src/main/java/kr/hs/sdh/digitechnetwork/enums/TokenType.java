@@ -0,0 +1,15 @@
+package kr.hs.sdh.digitechnetwork.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TokenType {
+    ACCESS("액세스 토큰"),
+    REFRESH("리프레시 토큰");
+
+    private final String description;
+
+    TokenType(String description) {
+        this.description = description;
+    }
+}
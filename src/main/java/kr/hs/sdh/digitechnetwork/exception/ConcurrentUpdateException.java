@@ -0,0 +1,23 @@
+package kr.hs.sdh.digitechnetwork.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 수정 충돌 시 발생하는 예외
+ * 다른 요청이 먼저 같은 리소스를 변경하여 요청을 그대로 적용할 수 없을 때 사용하며,
+ * 클라이언트가 다시 판단할 수 있도록 리소스의 현재 상태를 함께 전달
+ * 
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public class ConcurrentUpdateException extends BusinessException {
+    
+    private final transient Object currentState;
+    
+    public ConcurrentUpdateException(ErrorCode errorCode, String detailMessage, Object currentState, Throwable cause) {
+        super(errorCode, detailMessage, cause);
+        this.currentState = currentState;
+    }
+}
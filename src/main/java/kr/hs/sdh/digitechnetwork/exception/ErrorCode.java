@@ -21,6 +21,7 @@ public enum ErrorCode {
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C002", "접근 권한이 없습니다."),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "요청한 리소스를 찾을 수 없습니다."),
     DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "C004", "이미 존재하는 리소스입니다."),
+    AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "C005", "인증이 필요합니다."),
     
     // OAuth 관련 오류
     OAUTH_AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "O001", "OAuth 인증에 실패했습니다."),
@@ -36,11 +37,20 @@ public enum ErrorCode {
     EQUIPMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "E001", "기자재를 찾을 수 없습니다."),
     EQUIPMENT_ALREADY_EXISTS(HttpStatus.CONFLICT, "E002", "이미 존재하는 기자재입니다."),
     EQUIPMENT_UNAVAILABLE(HttpStatus.BAD_REQUEST, "E003", "사용할 수 없는 기자재입니다."),
+    EQUIPMENT_CONFLICT(HttpStatus.CONFLICT, "E004", "다른 요청이 먼저 기자재를 변경했습니다."),
     
     // 대여 관련 오류
     RENT_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "대여 기록을 찾을 수 없습니다."),
     RENT_ALREADY_EXISTS(HttpStatus.CONFLICT, "R002", "이미 대여 중인 기자재입니다."),
     RENT_PERIOD_INVALID(HttpStatus.BAD_REQUEST, "R003", "잘못된 대여 기간입니다."),
+    RENT_STATUS_INVALID(HttpStatus.CONFLICT, "R004", "현재 대여 상태에서 처리할 수 없는 요청입니다."),
+    RENT_CART_UNAVAILABLE(HttpStatus.CONFLICT, "R005", "대여할 수 없는 기자재가 포함되어 있습니다."),
+    
+    // 예약 관련 오류
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "B001", "예약을 찾을 수 없습니다."),
+    RESERVATION_CONFLICT(HttpStatus.CONFLICT, "B002", "이미 예약된 시간입니다."),
+    RESERVATION_PERIOD_INVALID(HttpStatus.BAD_REQUEST, "B003", "잘못된 예약 기간입니다."),
+    RESERVATION_STATUS_INVALID(HttpStatus.CONFLICT, "B004", "이미 취소된 예약입니다."),
     
     // 시스템 오류
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S001", "내부 서버 오류가 발생했습니다."),
@@ -21,6 +21,7 @@ public class ErrorResponse {
     private String detailMessage;
     private String path;
     private List<FieldError> fieldErrors;
+    private Object currentState;
 
     @Getter
     @Builder
@@ -1,6 +1,7 @@
 package kr.hs.sdh.digitechnetwork.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -88,6 +89,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getErrorCode().getStatus()).body(errorResponse);
     }
 
+    /**
+     * 동시 수정 충돌 예외 처리 (리소스의 현재 상태 포함)
+     */
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdateException(ConcurrentUpdateException e, HttpServletRequest request) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(e.getErrorCode().getStatus())
+                .code(e.getErrorCode().getCode())
+                .message(e.getErrorCode().getMessage())
+                .detailMessage(e.getDetailMessage())
+                .path(request.getRequestURI())
+                .currentState(e.getCurrentState())
+                .build();
+        
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(errorResponse);
+    }
+
+    /**
+     * 일괄 대여 거부 예외 처리 (기자재별 사유는 fieldErrors 로 전달)
+     */
+    @ExceptionHandler(RentalCartException.class)
+    public ResponseEntity<ErrorResponse> handleRentalCartException(RentalCartException e, HttpServletRequest request) {
+        log.warn("일괄 대여 거부: {}", e.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(e.getErrorCode().getStatus())
+                .code(e.getErrorCode().getCode())
+                .message(e.getErrorCode().getMessage())
+                .detailMessage(e.getDetailMessage())
+                .path(request.getRequestURI())
+                .fieldErrors(e.getFailures())
+                .build();
+        
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(errorResponse);
+    }
+
+    /**
+     * 낙관적 잠금 충돌 예외 처리 (재시도 계층을 거치지 않은 경로)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e, HttpServletRequest request) {
+        log.warn("낙관적 잠금 충돌: {}", e.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(ErrorCode.EQUIPMENT_CONFLICT.getStatus())
+                .code(ErrorCode.EQUIPMENT_CONFLICT.getCode())
+                .message(ErrorCode.EQUIPMENT_CONFLICT.getMessage())
+                .detailMessage("다시 조회한 뒤 요청해 주세요.")
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(ErrorCode.EQUIPMENT_CONFLICT.getStatus()).body(errorResponse);
+    }
+
     /**
      * 접근 권한 부족 예외 처리 (모든 AccessDeniedException 통합 처리)
      */
@@ -0,0 +1,24 @@
+package kr.hs.sdh.digitechnetwork.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 대여 거부 예외
+ * 담긴 기자재 중 하나라도 대여할 수 없으면 전체를 거부하며, 기자재별 거부 사유를 함께 전달
+ * 
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Getter
+public class RentalCartException extends BusinessException {
+    
+    private final transient List<ErrorResponse.FieldError> failures;
+    
+    public RentalCartException(List<ErrorResponse.FieldError> failures) {
+        super(ErrorCode.RENT_CART_UNAVAILABLE, failures.size() + "개의 기자재를 대여할 수 없어 전체 대여가 취소되었습니다.");
+        this.failures = List.copyOf(failures);
+    }
+}
@@ -0,0 +1,80 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 기자재 목록 키셋(커서) 위치
+ * 이전 페이지 마지막 행의 정렬 키 값과 ID 로, 다음 페이지를 OFFSET 없이 이어서 조회
+ *
+ * 커서 문자열은 "정렬키:방향:ID:값" 을 Base64url 로 인코딩한 값이며,
+ * 값에 ':' 가 들어갈 수 있으므로 항상 마지막에 둡니다.
+ *
+ * @param sortKey 정렬 기준
+ * @param ascending 오름차순 여부
+ * @param lastId 마지막 행 ID
+ * @param lastValue 마지막 행의 정렬 키 값 (ID 정렬이면 null)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public record EquipmentKeyset(EquipmentSortKey sortKey, boolean ascending, Long lastId, String lastValue) {
+
+    /**
+     * 마지막 행으로부터 다음 페이지 위치 생성
+     * @param last 마지막 행
+     * @param sortKey 정렬 기준
+     * @param ascending 오름차순 여부
+     * @return 다음 페이지 위치
+     */
+    public static EquipmentKeyset after(EquipmentSummaryDto last, EquipmentSortKey sortKey, boolean ascending) {
+        String value = switch (sortKey) {
+            case ID -> null;
+            case IDENTIFIER -> last.getIdentifier();
+            case NAME -> last.getName() != null ? last.getName() : "";
+            case CREATED_AT -> last.getCreatedAt().toString();
+        };
+        return new EquipmentKeyset(sortKey, ascending, last.getId(), value);
+    }
+
+    /**
+     * 커서 문자열로 인코딩
+     * @return Base64url 커서
+     */
+    public String encode() {
+        String raw = sortKey.name() + ":" + (ascending ? "A" : "D") + ":" + lastId + ":" + (lastValue != null ? lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor Base64url 커서
+     * @return 키셋 위치
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static EquipmentKeyset decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split(":", 4);
+        if (parts.length != 4 || !(parts[1].equals("A") || parts[1].equals("D"))) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+        }
+
+        EquipmentSortKey sortKey = EquipmentSortKey.valueOf(parts[0]);
+        if (sortKey == EquipmentSortKey.CREATED_AT) {
+            // 조회 시점에 파싱 오류가 나지 않도록 값 형식을 여기서 확인
+            try {
+                LocalDateTime.parse(parts[3]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+            }
+        }
+        return new EquipmentKeyset(sortKey, parts[1].equals("A"), Long.parseLong(parts[2]),
+                sortKey == EquipmentSortKey.ID ? null : parts[3]);
+    }
+}
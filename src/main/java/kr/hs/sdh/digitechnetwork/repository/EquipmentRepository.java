@@ -1,14 +1,23 @@
 package kr.hs.sdh.digitechnetwork.repository;
 
+import jakarta.persistence.QueryHint;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
 import kr.hs.sdh.digitechnetwork.entity.Equipment;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Equipment Repository
@@ -17,7 +26,7 @@ import java.util.Optional;
  * 주요 기능:
  * - 기자재 CRUD 작업
  * - 기자재 상태별 조회 및 관리
- * - 기자재 검색 및 필터링
+ * - 기자재 검색 및 필터링 (키셋 페이지네이션, {@link EquipmentRepositoryCustom})
  * - 기자재 통계 정보 조회
  * 
  * @since 2025.08.30
@@ -25,7 +34,7 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
+public interface EquipmentRepository extends JpaRepository<Equipment, Long>, EquipmentRepositoryCustom {
     
     /**
      * 기자재를 ID로 조회 (EquipmentType 정보 포함)
@@ -37,13 +46,24 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
     @Query("SELECT e FROM Equipment e JOIN FETCH e.equipmentType WHERE e.id = :id")
     Optional<Equipment> getEquipmentById(Long id);
     
+    /**
+     * 모든 기자재 조회 (EquipmentType 정보 포함)
+     * 엔티티 그래프로 타입을 함께 조회하여 행마다 타입을 지연 로딩하지 않음
+     * 
+     * @return EquipmentType 정보가 포함된 기자재 목록
+     */
+    @Override
+    @EntityGraph("Equipment.withType")
+    List<Equipment> findAll();
+    
     /**
      * 식별자로 기자재 찾기
-     * 기자재의 고유 식별자를 통해 조회
+     * 기자재의 고유 식별자를 통해 조회 (EquipmentType 정보 포함)
      * 
      * @param identifier 기자재 식별자
      * @return 기자재 정보 (Optional)
      */
+    @EntityGraph("Equipment.withType")
     Optional<Equipment> findByIdentifier(String identifier);
     
     /**
@@ -56,50 +76,138 @@ public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
     boolean existsByIdentifier(String identifier);
     
     /**
-     * 공개된 기자재만 찾기
-     * 사용자에게 보여질 수 있는 기자재 목록 조회
+     * 전체 기자재 읽기 모델 스트리밍 조회
+     * 검색 색인 재구성처럼 전체 행을 한 번 훑는 작업에 사용 (결과를 메모리에 모두 올리지 않음)
+     * 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 함
      * 
-     * @return 공개된 기자재 목록
+     * @return 기자재 읽기 모델 스트림
      */
-    List<Equipment> findByIsPublicTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto(e.id, e.identifier, e.name, e.description, " +
+           "e.status, e.isPublic, e.cautionMessage, t.type, e.createdAt, e.lastUpdateTime, e.version, COALESCE(t.lastUpdateTime, t.createdAt)) " +
+           "FROM Equipment e LEFT JOIN e.equipmentType t")
+    Stream<EquipmentSummaryDto> streamAllSummaries();
     
     /**
-     * 특정 상태의 기자재 찾기
-     * 기자재의 현재 상태에 따른 분류 조회
+     * 식별자로 기자재 읽기 모델 조회 (QR 스캔 등)
      * 
-     * @param status 기자재 상태 (AVAILABLE, RENT, BROKEN, CHECK, UNAVAILABLE, FIX)
-     * @return 해당 상태의 기자재 목록
+     * @param identifier 기자재 식별자
+     * @return 기자재 읽기 모델
      */
-    List<Equipment> findByStatus(EquipmentStatus status);
+    @Query("SELECT new kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto(e.id, e.identifier, e.name, e.description, " +
+           "e.status, e.isPublic, e.cautionMessage, t.type, e.createdAt, e.lastUpdateTime, e.version, COALESCE(t.lastUpdateTime, t.createdAt)) " +
+           "FROM Equipment e LEFT JOIN e.equipmentType t WHERE e.identifier = :identifier")
+    Optional<EquipmentSummaryDto> findSummaryByIdentifier(@Param("identifier") String identifier);
     
     /**
-     * 특정 타입의 기자재 찾기
-     * 기자재 분류에 따른 조회
+     * 식별자 목록으로 기자재 읽기 모델 조회
      * 
-     * @param typeId 기자재 타입 ID
-     * @return 해당 타입의 기자재 목록
+     * @param identifiers 기자재 식별자 목록
+     * @return 기자재 읽기 모델 목록
      */
-    List<Equipment> findByEquipmentTypeId(Long typeId);
+    @Query("SELECT new kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto(e.id, e.identifier, e.name, e.description, " +
+           "e.status, e.isPublic, e.cautionMessage, t.type, e.createdAt, e.lastUpdateTime, e.version, COALESCE(t.lastUpdateTime, t.createdAt)) " +
+           "FROM Equipment e LEFT JOIN e.equipmentType t WHERE e.identifier IN :identifiers")
+    List<EquipmentSummaryDto> findSummariesByIdentifiers(@Param("identifiers") Collection<String> identifiers);
     
     /**
-     * 상태와 공개 여부로 기자재 찾기
-     * 특정 상태이면서 공개된 기자재만 조회
+     * 목록 중 이미 존재하는 식별자 조회 (일괄 등록 중복 검사)
      * 
-     * @param status 기자재 상태
-     * @return 해당 상태이면서 공개된 기자재 목록
+     * @param identifiers 기자재 식별자 목록
+     * @return 이미 존재하는 식별자
      */
-    List<Equipment> findByStatusAndIsPublicTrue(EquipmentStatus status);
+    @Query("SELECT e.identifier FROM Equipment e WHERE e.identifier IN :identifiers")
+    List<String> findExistingIdentifiers(@Param("identifiers") Collection<String> identifiers);
     
     /**
-     * 식별자나 주의사항으로 검색
-     * 키워드 기반의 기자재 검색 기능
+     * 타입별 기자재 읽기 모델 조회 (ID 순)
      * 
-     * @param identifier 기자재 식별자 (부분 일치)
-     * @param cautionMessage 주의사항 메시지 (부분 일치)
-     * @return 검색 조건을 만족하는 기자재 목록
+     * @param typeId 기자재 타입 ID
+     * @return 기자재 읽기 모델 목록
      */
-    List<Equipment> findByIdentifierContainingOrCautionMessageContaining(String identifier, String cautionMessage);
+    @Query("SELECT new kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto(e.id, e.identifier, e.name, e.description, " +
+           "e.status, e.isPublic, e.cautionMessage, t.type, e.createdAt, e.lastUpdateTime, e.version, COALESCE(t.lastUpdateTime, t.createdAt)) " +
+           "FROM Equipment e JOIN e.equipmentType t WHERE t.id = :typeId ORDER BY e.id")
+    List<EquipmentSummaryDto> findSummariesByTypeId(@Param("typeId") Long typeId);
     
+    /**
+     * 특정 시각 이후 등록/수정된 기자재 읽기 모델 조회
+     * 다른 인스턴스에서 변경된 기자재를 검색 색인에 반영하는 데 사용
+     * 
+     * @param since 기준 시각
+     * @return 기자재 읽기 모델 목록
+     */
+    @Query("SELECT new kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto(e.id, e.identifier, e.name, e.description, " +
+           "e.status, e.isPublic, e.cautionMessage, t.type, e.createdAt, e.lastUpdateTime, e.version, COALESCE(t.lastUpdateTime, t.createdAt)) " +
+           "FROM Equipment e LEFT JOIN e.equipmentType t " +
+           "WHERE e.createdAt > :since OR e.lastUpdateTime > :since")
+    List<EquipmentSummaryDto> findSummariesChangedSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 상태 × 공개 여부별 기자재 수 조회
+     * 
+     * @return [상태, 공개 여부, 개수] 목록
+     */
+    @Query("SELECT e.status, e.isPublic, COUNT(e) FROM Equipment e GROUP BY e.status, e.isPublic")
+    List<Object[]> countGroupByStatusAndPublicity();
+
+    /**
+     * 기자재 상태 일괄 변경 (한 번의 UPDATE)
+     * 벌크 UPDATE 는 @UpdateTimestamp/@Version 이 적용되지 않으므로 수정 시각과 버전을 직접 갱신
+     *
+     * @param ids 기자재 ID 목록
+     * @param status 변경할 상태
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Equipment e SET e.status = :status, e.lastUpdateTime = :now, e.version = e.version + 1 WHERE e.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") EquipmentStatus status,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 기자재 공개 여부 일괄 변경 (한 번의 UPDATE)
+     *
+     * @param ids 기자재 ID 목록
+     * @param isPublic 공개 여부
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Equipment e SET e.isPublic = :isPublic, e.lastUpdateTime = :now, e.version = e.version + 1 WHERE e.id IN :ids")
+    int updatePublicityByIds(@Param("ids") Collection<Long> ids, @Param("isPublic") Boolean isPublic,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 대여 (대여 가능하고 공개된 기자재만 RENT 로 변경하는 조건부 UPDATE)
+     * 상태 확인과 변경을 한 문장으로 하므로 같은 기자재를 동시에 대여하면 먼저 변경한 요청만 1 을 받고,
+     * 나머지는 행 잠금이 풀린 뒤 바뀐 상태를 보고 0 을 받음 (서로 다른 기자재끼리는 기다리지 않음)
+     *
+     * @param id 기자재 ID
+     * @param now 수정 시각
+     * @return 변경된 행 수 (0 이면 대여 불가)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Equipment e SET e.status = kr.hs.sdh.digitechnetwork.enums.EquipmentStatus.RENT, " +
+           "e.lastUpdateTime = :now, e.version = e.version + 1 " +
+           "WHERE e.id = :id AND e.status = kr.hs.sdh.digitechnetwork.enums.EquipmentStatus.AVAILABLE AND e.isPublic = true")
+    int rentIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 기자재 상태 조건부 변경 (현재 상태가 from 일 때만 to 로)
+     *
+     * @param id 기자재 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @param now 수정 시각
+     * @return 변경된 행 수 (0 이면 현재 상태가 from 이 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Equipment e SET e.status = :to, e.lastUpdateTime = :now, e.version = e.version + 1 " +
+           "WHERE e.id = :id AND e.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") EquipmentStatus from, @Param("to") EquipmentStatus to,
+                         @Param("now") LocalDateTime now);
+
     /**
      * 특정 상태의 기자재 수 조회
      * 기자재 상태별 통계 정보 생성에 사용
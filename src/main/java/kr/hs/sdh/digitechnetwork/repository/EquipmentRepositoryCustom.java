@@ -0,0 +1,68 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Equipment Repository 사용자 정의 조회
+ * 조건과 정렬 기준이 바뀌어도 하나의 키셋 페이지 쿼리로 처리하기 위한 fragment
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface EquipmentRepositoryCustom {
+
+    /**
+     * 키셋 페이지 조회 (엔티티 대신 EquipmentType 이름을 포함한 읽기 모델로 조회)
+     * 정렬 키가 같으면 ID 로 순서를 정하므로 페이지 사이에 누락/중복이 없음
+     *
+     * @param condition 조회 조건
+     * @param sortKey 정렬 기준
+     * @param ascending 오름차순 여부
+     * @param after 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit 최대 조회 수
+     * @return 기자재 읽기 모델 목록
+     */
+    List<EquipmentSummaryDto> findPage(EquipmentSearchCondition condition, EquipmentSortKey sortKey, boolean ascending,
+                                       EquipmentKeyset after, int limit);
+
+    /**
+     * ID 목록으로 읽기 모델 조회 (순서는 보장하지 않음)
+     * @param ids 기자재 ID 목록
+     * @return 기자재 읽기 모델 목록
+     */
+    List<EquipmentSummaryDto> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * JDBC 배치로 기자재 일괄 저장
+     * IDENTITY 키는 Hibernate 가 배치로 묶지 못하므로 일괄 등록은 영속성 컨텍스트를 거치지 않고 직접 저장
+     * (MySQL 은 rewriteBatchedStatements=true 일 때 한 번의 다중 행 INSERT 로 전송됨)
+     *
+     * @param equipments 저장할 기자재 (ID 는 무시되며 채워지지 않음)
+     */
+    void batchInsert(List<Equipment> equipments);
+
+    /**
+     * 일괄 변경 대상 조회 (비관적 쓰기 잠금, ID 순)
+     * 변경 전 상태를 확보하고, 같은 트랜잭션의 UPDATE 가 끝날 때까지 다른 변경이 끼어들지 않도록 잠금
+     * (ID 순으로 잠그므로 겹치는 일괄 변경끼리 교착 상태가 생기지 않음)
+     *
+     * @param ids 기자재 ID 목록 (null 이면 ID 로 제한하지 않음)
+     * @param condition 조회 조건
+     * @param limit 최대 조회 수
+     * @return 잠근 기자재 목록
+     */
+    List<Equipment> findForBulkUpdate(Collection<Long> ids, EquipmentSearchCondition condition, int limit);
+
+    /**
+     * 조건에 맞는 전체 기자재 수
+     * @param condition 조회 조건
+     * @return 기자재 수
+     */
+    long countByCondition(EquipmentSearchCondition condition);
+}
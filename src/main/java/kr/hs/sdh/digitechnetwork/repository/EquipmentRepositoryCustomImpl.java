@@ -0,0 +1,227 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.EquipmentType;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Equipment Repository 사용자 정의 조회 구현체
+ * Criteria API 로 조건/정렬/키셋 조건을 조합
+ *
+ * 목록은 엔티티를 만들지 않고 EquipmentType 을 조인한 한 번의 쿼리에서 필요한 컬럼만 DTO 로 select 합니다.
+ * (영속성 컨텍스트에 올라가지 않으므로 지연 로딩/더티 체킹 비용이 없음)
+ *
+ * 다음 페이지 조건은 (정렬키 > 마지막 값) OR (정렬키 = 마지막 값 AND ID > 마지막 ID) 형태이며,
+ * OFFSET 을 쓰지 않으므로 뒤쪽 페이지도 앞쪽과 같은 비용으로 조회됩니다.
+ * 이름은 비어 있을 수 있어 '' 로 치환하여 정렬/비교합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class EquipmentRepositoryCustomImpl implements EquipmentRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO equipments " +
+            "(identifier, name, description, status, is_public, caution_message, equipment_type_id, created_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EquipmentSummaryDto> findPage(EquipmentSearchCondition condition, EquipmentSortKey sortKey, boolean ascending,
+                                              EquipmentKeyset after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EquipmentSummaryDto> query = cb.createQuery(EquipmentSummaryDto.class);
+        Root<Equipment> root = query.from(Equipment.class);
+        Join<Equipment, EquipmentType> type = root.join("equipmentType", JoinType.LEFT);
+
+        List<Predicate> predicates = conditionPredicates(cb, root, condition);
+        if (after != null) {
+            predicates.add(seekPredicate(cb, root, after));
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (sortKey != EquipmentSortKey.ID) {
+            Expression<?> key = sortExpression(cb, root, sortKey);
+            orders.add(ascending ? cb.asc(key) : cb.desc(key));
+        }
+        Path<Long> id = root.get("id");
+        orders.add(ascending ? cb.asc(id) : cb.desc(id));
+
+        query.select(summary(cb, root, type))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<EquipmentSummaryDto> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EquipmentSummaryDto> query = cb.createQuery(EquipmentSummaryDto.class);
+        Root<Equipment> root = query.from(Equipment.class);
+        Join<Equipment, EquipmentType> type = root.join("equipmentType", JoinType.LEFT);
+
+        query.select(summary(cb, root, type))
+                .where(root.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public void batchInsert(List<Equipment> equipments) {
+        if (equipments.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, equipments, equipments.size(), (statement, equipment) -> {
+            statement.setString(1, equipment.getIdentifier());
+            statement.setString(2, equipment.getName());
+            statement.setString(3, equipment.getDescription());
+            statement.setString(4, equipment.getStatus().name());
+            statement.setBoolean(5, equipment.getIsPublic());
+            statement.setString(6, equipment.getCautionMessage());
+            if (equipment.getEquipmentType() != null) {
+                statement.setLong(7, equipment.getEquipmentType().getId());
+            } else {
+                statement.setNull(7, Types.BIGINT);
+            }
+            statement.setTimestamp(8, now);
+        });
+    }
+
+    @Override
+    public List<Equipment> findForBulkUpdate(Collection<Long> ids, EquipmentSearchCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Equipment> query = cb.createQuery(Equipment.class);
+        Root<Equipment> root = query.from(Equipment.class);
+
+        List<Predicate> predicates = conditionPredicates(cb, root, condition);
+        if (ids != null) {
+            predicates.add(root.get("id").in(ids));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countByCondition(EquipmentSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Equipment> root = query.from(Equipment.class);
+
+        query.select(cb.count(root))
+                .where(conditionPredicates(cb, root, condition).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static CompoundSelection<EquipmentSummaryDto> summary(CriteriaBuilder cb, Root<Equipment> root,
+                                                                  Join<Equipment, EquipmentType> type) {
+        return cb.construct(EquipmentSummaryDto.class,
+                root.get("id"),
+                root.get("identifier"),
+                root.get("name"),
+                root.get("description"),
+                root.get("status"),
+                root.get("isPublic"),
+                root.get("cautionMessage"),
+                type.get("type"),
+                root.get("createdAt"),
+                root.get("lastUpdateTime"),
+                root.get("version"),
+                cb.coalesce(type.<LocalDateTime>get("lastUpdateTime"), type.<LocalDateTime>get("createdAt")));
+    }
+
+    private List<Predicate> conditionPredicates(CriteriaBuilder cb, Root<Equipment> root, EquipmentSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.isPublic() != null) {
+            predicates.add(cb.equal(root.get("isPublic"), condition.isPublic()));
+        }
+        if (condition.status() != null) {
+            predicates.add(cb.equal(root.get("status"), condition.status()));
+        }
+        if (condition.typeId() != null) {
+            predicates.add(cb.equal(root.get("equipmentType").get("id"), condition.typeId()));
+        }
+        if (condition.keyword() != null && !condition.keyword().isBlank()) {
+            String pattern = "%" + escapeLike(condition.keyword()) + "%";
+            predicates.add(cb.or(
+                    cb.like(root.<String>get("identifier"), pattern, '\\'),
+                    cb.like(root.<String>get("name"), pattern, '\\'),
+                    cb.like(root.<String>get("description"), pattern, '\\'),
+                    cb.like(root.<String>get("cautionMessage"), pattern, '\\')));
+        }
+        return predicates;
+    }
+
+    private Expression<?> sortExpression(CriteriaBuilder cb, Root<Equipment> root, EquipmentSortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> root.get("id");
+            case IDENTIFIER -> root.get("identifier");
+            case NAME -> cb.coalesce(root.<String>get("name"), "");
+            case CREATED_AT -> root.get("createdAt");
+        };
+    }
+
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Equipment> root, EquipmentKeyset after) {
+        Path<Long> id = root.get("id");
+        return switch (after.sortKey()) {
+            case ID -> after.ascending() ? cb.greaterThan(id, after.lastId()) : cb.lessThan(id, after.lastId());
+            case IDENTIFIER -> seek(cb, root.<String>get("identifier"), after.lastValue(), id, after);
+            case NAME -> seek(cb, cb.coalesce(root.<String>get("name"), ""), after.lastValue(), id, after);
+            case CREATED_AT -> seek(cb, root.<LocalDateTime>get("createdAt"), LocalDateTime.parse(after.lastValue()), id, after);
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Expression<? extends T> key, T value,
+                                                                     Path<Long> id, EquipmentKeyset after) {
+        if (after.ascending()) {
+            return cb.or(cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value), cb.greaterThan(id, after.lastId())));
+        }
+        return cb.or(cb.lessThan(key, value),
+                cb.and(cb.equal(key, value), cb.lessThan(id, after.lastId())));
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
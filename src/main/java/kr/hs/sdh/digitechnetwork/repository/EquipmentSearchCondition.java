@@ -0,0 +1,43 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+
+/**
+ * 기자재 목록 조회 조건
+ * null 인 항목은 조건에서 제외
+ *
+ * @param isPublic 공개 여부
+ * @param status 기자재 상태
+ * @param typeId 기자재 타입 ID
+ * @param keyword 식별자/주의사항 검색어 (부분 일치)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public record EquipmentSearchCondition(Boolean isPublic, EquipmentStatus status, Long typeId, String keyword) {
+
+    public static EquipmentSearchCondition all() {
+        return new EquipmentSearchCondition(null, null, null, null);
+    }
+
+    public static EquipmentSearchCondition publicOnly() {
+        return new EquipmentSearchCondition(true, null, null, null);
+    }
+
+    public static EquipmentSearchCondition available() {
+        return new EquipmentSearchCondition(true, EquipmentStatus.AVAILABLE, null, null);
+    }
+
+    public static EquipmentSearchCondition ofStatus(EquipmentStatus status) {
+        return new EquipmentSearchCondition(null, status, null, null);
+    }
+
+    public static EquipmentSearchCondition ofType(Long typeId) {
+        return new EquipmentSearchCondition(null, null, typeId, null);
+    }
+
+    public static EquipmentSearchCondition ofKeyword(String keyword) {
+        return new EquipmentSearchCondition(null, null, null, keyword);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.entity.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JwtSigningKey Repository
+ * JWT 비대칭 서명 키(JwtSigningKey) 엔티티에 대한 데이터 접근 계층
+ *
+ * 여러 인스턴스가 같은 키 집합으로 서명/검증하고, 재시작 후에도
+ * 이미 발급된 토큰을 검증할 수 있도록 키를 데이터베이스에 보관합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    /**
+     * 알고리즘별 서명 키를 활성화 시각 순으로 조회
+     *
+     * @param algorithm 서명 알고리즘 (ES256, RS256)
+     * @return 활성화 시각 오름차순 서명 키 목록
+     */
+    List<JwtSigningKey> findByAlgorithmOrderByActivatesAtAsc(String algorithm);
+}
@@ -1,27 +1,173 @@
 package kr.hs.sdh.digitechnetwork.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * RentHistory Repository
  * 대여 이력(RentHistory) 엔티티에 대한 데이터 접근 계층
  * 
  * 주요 기능:
  * - 대여 이력 기본 CRUD 작업
- * - 대여 이력의 단순한 관리
- * - 복잡한 조회는 StudentRentHistoryRepository와 TeacherRentHistoryRepository에서 처리
+ * - 대여자별 대여 이력 조회
+ * - 대여 상태의 조건부 변경 (대여 → 반납 확인 → 반납 완료, 대여 → 연체)
+ * - 연체 대상 조회 ((status, dueAt) 인덱스 범위 조회)
  * 
- * 현재 구조에서는 RentHistory가 단순한 ID 엔티티로 사용되며,
- * 실제 대여 관련 정보는 중간 테이블(StudentRentHistory, TeacherRentHistory)에서 관리됩니다.
+ * 대여 이력에는 기자재, 대여자, 대여/반납 예정/반납 시각이 기록되며,
+ * 중간 테이블(StudentRentHistory, TeacherRentHistory)은 기존과 같이 학생/교사와 대여 이력을 연결합니다.
  * 
  * @since 2025.08.30
  * @author yunjisang sdh230308@sdh.hs.kr
  * @version 1.0.0
  */
 @Repository
-public interface RentHistoryRepository extends JpaRepository<RentHistory, Long> {
-    // 기본 CRUD 메서드는 JpaRepository에서 자동 제공
-    // 복잡한 조회는 StudentRentHistoryRepository와 TeacherRentHistoryRepository에서 처리
+public interface RentHistoryRepository extends JpaRepository<RentHistory, Long>, RentHistoryRepositoryCustom {
+    
+    /**
+     * 대여 이력 조회 (기자재 포함)
+     * 
+     * @param id 대여 이력 ID
+     * @return 대여 이력 (Optional)
+     */
+    @Query("SELECT r FROM RentHistory r JOIN FETCH r.equipment WHERE r.id = :id")
+    Optional<RentHistory> findWithEquipmentById(@Param("id") Long id);
+    
+    /**
+     * 대여자의 대여 이력 조회 (기자재 포함, 최신순)
+     * 
+     * @param renterType 대여자 타입
+     * @param renterId 대여자 ID
+     * @return 대여 이력 목록
+     */
+    @Query("SELECT r FROM RentHistory r JOIN FETCH r.equipment " +
+           "WHERE r.renterType = :renterType AND r.renterId = :renterId ORDER BY r.id DESC")
+    List<RentHistory> findByRenter(@Param("renterType") UserType renterType, @Param("renterId") Long renterId);
+    
+    /**
+     * 기자재에 끝나지 않은 대여(대여/연체/반납 확인 중)가 있는지 확인 ((equipment_id, status) 인덱스)
+     * 
+     * @param equipmentId 기자재 ID
+     * @return 끝나지 않은 대여가 있으면 true
+     */
+    @Query("SELECT COUNT(r) > 0 FROM RentHistory r WHERE r.equipment.id = :equipmentId " +
+           "AND r.status IN (kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED, kr.hs.sdh.digitechnetwork.enums.RentStatus.OVERDUE, " +
+           "kr.hs.sdh.digitechnetwork.enums.RentStatus.RETURNING)")
+    boolean existsOpenByEquipmentId(@Param("equipmentId") Long equipmentId);
+    
+    /**
+     * 목록 중 끝나지 않은 대여(대여/연체/반납 확인 중)가 있는 기자재 ID 조회
+     * 
+     * @param equipmentIds 기자재 ID 목록
+     * @return 끝나지 않은 대여가 있는 기자재 ID
+     */
+    @Query("SELECT DISTINCT r.equipment.id FROM RentHistory r WHERE r.equipment.id IN :equipmentIds " +
+           "AND r.status IN (kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED, kr.hs.sdh.digitechnetwork.enums.RentStatus.OVERDUE, " +
+           "kr.hs.sdh.digitechnetwork.enums.RentStatus.RETURNING)")
+    List<Long> findOpenEquipmentIds(@Param("equipmentIds") Collection<Long> equipmentIds);
+    
+    /**
+     * 반납되지 않은 대여 이력 스트리밍 조회 (연체 타이머 구성용)
+     * 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 함
+     * 
+     * @return 대여 중인 대여 이력 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM RentHistory r WHERE r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED")
+    Stream<RentHistory> streamRented();
+    
+    /**
+     * 목록 중 반납 기한이 지난 대여 중 기록 조회 (비관적 쓰기 잠금, ID 순)
+     * 연체로 바꾸는 동안 반납/연장이 끼어들지 않도록 잠금
+     * 
+     * @param ids 대여 이력 ID 목록
+     * @param now 기준 시각
+     * @return 연체 대상 대여 이력
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RentHistory r WHERE r.id IN :ids " +
+           "AND r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED AND r.dueAt <= :now ORDER BY r.id")
+    List<RentHistory> findOverdueForUpdate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * 반납 기한이 지난 대여 중 기록 조회 (비관적 쓰기 잠금, ID 순, 정리 작업용)
+     * 
+     * @param now 기준 시각
+     * @param pageable 최대 조회 수
+     * @return 연체 대상 대여 이력
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RentHistory r " +
+           "WHERE r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED AND r.dueAt <= :now ORDER BY r.id")
+    List<RentHistory> findOverdueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+    
+    /**
+     * 연체로 변경 (대여 중인 기록만 변경하는 조건부 UPDATE)
+     * 
+     * @param ids 대여 이력 ID 목록
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentHistory r SET r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.OVERDUE, r.lastUpdateTime = :now " +
+           "WHERE r.id IN :ids AND r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED")
+    int markOverdue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * 반납 기한 연장 (대여 중인 기록만 변경하는 조건부 UPDATE)
+     * 
+     * @param id 대여 이력 ID
+     * @param dueAt 새 반납 예정 시각
+     * @param now 수정 시각
+     * @return 변경된 행 수 (0 이면 대여 중이 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentHistory r SET r.dueAt = :dueAt, r.lastUpdateTime = :now " +
+           "WHERE r.id = :id AND r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED")
+    int extendDueAt(@Param("id") Long id, @Param("dueAt") LocalDateTime dueAt, @Param("now") LocalDateTime now);
+    
+    /**
+     * 반납 시작 (대여/연체 중인 기록만 반납 확인 중으로 변경하는 조건부 UPDATE, 중복 반납 방지)
+     * 
+     * @param id 대여 이력 ID
+     * @param now 반납 시각
+     * @return 변경된 행 수 (0 이면 대여/연체 중이 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentHistory r SET r.status = kr.hs.sdh.digitechnetwork.enums.RentStatus.RETURNING, " +
+           "r.returnedAt = :now, r.lastUpdateTime = :now " +
+           "WHERE r.id = :id AND r.status IN (kr.hs.sdh.digitechnetwork.enums.RentStatus.RENTED, " +
+           "kr.hs.sdh.digitechnetwork.enums.RentStatus.OVERDUE)")
+    int startReturn(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    /**
+     * 대여 상태 조건부 변경 (현재 상태가 from 일 때만 to 로)
+     * 
+     * @param id 대여 이력 ID
+     * @param from 기대하는 현재 상태
+     * @param to 변경할 상태
+     * @param now 수정 시각
+     * @return 변경된 행 수 (0 이면 현재 상태가 from 이 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RentHistory r SET r.status = :to, r.lastUpdateTime = :now WHERE r.id = :id AND r.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") RentStatus from, @Param("to") RentStatus to,
+                         @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,35 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+
+import java.util.List;
+
+/**
+ * RentHistory Repository 사용자 정의 기능
+ * 여러 건의 대여를 한 번에 기록하는 JDBC 배치 저장
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface RentHistoryRepositoryCustom {
+
+    /**
+     * JDBC 배치로 대여 기록 일괄 저장
+     * IDENTITY 키는 Hibernate 가 배치로 묶지 못하므로 영속성 컨텍스트를 거치지 않고 직접 저장
+     *
+     * @param rentHistories 저장할 대여 기록 (ID 는 무시되며 채워지지 않음)
+     * @return 생성된 대여 기록 ID (입력 순서)
+     */
+    List<Long> batchInsert(List<RentHistory> rentHistories);
+
+    /**
+     * JDBC 배치로 대여자와 대여 기록 연결 (student_rent_histories 또는 teacher_rent_histories)
+     *
+     * @param renterType 대여자 타입 (학생 또는 교사)
+     * @param renterId 대여자 ID
+     * @param rentHistoryIds 대여 기록 ID 목록
+     */
+    void batchInsertRenterLinks(UserType renterType, Long renterId, List<Long> rentHistoryIds);
+}
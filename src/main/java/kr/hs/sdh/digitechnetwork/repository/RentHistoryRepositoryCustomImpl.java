@@ -0,0 +1,96 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RentHistory Repository 사용자 정의 기능 구현체
+ *
+ * 대여 기록은 한 번의 배치 INSERT 로 저장하고 생성된 키를 받아, 대여자 연결 테이블도 한 번의 배치 INSERT 로 저장합니다.
+ * (MySQL 은 rewriteBatchedStatements=true 일 때 각각 한 번의 다중 행 INSERT 로 전송됨)
+ * JdbcTemplate 은 현재 JPA 트랜잭션의 커넥션을 사용하므로 같은 트랜잭션에서 커밋/롤백됩니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class RentHistoryRepositoryCustomImpl implements RentHistoryRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO rent_histories " +
+            "(equipment_id, status, renter_type, renter_id, rented_at, due_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_STUDENT_LINK_SQL = "INSERT INTO student_rent_histories " +
+            "(student_id, rent_history_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String INSERT_TEACHER_LINK_SQL = "INSERT INTO teacher_rent_histories " +
+            "(teacher_id, rent_history_id, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> batchInsert(List<RentHistory> rentHistories) {
+        if (rentHistories.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (RentHistory rentHistory : rentHistories) {
+                    statement.setLong(1, rentHistory.getEquipment().getId());
+                    statement.setString(2, rentHistory.getStatus().name());
+                    statement.setString(3, rentHistory.getRenterType().name());
+                    statement.setLong(4, rentHistory.getRenterId());
+                    statement.setTimestamp(5, Timestamp.valueOf(rentHistory.getRentedAt()));
+                    statement.setTimestamp(6, Timestamp.valueOf(rentHistory.getDueAt()));
+                    statement.setTimestamp(7, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rentHistories.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != rentHistories.size()) {
+                    throw new IllegalStateException("생성된 대여 기록 키 수가 맞지 않습니다: " + ids.size() + "/" + rentHistories.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    @Override
+    public void batchInsertRenterLinks(UserType renterType, Long renterId, List<Long> rentHistoryIds) {
+        if (rentHistoryIds.isEmpty()) {
+            return;
+        }
+
+        String sql = switch (renterType) {
+            case STUDENT -> INSERT_STUDENT_LINK_SQL;
+            case TEACHER -> INSERT_TEACHER_LINK_SQL;
+            default -> throw new IllegalArgumentException("학생 또는 교사만 대여할 수 있습니다: " + renterType);
+        };
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, rentHistoryIds, rentHistoryIds.size(), (statement, rentHistoryId) -> {
+            statement.setLong(1, renterId);
+            statement.setLong(2, rentHistoryId);
+            statement.setTimestamp(3, now);
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import jakarta.persistence.QueryHint;
+import kr.hs.sdh.digitechnetwork.entity.Reservation;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reservation Repository
+ * 기자재 예약(Reservation) 엔티티에 대한 데이터 접근 계층
+ * 
+ * 주요 기능:
+ * - 예약 기본 CRUD 작업
+ * - 예약자별 예약 조회
+ * - 구간이 겹치는 예약 조회 ((equipment_id, status, startAt, endAt) 인덱스 범위 조회)
+ * - 예약 색인 구성/동기화용 조회
+ * 
+ * 두 구간 [s1, e1), [s2, e2) 는 s1 < e2 이고 e1 > s2 일 때 겹칩니다.
+ * 
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    
+    /**
+     * 예약 조회 (기자재 포함)
+     * 
+     * @param id 예약 ID
+     * @return 예약 (Optional)
+     */
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.equipment WHERE r.id = :id")
+    Optional<Reservation> findWithEquipmentById(@Param("id") Long id);
+    
+    /**
+     * 예약자의 예약 조회 (기자재 포함, 시작 시각 최신순)
+     * 
+     * @param reserverType 예약자 타입
+     * @param reserverId 예약자 ID
+     * @return 예약 목록
+     */
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.equipment " +
+           "WHERE r.reserverType = :reserverType AND r.reserverId = :reserverId ORDER BY r.startAt DESC")
+    List<Reservation> findByReserver(@Param("reserverType") UserType reserverType, @Param("reserverId") Long reserverId);
+    
+    /**
+     * 구간이 겹치는 예약 존재 여부 (예약 확정 전 최종 확인)
+     * 
+     * @param equipmentId 기자재 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 겹치는 예약이 있으면 true
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.equipment.id = :equipmentId " +
+           "AND r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.RESERVED " +
+           "AND r.startAt < :endAt AND r.endAt > :startAt")
+    boolean existsOverlapping(@Param("equipmentId") Long equipmentId, @Param("startAt") LocalDateTime startAt,
+                              @Param("endAt") LocalDateTime endAt);
+    
+    /**
+     * 구간이 겹치는 예약 조회 (시작 시각 순)
+     * 
+     * @param equipmentId 기자재 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 예약 목록
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.equipment.id = :equipmentId " +
+           "AND r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.RESERVED " +
+           "AND r.startAt < :endAt AND r.endAt > :startAt ORDER BY r.startAt")
+    List<Reservation> findOverlapping(@Param("equipmentId") Long equipmentId, @Param("startAt") LocalDateTime startAt,
+                                      @Param("endAt") LocalDateTime endAt);
+    
+    /**
+     * 목록 중 구간이 겹치는 예약이 있는 기자재 ID 조회 (색인이 준비되기 전 빈 기자재 조회용)
+     * 
+     * @param equipmentIds 기자재 ID 목록
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 예약이 있는 기자재 ID
+     */
+    @Query("SELECT DISTINCT r.equipment.id FROM Reservation r WHERE r.equipment.id IN :equipmentIds " +
+           "AND r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.RESERVED " +
+           "AND r.startAt < :endAt AND r.endAt > :startAt")
+    List<Long> findReservedEquipmentIds(@Param("equipmentIds") Collection<Long> equipmentIds,
+                                        @Param("startAt") LocalDateTime startAt, @Param("endAt") LocalDateTime endAt);
+    
+    /**
+     * 아직 끝나지 않은 예약 스트리밍 조회 (예약 색인 구성용)
+     * 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 함
+     * 
+     * @param now 기준 시각
+     * @return 예약 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Reservation r " +
+           "WHERE r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.RESERVED AND r.endAt > :now")
+    Stream<Reservation> streamActiveEndingAfter(@Param("now") LocalDateTime now);
+    
+    /**
+     * 특정 시각 이후 생성/변경된 예약 조회 (다른 인스턴스의 예약/취소를 색인에 반영)
+     * 
+     * @param since 기준 시각
+     * @return 예약 목록
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.createdAt > :since OR r.lastUpdateTime > :since")
+    List<Reservation> findChangedSince(@Param("since") LocalDateTime since);
+    
+    /**
+     * 예약 취소 (예약된 상태일 때만 변경하는 조건부 UPDATE, 중복 취소 방지)
+     * 
+     * @param id 예약 ID
+     * @param now 수정 시각
+     * @return 변경된 행 수 (0 이면 이미 취소됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.CANCELLED, " +
+           "r.lastUpdateTime = :now " +
+           "WHERE r.id = :id AND r.status = kr.hs.sdh.digitechnetwork.enums.ReservationStatus.RESERVED")
+    int cancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,48 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RevokedToken Repository
+ * 폐기된 토큰(RevokedToken) 엔티티에 대한 데이터 접근 계층
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 기록 조회 (기동 시 메모리 색인 적재용)
+     * @param now 기준 시각
+     * @return 폐기 기록 목록
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 특정 시각 이후의 폐기 기록 조회 (다른 인스턴스의 폐기 동기화용)
+     * @param since 기준 시각
+     * @return 폐기 기록 목록
+     */
+    List<RevokedToken> findByRevokedAtAfter(LocalDateTime since);
+
+    /**
+     * 만료된 폐기 기록 일괄 삭제
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
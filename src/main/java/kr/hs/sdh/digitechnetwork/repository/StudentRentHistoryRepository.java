@@ -1,6 +1,7 @@
 package kr.hs.sdh.digitechnetwork.repository;
 
 import kr.hs.sdh.digitechnetwork.entity.StudentRentHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,8 @@ import java.util.Optional;
  * - 대여 이력별 학생 정보 조회
  * - 기간별 대여 이력 통계 및 조회
  * 
+ * 목록 조회는 엔티티 그래프(StudentRentHistory.withStudentAndRentHistory)로 학생/대여 이력을 함께 조회하여 N+1 쿼리를 방지합니다.
+ * 
  * 이 Repository는 Student와 RentHistory 간의 중간 테이블을 관리하며,
  * 학생의 기자재 대여 이력을 추적하고 통계 정보를 제공합니다.
  * 
@@ -37,6 +40,7 @@ public interface StudentRentHistoryRepository extends JpaRepository<StudentRentH
      * @param studentId 학생 ID
      * @return 해당 학생의 대여 이력 목록
      */
+    @EntityGraph("StudentRentHistory.withStudentAndRentHistory")
     List<StudentRentHistory> findByStudentId(Long studentId);
     
     /**
@@ -46,6 +50,7 @@ public interface StudentRentHistoryRepository extends JpaRepository<StudentRentH
      * @param rentHistoryId 대여 이력 ID
      * @return 해당 대여 이력의 학생 대여 정보 목록
      */
+    @EntityGraph("StudentRentHistory.withStudentAndRentHistory")
     List<StudentRentHistory> findByRentHistoryId(Long rentHistoryId);
     
     /**
@@ -56,6 +61,7 @@ public interface StudentRentHistoryRepository extends JpaRepository<StudentRentH
      * @param rentHistoryId 대여 이력 ID
      * @return 해당 조건의 학생 대여 이력 (Optional)
      */
+    @EntityGraph("StudentRentHistory.withStudentAndRentHistory")
     Optional<StudentRentHistory> findByStudentIdAndRentHistoryId(Long studentId, Long rentHistoryId);
     
     /**
@@ -86,6 +92,7 @@ public interface StudentRentHistoryRepository extends JpaRepository<StudentRentH
      * @param endDate 종료 날짜
      * @return 해당 기간의 학생 대여 이력 목록 (최신순 정렬)
      */
+    @EntityGraph("StudentRentHistory.withStudentAndRentHistory")
     @Query("SELECT srh FROM StudentRentHistory srh WHERE srh.createdAt BETWEEN :startDate AND :endDate ORDER BY srh.createdAt DESC")
     List<StudentRentHistory> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
@@ -98,6 +105,7 @@ public interface StudentRentHistoryRepository extends JpaRepository<StudentRentH
      * @param endDate 종료 날짜
      * @return 해당 조건의 학생 대여 이력 목록 (최신순 정렬)
      */
+    @EntityGraph("StudentRentHistory.withStudentAndRentHistory")
     @Query("SELECT srh FROM StudentRentHistory srh WHERE srh.student.id = :studentId AND srh.createdAt BETWEEN :startDate AND :endDate ORDER BY srh.createdAt DESC")
     List<StudentRentHistory> findByStudentIdAndDateRange(@Param("studentId") Long studentId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
@@ -31,6 +31,25 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Query("SELECT s FROM Student s WHERE s.role = :role")
     List<Student> findByRole(@Param("role") UserType role);
 
+    // 활성화 여부만 조회 (인증 필터의 사용자 상태 캐시용, 엔티티 미적재)
+    @Query("SELECT s.isEnabled FROM Student s WHERE s.id = :id")
+    Optional<Boolean> findIsEnabledById(@Param("id") Long id);
+
+    // 이메일로 학생/교사를 한 번에 조회 (로그인용, 학생이 먼저 오도록 정렬)
+    @Query(nativeQuery = true, value = """
+            SELECT 'STUDENT' AS source, s.student_id AS id, s.email AS email, s.name AS name,
+                   s.phone_number AS phoneNumber, s.role AS role, s.is_enabled AS isEnabled, s.bio AS bio,
+                   s.grade AS grade, s.classroom AS classroom, s.student_number AS studentNumber
+            FROM students s WHERE s.email = :email
+            UNION ALL
+            SELECT 'TEACHER', t.teacher_id, t.email, t.name,
+                   t.phone_number, t.role, t.is_enabled, t.bio,
+                   NULL, NULL, NULL
+            FROM teachers t WHERE t.email = :email
+            ORDER BY source
+            """)
+    List<UserIdentity> findIdentitiesByEmail(@Param("email") String email);
+
     // 활성 사용자 조회
     @Query("SELECT s FROM Student s WHERE s.isEnabled = true")
     List<Student> findActiveUsers();
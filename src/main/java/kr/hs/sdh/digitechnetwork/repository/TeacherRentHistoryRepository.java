@@ -1,6 +1,7 @@
 package kr.hs.sdh.digitechnetwork.repository;
 
 import kr.hs.sdh.digitechnetwork.entity.TeacherRentHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,8 @@ import java.util.Optional;
  * - 대여 이력별 교사 정보 조회
  * - 기간별 대여 이력 통계 및 조회
  * 
+ * 목록 조회는 엔티티 그래프(TeacherRentHistory.withTeacherAndRentHistory)로 교사/대여 이력을 함께 조회하여 N+1 쿼리를 방지합니다.
+ * 
  * 이 Repository는 Teacher와 RentHistory 간의 중간 테이블을 관리하며,
  * 교사의 기자재 대여 이력을 추적하고 통계 정보를 제공합니다.
  * 
@@ -37,6 +40,7 @@ public interface TeacherRentHistoryRepository extends JpaRepository<TeacherRentH
      * @param teacherId 교사 ID
      * @return 해당 교사의 대여 이력 목록
      */
+    @EntityGraph("TeacherRentHistory.withTeacherAndRentHistory")
     List<TeacherRentHistory> findByTeacherId(Long teacherId);
     
     /**
@@ -46,6 +50,7 @@ public interface TeacherRentHistoryRepository extends JpaRepository<TeacherRentH
      * @param rentHistoryId 대여 이력 ID
      * @return 해당 대여 이력의 교사 대여 정보 목록
      */
+    @EntityGraph("TeacherRentHistory.withTeacherAndRentHistory")
     List<TeacherRentHistory> findByRentHistoryId(Long rentHistoryId);
     
     /**
@@ -56,6 +61,7 @@ public interface TeacherRentHistoryRepository extends JpaRepository<TeacherRentH
      * @param rentHistoryId 대여 이력 ID
      * @return 해당 조건의 교사 대여 이력 (Optional)
      */
+    @EntityGraph("TeacherRentHistory.withTeacherAndRentHistory")
     Optional<TeacherRentHistory> findByTeacherIdAndRentHistoryId(Long teacherId, Long rentHistoryId);
     
     /**
@@ -86,6 +92,7 @@ public interface TeacherRentHistoryRepository extends JpaRepository<TeacherRentH
      * @param endDate 종료 날짜
      * @return 해당 기간의 교사 대여 이력 목록 (최신순 정렬)
      */
+    @EntityGraph("TeacherRentHistory.withTeacherAndRentHistory")
     @Query("SELECT trh FROM TeacherRentHistory trh WHERE trh.createdAt BETWEEN :startDate AND :endDate ORDER BY trh.createdAt DESC")
     List<TeacherRentHistory> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
@@ -98,6 +105,7 @@ public interface TeacherRentHistoryRepository extends JpaRepository<TeacherRentH
      * @param endDate 종료 날짜
      * @return 해당 조건의 교사 대여 이력 목록 (최신순 정렬)
      */
+    @EntityGraph("TeacherRentHistory.withTeacherAndRentHistory")
     @Query("SELECT trh FROM TeacherRentHistory trh WHERE trh.teacher.id = :teacherId AND trh.createdAt BETWEEN :startDate AND :endDate ORDER BY trh.createdAt DESC")
     List<TeacherRentHistory> findByTeacherIdAndDateRange(@Param("teacherId") Long teacherId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
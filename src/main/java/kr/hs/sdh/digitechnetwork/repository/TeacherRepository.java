@@ -27,6 +27,10 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     @Query("SELECT t FROM Teacher t WHERE t.role = :role")
     List<Teacher> findByRole(@Param("role") UserType role);
 
+    // 활성화 여부만 조회 (인증 필터의 사용자 상태 캐시용, 엔티티 미적재)
+    @Query("SELECT t.isEnabled FROM Teacher t WHERE t.id = :id")
+    Optional<Boolean> findIsEnabledById(@Param("id") Long id);
+
     // 활성 사용자 조회
     @Query("SELECT t FROM Teacher t WHERE t.isEnabled = true")
     List<Teacher> findActiveUsers();
@@ -0,0 +1,40 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+/**
+ * 학생/교사 통합 사용자 조회 결과 (프로젝션)
+ * 로그인 시 두 테이블을 한 번의 쿼리로 조회하기 위해 사용
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface UserIdentity {
+
+    /**
+     * 조회된 테이블 (STUDENT 또는 TEACHER)
+     */
+    String getSource();
+
+    Long getId();
+
+    String getEmail();
+
+    String getName();
+
+    String getPhoneNumber();
+
+    String getRole();
+
+    Boolean getIsEnabled();
+
+    String getBio();
+
+    /**
+     * 학생만 값이 있음
+     */
+    Integer getGrade();
+
+    Integer getClassroom();
+
+    Integer getStudentNumber();
+}
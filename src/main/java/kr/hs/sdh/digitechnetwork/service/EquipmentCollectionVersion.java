@@ -0,0 +1,75 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 기자재 목록 버전
+ * 목록 조회의 조건부 요청(ETag/Last-Modified) 판정을 쿼리 없이 하기 위한 변경 카운터
+ *
+ * 기자재가 바뀔 때마다 버전이 올라가며, ETag 에는 인스턴스마다 다른 값을 함께 넣어
+ * 재시작하거나 다른 인스턴스로 요청이 가더라도 서로 다른 목록에 같은 ETag 가 붙지 않도록 합니다.
+ * (이 경우 304 대신 전체 응답이 나갈 뿐 잘못된 304 는 나가지 않음)
+ *
+ * 이 인스턴스의 변경은 커밋 직후, 다른 인스턴스의 변경은 검색 색인 동기화 주기에 맞춰 반영됩니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Component
+public class EquipmentCollectionVersion {
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(
+            new Snapshot(0, roundToSeconds(System.currentTimeMillis())));
+
+    /**
+     * 현재 버전
+     * @return 버전과 마지막 변경 시각
+     */
+    public Snapshot current() {
+        return current.get();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 버전 증가
+     */
+    public void incrementAfterCommit() {
+        TransactionUtils.afterCommit(this::increment);
+    }
+
+    /**
+     * 버전 증가 (다른 인스턴스의 변경을 감지했을 때 등)
+     */
+    public void increment() {
+        long now = roundToSeconds(System.currentTimeMillis());
+        current.updateAndGet(previous -> new Snapshot(previous.version() + 1, Math.max(now, previous.lastModifiedMillis())));
+    }
+
+    /**
+     * 목록 ETag
+     * @param snapshot 버전
+     * @return 강한 ETag ("인스턴스-버전")
+     */
+    public String eTag(Snapshot snapshot) {
+        return "\"" + instanceId + "-" + snapshot.version() + "\"";
+    }
+
+    // Last-Modified 는 초 단위이므로 비교가 어긋나지 않도록 미리 자름
+    private static long roundToSeconds(long millis) {
+        return millis - millis % 1000;
+    }
+
+    /**
+     * 버전 스냅샷
+     * @param version 변경 횟수
+     * @param lastModifiedMillis 마지막 변경 시각 (epoch millis, 초 단위)
+     */
+    public record Snapshot(long version, long lastModifiedMillis) {
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentImportResultDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentImportSummaryDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentImportFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * 기자재 일괄 등록 Service 의 인터페이스
+ * 학기 초 대량 등록처럼 수천 건의 기자재를 한 번에 등록
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface EquipmentImportService {
+
+    /**
+     * 기자재 일괄 등록 (관리자만)
+     * 입력을 일정 크기씩 읽어 처리하므로 파일 크기와 관계없이 메모리 사용량이 일정하며,
+     * 묶음마다 커밋하므로 중간에 실패해도 앞에서 등록된 행은 유지됨
+     *
+     * 입력 필드: identifier, name, description, cautionMessage, equipmentTypeId 또는 type(타입명), status, isPublic
+     *
+     * @param reader 입력 (CSV 는 첫 줄이 헤더)
+     * @param format 입력 형식
+     * @param report 행별 결과 (입력 순서대로 호출)
+     * @return 처리 요약
+     * @throws IOException 입력을 읽을 수 없는 경우
+     */
+    EquipmentImportSummaryDto importEquipments(Reader reader, EquipmentImportFormat format,
+                                               Consumer<EquipmentImportResultDto> report) throws IOException;
+}
@@ -0,0 +1,429 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentImportResultDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentImportSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.EquipmentType;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentImportFormat;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentImportStatus;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentTypeRepository;
+import kr.hs.sdh.digitechnetwork.utility.CsvReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기자재 일괄 등록 Service 구현체
+ *
+ * 처리 방식:
+ * - 기자재 타입은 시작할 때 한 번 모두 읽어 ID/이름으로 찾음 (행마다 조회하지 않음)
+ * - 입력을 chunk-size 행씩 묶어, 묶음마다 한 트랜잭션에서
+ *   IN 쿼리 한 번으로 기존 식별자를 확인하고 JDBC 배치로 저장
+ * - 다른 요청이 같은 식별자를 먼저 등록해 유니크 제약에 걸리면 그 묶음만 다시 확인하여 한 번 더 시도
+ * - 등록된 기자재는 커밋 후 검색 색인, 상태별 개수, 목록 버전에 반영
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EquipmentImportServiceImpl implements EquipmentImportService {
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final EquipmentRepository equipmentRepository;
+    private final EquipmentTypeRepository equipmentTypeRepository;
+    private final EquipmentSearchIndex equipmentSearchIndex;
+    private final EquipmentStatusCounters equipmentStatusCounters;
+    private final EquipmentCollectionVersion equipmentCollectionVersion;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${equipment.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public EquipmentImportSummaryDto importEquipments(Reader reader, EquipmentImportFormat format,
+                                                      Consumer<EquipmentImportResultDto> report) throws IOException {
+        long start = System.currentTimeMillis();
+        List<EquipmentType> types = equipmentTypeRepository.findAll();
+        Map<Long, EquipmentType> typesById = types.stream()
+                .collect(Collectors.toMap(EquipmentType::getId, Function.identity()));
+        Map<String, EquipmentType> typesByName = types.stream()
+                .collect(Collectors.toMap(EquipmentType::getType, Function.identity(), (first, second) -> first));
+
+        RowSource source = format == EquipmentImportFormat.CSV
+                ? new CsvRowSource(new CsvReader(reader))
+                : new NdjsonRowSource(new BufferedReader(reader));
+        ImportCounts counts = new ImportCounts();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        ImportRow row;
+        while ((row = source.next()) != null) {
+            if (row.status == null) {
+                resolve(row, typesById, typesByName);
+            }
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, report, counts);
+            }
+        }
+        flush(chunk, report, counts);
+
+        EquipmentImportSummaryDto summary = counts.toSummary(System.currentTimeMillis() - start);
+        log.info("기자재 일괄 등록 완료 (관리자): 전체 {}건, 등록 {}건, 중복 {}건, 오류 {}건, 실패 {}건, {}ms",
+                summary.getTotalCount(), summary.getCreatedCount(), summary.getDuplicateCount(),
+                summary.getInvalidCount(), summary.getFailedCount(), summary.getElapsedMillis());
+        return summary;
+    }
+
+    /**
+     * 묶음 저장 후 행별 결과 보고
+     */
+    private void flush(List<ImportRow> chunk, Consumer<EquipmentImportResultDto> report, ImportCounts counts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 파일 안에서 중복된 식별자는 처음 나온 행만 저장
+        Map<String, ImportRow> candidates = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            if (row.status != null) {
+                continue;
+            }
+            if (candidates.putIfAbsent(row.identifier, row) != null) {
+                row.reject(EquipmentImportStatus.DUPLICATE, "파일 안에서 중복된 식별자입니다.");
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existing;
+            try {
+                existing = insertChunk(candidates);
+            } catch (DataIntegrityViolationException first) {
+                log.warn("기자재 일괄 등록 중 식별자 충돌, 묶음을 다시 시도합니다: {}행", candidates.size());
+                try {
+                    existing = insertChunk(candidates);
+                } catch (RuntimeException second) {
+                    log.error("기자재 일괄 등록 묶음 저장 실패", second);
+                    candidates.values().forEach(row -> row.reject(EquipmentImportStatus.FAILED, "저장하지 못했습니다."));
+                    existing = Set.of();
+                }
+            }
+            for (ImportRow row : candidates.values()) {
+                if (row.status != null) {
+                    continue;
+                }
+                if (existing.contains(row.identifier)) {
+                    row.reject(EquipmentImportStatus.DUPLICATE, "이미 존재하는 식별자입니다.");
+                } else {
+                    row.status = EquipmentImportStatus.CREATED;
+                }
+            }
+        }
+
+        for (ImportRow row : chunk) {
+            counts.add(row.status);
+            report.accept(EquipmentImportResultDto.builder()
+                    .line(row.line)
+                    .identifier(row.identifier)
+                    .status(row.status)
+                    .message(row.message)
+                    .build());
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 한 트랜잭션에서 기존 식별자를 확인하고 나머지를 배치 저장
+     * @return 이미 존재하여 저장하지 않은 식별자
+     */
+    private Set<String> insertChunk(Map<String, ImportRow> candidates) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>(equipmentRepository.findExistingIdentifiers(candidates.keySet()));
+            List<Equipment> equipments = new ArrayList<>(candidates.size());
+            List<String> inserted = new ArrayList<>(candidates.size());
+            candidates.forEach((identifier, row) -> {
+                if (!existing.contains(identifier)) {
+                    equipments.add(row.equipment);
+                    inserted.add(identifier);
+                }
+            });
+            if (equipments.isEmpty()) {
+                return existing;
+            }
+
+            equipmentRepository.batchInsert(equipments);
+            for (EquipmentSummaryDto summary : equipmentRepository.findSummariesByIdentifiers(inserted)) {
+                equipmentSearchIndex.indexAfterCommit(summary);
+                equipmentStatusCounters.recordCreated(summary.getStatus(), summary.getIsPublic());
+            }
+            equipmentCollectionVersion.incrementAfterCommit();
+            return existing;
+        });
+    }
+
+    /**
+     * 입력 필드를 검증하여 저장할 기자재 생성 (잘못된 행은 INVALID 로 표시)
+     */
+    private void resolve(ImportRow row, Map<Long, EquipmentType> typesById, Map<String, EquipmentType> typesByName) {
+        Map<String, String> values = row.values;
+        String identifier = trimToNull(values.get("identifier"));
+        row.identifier = identifier;
+        if (identifier == null) {
+            row.reject(EquipmentImportStatus.INVALID, "기자재 식별자는 필수입니다.");
+            return;
+        }
+        String name = trimToNull(values.get("name"));
+        if (name == null) {
+            row.reject(EquipmentImportStatus.INVALID, "기자재 이름은 필수입니다.");
+            return;
+        }
+        for (String column : List.of("identifier", "name", "description", "cautionMessage")) {
+            String value = values.get(column);
+            if (value != null && value.length() > MAX_COLUMN_LENGTH) {
+                row.reject(EquipmentImportStatus.INVALID, column + " 은(는) " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.");
+                return;
+            }
+        }
+
+        EquipmentType equipmentType;
+        String typeId = trimToNull(values.get("equipmentTypeId"));
+        String typeName = trimToNull(values.get("type"));
+        if (typeId != null) {
+            try {
+                equipmentType = typesById.get(Long.parseLong(typeId));
+            } catch (NumberFormatException e) {
+                equipmentType = null;
+            }
+        } else if (typeName != null) {
+            equipmentType = typesByName.get(typeName);
+        } else {
+            row.reject(EquipmentImportStatus.INVALID, "기자재 타입은 필수입니다.");
+            return;
+        }
+        if (equipmentType == null) {
+            row.reject(EquipmentImportStatus.INVALID, "존재하지 않는 기자재 타입입니다: " + (typeId != null ? typeId : typeName));
+            return;
+        }
+
+        EquipmentStatus status = EquipmentStatus.AVAILABLE;
+        String statusValue = trimToNull(values.get("status"));
+        if (statusValue != null) {
+            try {
+                status = EquipmentStatus.valueOf(statusValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                row.reject(EquipmentImportStatus.INVALID, "잘못된 기자재 상태입니다: " + statusValue);
+                return;
+            }
+        }
+
+        boolean isPublic = true;
+        String publicValue = trimToNull(values.get("isPublic"));
+        if (publicValue != null) {
+            if (!publicValue.equalsIgnoreCase("true") && !publicValue.equalsIgnoreCase("false")) {
+                row.reject(EquipmentImportStatus.INVALID, "공개 여부는 true 또는 false 여야 합니다: " + publicValue);
+                return;
+            }
+            isPublic = Boolean.parseBoolean(publicValue);
+        }
+
+        row.equipment = Equipment.builder()
+                .identifier(identifier)
+                .name(name)
+                .description(trimToNull(values.get("description")))
+                .cautionMessage(trimToNull(values.get("cautionMessage")))
+                .equipmentType(equipmentType)
+                .status(status)
+                .isPublic(isPublic)
+                .build();
+        row.values = null; // 묶음이 찰 때까지 원본 필드는 더 필요 없음
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.strip();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * 입력 행 공급자
+     */
+    private interface RowSource {
+        /**
+         * @return 다음 행 (끝이면 null)
+         */
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * CSV 입력 (첫 줄 헤더의 열 이름을 필드 이름으로 사용)
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private final CsvReader csvReader;
+        private List<String> header;
+
+        private CsvRowSource(CsvReader csvReader) {
+            this.csvReader = csvReader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (header == null) {
+                List<String> columns = csvReader.next();
+                if (columns == null) {
+                    return null;
+                }
+                header = new ArrayList<>(columns.size());
+                for (String column : columns) {
+                    header.add(column.replace("\uFEFF", "").strip()); // 엑셀 BOM
+                }
+            }
+
+            List<String> fields = csvReader.next();
+            if (fields == null) {
+                return null;
+            }
+            ImportRow row = new ImportRow(csvReader.getRecordLineNumber());
+            if (fields.size() != header.size()) {
+                row.identifier = !fields.isEmpty() ? trimToNull(fields.get(0)) : null;
+                row.reject(EquipmentImportStatus.INVALID,
+                        "열 수가 헤더와 다릅니다. (헤더 " + header.size() + "개, 행 " + fields.size() + "개)");
+                return row;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                row.values.put(header.get(i), fields.get(i));
+            }
+            return row;
+        }
+    }
+
+    /**
+     * NDJSON 입력 (한 줄에 JSON 객체 하나, 빈 줄은 건너뜀)
+     */
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            ImportRow row = new ImportRow(lineNumber);
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                row.reject(EquipmentImportStatus.INVALID, "JSON 형식이 올바르지 않습니다.");
+                return row;
+            }
+            if (!node.isObject()) {
+                row.reject(EquipmentImportStatus.INVALID, "JSON 객체가 아닙니다.");
+                return row;
+            }
+            node.properties().forEach(entry -> {
+                if (entry.getValue().isValueNode() && !entry.getValue().isNull()) {
+                    row.values.put(entry.getKey(), entry.getValue().asText());
+                }
+            });
+            return row;
+        }
+    }
+
+    /**
+     * 처리 중인 행
+     */
+    private static final class ImportRow {
+        private final long line;
+        private Map<String, String> values = new HashMap<>();
+        private String identifier;
+        private Equipment equipment;
+        private EquipmentImportStatus status; // 결과가 정해지기 전에는 null
+        private String message;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+
+        private void reject(EquipmentImportStatus status, String message) {
+            this.status = status;
+            this.message = message;
+            this.equipment = null;
+            this.values = null;
+        }
+    }
+
+    private static final class ImportCounts {
+        private long total;
+        private long created;
+        private long duplicate;
+        private long invalid;
+        private long failed;
+
+        private void add(EquipmentImportStatus status) {
+            total++;
+            switch (status) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicate++;
+                case INVALID -> invalid++;
+                case FAILED -> failed++;
+            }
+        }
+
+        private EquipmentImportSummaryDto toSummary(long elapsedMillis) {
+            return EquipmentImportSummaryDto.builder()
+                    .totalCount(total)
+                    .createdCount(created)
+                    .duplicateCount(duplicate)
+                    .invalidCount(invalid)
+                    .failedCount(failed)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+    }
+}
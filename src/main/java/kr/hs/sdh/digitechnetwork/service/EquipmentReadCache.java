@@ -0,0 +1,111 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.utility.ExpiringCache;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 기자재 읽기 모델 캐시 (read-through)
+ * 상세 조회와 대여 창구의 QR 스캔(식별자 조회)이 매번 데이터베이스를 조회하지 않도록 ID, 식별자 양쪽 키로 보관
+ *
+ * 엔티티가 아닌 읽기 모델(EquipmentSummaryDto)을 보관하므로 영속성 컨텍스트나 지연 로딩과 무관하며,
+ * 존재하지 않는 기자재는 캐시하지 않습니다.
+ * 무효화는 쓰기 트랜잭션이 커밋된 뒤에 하여, 커밋 전 다른 요청이 옛 값을 다시 적재하는 것을 막습니다.
+ * 다른 인스턴스의 변경은 TTL 이 지나면 반영됩니다.
+ *
+ * 설정 항목:
+ * - equipment.cache.max-size: 키 종류별 최대 항목 수
+ * - equipment.cache.ttl: 보관 기간 (밀리초)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipmentReadCache {
+
+    private final EquipmentRepository equipmentRepository;
+
+    @Value("${equipment.cache.max-size:10000}")
+    private int maximumSize;
+
+    @Value("${equipment.cache.ttl:300000}") // 5분 (밀리초)
+    private long ttlMillis;
+
+    private ExpiringCache<Long, EquipmentSummaryDto> byId;
+
+    private ExpiringCache<String, EquipmentSummaryDto> byIdentifier;
+
+    @PostConstruct
+    void initialize() {
+        this.byId = new ExpiringCache<>(maximumSize);
+        this.byIdentifier = new ExpiringCache<>(maximumSize);
+    }
+
+    /**
+     * ID 로 조회 (캐시 미스 시 읽기 모델 한 건 조회)
+     * @param id 기자재 ID
+     * @return 기자재 읽기 모델
+     */
+    public Optional<EquipmentSummaryDto> getById(Long id) {
+        return Optional.ofNullable(byId.get(id, this::loadById, Duration.ofMillis(ttlMillis)));
+    }
+
+    /**
+     * 식별자로 조회 (캐시 미스 시 읽기 모델 한 건 조회)
+     * @param identifier 기자재 식별자
+     * @return 기자재 읽기 모델
+     */
+    public Optional<EquipmentSummaryDto> getByIdentifier(String identifier) {
+        return Optional.ofNullable(byIdentifier.get(identifier, this::loadByIdentifier, Duration.ofMillis(ttlMillis)));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 기자재 캐시 무효화
+     * @param id 기자재 ID
+     * @param identifiers 무효화할 식별자 (변경 전/후 식별자, null 은 무시)
+     */
+    public void invalidateAfterCommit(Long id, String... identifiers) {
+        List<String> keys = Arrays.stream(identifiers).filter(Objects::nonNull).distinct().toList();
+        TransactionUtils.afterCommit(() -> {
+            byId.invalidate(id);
+            keys.forEach(byIdentifier::invalidate);
+            log.debug("기자재 캐시 무효화: id={}, identifiers={}", id, keys);
+        });
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 키 종류별 적중률, 축출 수, 평균 로드 시간 등
+     */
+    public Map<String, ExpiringCache.Stats> getStats() {
+        Map<String, ExpiringCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("byId", byId.stats());
+        stats.put("byIdentifier", byIdentifier.stats());
+        return stats;
+    }
+
+    private EquipmentSummaryDto loadById(Long id) {
+        return equipmentRepository.findSummariesByIds(List.of(id)).stream().findFirst().orElse(null);
+    }
+
+    private EquipmentSummaryDto loadByIdentifier(String identifier) {
+        return equipmentRepository.findSummaryByIdentifier(identifier).orElse(null);
+    }
+}
@@ -0,0 +1,235 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.utility.NGramIndex;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 기자재 검색 색인
+ * 식별자, 이름, 타입명, 설명, 주의사항을 문자 n-gram 으로 색인하여 LIKE 전체 스캔 없이 순위가 매겨진 검색 결과 제공
+ *
+ * 생명 주기:
+ * - 애플리케이션 기동 후 별도 스레드에서 전체 기자재를 스트리밍 조회하여 색인을 만듦 (완료 전에는 준비되지 않음)
+ * - 재구성 중 들어온 변경은 모아 두었다가 새 색인에 다시 적용한 뒤 교체
+ * - 이 인스턴스의 등록/수정/삭제는 트랜잭션 커밋 후 즉시 반영
+ * - 다른 인스턴스의 변경은 주기적으로 생성/수정 시각 기준으로 가져옴 (목록 버전도 함께 올림)
+ *
+ * 필드 가중치: 식별자/이름 3, 타입명 2, 설명/주의사항 1
+ * 논리적으로 삭제된 기자재(사용 불가 + 비공개)는 색인하지 않습니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipmentSearchIndex {
+
+    private static final double IDENTIFIER_WEIGHT = 3.0;
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double TYPE_WEIGHT = 2.0;
+    private static final double TEXT_WEIGHT = 1.0;
+
+    private final EquipmentRepository equipmentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EquipmentCollectionVersion equipmentCollectionVersion;
+
+    private final Object updateLock = new Object();
+
+    private volatile NGramIndex index; // 첫 재구성이 끝나기 전에는 null
+
+    private List<Consumer<NGramIndex>> pendingUpdates; // 재구성 중에만 null 이 아님 (updateLock 으로 보호)
+
+    private volatile LocalDateTime lastSynchronizedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        Thread.ofVirtual().name("equipment-search-index").start(this::rebuild);
+    }
+
+    /**
+     * 전체 기자재로 색인 재구성
+     * 재구성이 이미 진행 중이면 아무것도 하지 않음
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                return;
+            }
+            pendingUpdates = new ArrayList<>();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        NGramIndex rebuilt = new NGramIndex();
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<EquipmentSummaryDto> rows = equipmentRepository.streamAllSummaries()) {
+                    rows.filter(row -> !isDeleted(row.getStatus(), row.getIsPublic()))
+                            .forEach(row -> rebuilt.put(row.getId(), fields(row.getIdentifier(), row.getName(),
+                                    row.getTypeName(), row.getDescription(), row.getCautionMessage())));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("기자재 검색 색인 재구성 실패", e);
+            synchronized (updateLock) {
+                pendingUpdates = null;
+            }
+            return;
+        }
+
+        synchronized (updateLock) {
+            pendingUpdates.forEach(update -> update.accept(rebuilt));
+            pendingUpdates = null;
+            index = rebuilt;
+            lastSynchronizedAt = startedAt;
+        }
+        log.info("기자재 검색 색인 재구성 완료: 문서 {}건, n-gram {}개", rebuilt.size(), rebuilt.gramCount());
+    }
+
+    /**
+     * 기자재 색인 갱신 (현재 트랜잭션 커밋 후 반영, 논리적으로 삭제되었으면 제거)
+     * 색인할 내용은 지연 로딩이 가능한 지금 읽어 두고, 반영만 커밋 후에 함
+     * @param equipment 저장된 기자재
+     */
+    public void indexAfterCommit(Equipment equipment) {
+        long id = equipment.getId();
+        if (isDeleted(equipment.getStatus(), equipment.getIsPublic())) {
+            TransactionUtils.afterCommit(() -> apply(current -> current.remove(id)));
+            return;
+        }
+        List<NGramIndex.Field> fields = fields(equipment.getIdentifier(), equipment.getName(),
+                equipment.getEquipmentType() != null ? equipment.getEquipmentType().getType() : null,
+                equipment.getDescription(), equipment.getCautionMessage());
+        TransactionUtils.afterCommit(() -> apply(current -> current.put(id, fields)));
+    }
+
+    /**
+     * 읽기 모델로 색인 갱신 (현재 트랜잭션 커밋 후 반영, 일괄 등록/변경처럼 엔티티가 없는 경로에서 사용)
+     * @param summary 저장된 기자재 읽기 모델
+     */
+    public void indexAfterCommit(EquipmentSummaryDto summary) {
+        long id = summary.getId();
+        if (isDeleted(summary.getStatus(), summary.getIsPublic())) {
+            TransactionUtils.afterCommit(() -> apply(current -> current.remove(id)));
+            return;
+        }
+        List<NGramIndex.Field> fields = fields(summary.getIdentifier(), summary.getName(),
+                summary.getTypeName(), summary.getDescription(), summary.getCautionMessage());
+        TransactionUtils.afterCommit(() -> apply(current -> current.put(id, fields)));
+    }
+
+    /**
+     * 검색
+     * @param keyword 검색어
+     * @return 점수 순 결과 (색인이 아직 준비되지 않았으면 empty)
+     */
+    public Optional<List<NGramIndex.Hit>> search(String keyword) {
+        NGramIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(keyword));
+    }
+
+    /**
+     * 색인 준비 여부
+     * @return 첫 재구성이 끝났으면 true
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 다른 인스턴스에서 등록/수정된 기자재 동기화
+     */
+    @Scheduled(fixedDelayString = "${equipment.search-index.sync-interval:60000}",
+            initialDelayString = "${equipment.search-index.sync-interval:60000}")
+    public void synchronize() {
+        if (index == null) {
+            return;
+        }
+        LocalDateTime since = lastSynchronizedAt.minusSeconds(5); // 커밋 지연 여유
+        LocalDateTime now = LocalDateTime.now();
+        List<EquipmentSummaryDto> changed = equipmentRepository.findSummariesChangedSince(since);
+        for (EquipmentSummaryDto row : changed) {
+            if (isDeleted(row.getStatus(), row.getIsPublic())) {
+                apply(current -> current.remove(row.getId()));
+                continue;
+            }
+            List<NGramIndex.Field> fields = fields(row.getIdentifier(), row.getName(),
+                    row.getTypeName(), row.getDescription(), row.getCautionMessage());
+            apply(current -> current.put(row.getId(), fields));
+        }
+        if (!changed.isEmpty()) {
+            // 이 인스턴스의 변경도 다시 잡히지만, 버전이 한 번 더 오를 뿐 잘못된 304 는 생기지 않음
+            equipmentCollectionVersion.increment();
+        }
+        this.lastSynchronizedAt = now;
+    }
+
+    /**
+     * 색인 상태 조회
+     * @return 준비 여부, 문서 수, n-gram 수
+     */
+    public Map<String, Object> getStats() {
+        NGramIndex current = index;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", current != null);
+        stats.put("documents", current != null ? current.size() : 0);
+        stats.put("grams", current != null ? current.gramCount() : 0);
+        return stats;
+    }
+
+    /**
+     * 현재 색인에 변경 적용 (재구성 중이면 새 색인에 적용할 수 있도록 기록)
+     */
+    private void apply(Consumer<NGramIndex> update) {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+            NGramIndex current = index;
+            if (current != null) {
+                update.accept(current);
+            }
+        }
+    }
+
+    private static boolean isDeleted(EquipmentStatus status, Boolean isPublic) {
+        return status == EquipmentStatus.UNAVAILABLE && Boolean.FALSE.equals(isPublic);
+    }
+
+    private static List<NGramIndex.Field> fields(String identifier, String name, String typeName,
+                                                 String description, String cautionMessage) {
+        // 식별자가 첫 번째 필드 (정확히 일치하면 추가 가산점)
+        return List.of(
+                new NGramIndex.Field(identifier, IDENTIFIER_WEIGHT),
+                new NGramIndex.Field(name, NAME_WEIGHT),
+                new NGramIndex.Field(typeName, TYPE_WEIGHT),
+                new NGramIndex.Field(description, TEXT_WEIGHT),
+                new NGramIndex.Field(cautionMessage, TEXT_WEIGHT));
+    }
+}
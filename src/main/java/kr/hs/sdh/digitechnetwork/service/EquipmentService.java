@@ -1,10 +1,15 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.dto.CursorPageResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateResultDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentPageRequestDto;
 import kr.hs.sdh.digitechnetwork.entity.Equipment;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentVersionHistoryDto;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +55,20 @@ public interface EquipmentService {
      */
     Equipment setEquipmentPublicity(Long id, Boolean isPublic);
     
+    /**
+     * 기자재 상태 일괄 변경 (한 트랜잭션에서 한 번의 UPDATE)
+     * @param request 대상(ID 목록 또는 필터)과 변경할 상태
+     * @return 변경된 기자재 ID 목록
+     */
+    EquipmentBulkUpdateResultDto changeEquipmentStatuses(EquipmentBulkUpdateRequestDto request);
+    
+    /**
+     * 기자재 공개/비공개 일괄 설정 (한 트랜잭션에서 한 번의 UPDATE)
+     * @param request 대상(ID 목록 또는 필터)과 공개 여부
+     * @return 변경된 기자재 ID 목록
+     */
+    EquipmentBulkUpdateResultDto setEquipmentPublicities(EquipmentBulkUpdateRequestDto request);
+    
     /**
      * 기자재 삭제 (논리적 삭제)
      * @param id 기자재 ID
@@ -71,51 +90,47 @@ public interface EquipmentService {
     Optional<Equipment> getEquipmentByIdentifier(String identifier);
     
     /**
-     * 모든 기자재 조회
-     *
-     * @return 기자재 목록
-     */
-    List<EquipmentInfoDto> getAllEquipments();
-    
-    /**
-     * 공개된 기자재만 조회
-     * @return 공개된 기자재 목록
+     * 기자재 상세 정보 조회 (ID로, 캐시 사용)
+     * @param id 기자재 ID
+     * @return 기자재 정보
      */
-    List<Equipment> getPublicEquipments();
+    Optional<EquipmentInfoDto> getEquipmentInfo(Long id);
     
     /**
-     * 특정 상태의 기자재 조회
-     * @param status 기자재 상태
-     * @return 해당 상태의 기자재 목록
+     * 기자재 상세 정보 조회 (식별자로, 캐시 사용)
+     * 대여 창구의 QR 스캔 조회에 사용
+     * @param identifier 기자재 식별자
+     * @return 기자재 정보
      */
-    List<Equipment> getEquipmentsByStatus(EquipmentStatus status);
+    Optional<EquipmentInfoDto> getEquipmentInfoByIdentifier(String identifier);
     
     /**
-     * 특정 타입의 기자재 조회
-     * @param typeId 기자재 타입 ID
-     * @return 해당 타입의 기자재 목록
+     * 기자재 목록 페이지 조회 (키셋 페이지네이션)
+     * 전체/공개/사용 가능/상태별/타입별/검색 목록이 모두 이 메서드를 사용
+     *
+     * @param condition 조회 조건
+     * @param pageRequest 커서, 크기, 정렬, 전체 개수 포함 여부
+     * @return 기자재 정보 페이지
      */
-    List<Equipment> getEquipmentsByType(Long typeId);
+    CursorPageResponseDto<EquipmentInfoDto> getEquipmentPage(EquipmentSearchCondition condition, EquipmentPageRequestDto pageRequest);
     
     /**
-     * 사용 가능한 기자재 조회
-     * @return 사용 가능한 기자재 목록
+     * 기자재 검색 (검색 색인 사용, 관련도 순)
+     * 식별자, 이름, 타입명, 설명, 주의사항에서 검색하며, 색인이 준비되기 전에는 데이터베이스 검색으로 처리
+     * 정렬 기준은 무시되고 커서는 검색 결과 내 위치를 나타냄
+     *
+     * @param keyword 검색어
+     * @param pageRequest 커서, 크기, 전체 개수 포함 여부
+     * @return 기자재 정보 페이지
      */
-    List<Equipment> getAvailableEquipments();
+    CursorPageResponseDto<EquipmentInfoDto> searchEquipments(String keyword, EquipmentPageRequestDto pageRequest);
     
     /**
-     * 기자재 통계 정보 조회
+     * 기자재 통계 정보 조회 (메모리 카운터에서 조회, 쿼리 없음)
      * @return 기자재 통계 정보
      */
     EquipmentStatisticsDto getEquipmentStatistics();
     
-    /**
-     * 기자재 검색
-     * @param keyword 검색 키워드
-     * @return 검색 결과
-     */
-    List<Equipment> searchEquipments(String keyword);
-    
     /**
      * 기자재 타입별 통계
      * @return 타입별 기자재 수
@@ -1,24 +1,41 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.dto.CursorPageResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateResultDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentPageRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
 import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
 import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
 import kr.hs.sdh.digitechnetwork.exception.DuplicateResourceException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
 import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentKeyset;
 import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
 import kr.hs.sdh.digitechnetwork.repository.EquipmentTypeRepository;
+import kr.hs.sdh.digitechnetwork.repository.RentHistoryRepository;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
 import kr.hs.sdh.digitechnetwork.dto.EquipmentVersionHistoryDto;
+import kr.hs.sdh.digitechnetwork.utility.NGramIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Equipment 서비스 구현체
@@ -34,8 +51,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EquipmentServiceImpl implements EquipmentService {
 
+    private static final String SEARCH_CURSOR_PREFIX = "R:";
+
     private final EquipmentRepository equipmentRepository;
     private final EquipmentTypeRepository equipmentTypeRepository;
+    private final EquipmentSearchIndex equipmentSearchIndex;
+    private final EquipmentStatusCounters equipmentStatusCounters;
+    private final EquipmentReadCache equipmentReadCache;
+    private final EquipmentCollectionVersion equipmentCollectionVersion;
+    private final RentHistoryRepository rentHistoryRepository;
 
     @Override
     @Transactional
@@ -48,6 +72,8 @@ public class EquipmentServiceImpl implements EquipmentService {
             throw new DuplicateResourceException("Equipment", equipment.getIdentifier());
         }
         
+        requireAdminSettableStatus(null, equipment.getStatus());
+        
         // 기본 상태 설정
         if (equipment.getStatus() == null) {
             equipment.setStatus(EquipmentStatus.AVAILABLE);
@@ -59,6 +85,10 @@ public class EquipmentServiceImpl implements EquipmentService {
         }
         
         Equipment savedEquipment = equipmentRepository.save(equipment);
+        equipmentSearchIndex.indexAfterCommit(savedEquipment);
+        equipmentStatusCounters.recordCreated(savedEquipment.getStatus(), savedEquipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(savedEquipment.getId(), savedEquipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
         log.info("기자재 등록 완료 (관리자): ID={}, 식별자={}", savedEquipment.getId(), savedEquipment.getIdentifier());
         
         return savedEquipment;
@@ -79,6 +109,18 @@ public class EquipmentServiceImpl implements EquipmentService {
             throw new DuplicateResourceException("Equipment", updatedEquipment.getIdentifier());
         }
         
+        // 클라이언트가 조회한 뒤 다른 요청이 먼저 변경했으면 덮어쓰지 않음
+        if (updatedEquipment.getVersion() != null && !updatedEquipment.getVersion().equals(existingEquipment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Equipment.class, id);
+        }
+        
+        requireAdminSettableStatus(existingEquipment.getStatus(), updatedEquipment.getStatus());
+        requireNoOpenRental(existingEquipment, updatedEquipment.getStatus());
+        
+        String previousIdentifier = existingEquipment.getIdentifier();
+        EquipmentStatus previousStatus = existingEquipment.getStatus();
+        Boolean previousPublic = existingEquipment.getIsPublic();
+        
         // 기자재 정보 업데이트
         existingEquipment.setIdentifier(updatedEquipment.getIdentifier());
         existingEquipment.setIsPublic(updatedEquipment.getIsPublic());
@@ -87,6 +129,11 @@ public class EquipmentServiceImpl implements EquipmentService {
         existingEquipment.setEquipmentType(updatedEquipment.getEquipmentType());
         
         Equipment savedEquipment = equipmentRepository.save(existingEquipment);
+        equipmentSearchIndex.indexAfterCommit(savedEquipment);
+        equipmentStatusCounters.recordTransition(previousStatus, previousPublic,
+                savedEquipment.getStatus(), savedEquipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(savedEquipment.getId(), previousIdentifier, savedEquipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
         log.info("기자재 수정 완료 (관리자): ID={}, 식별자={}", savedEquipment.getId(), savedEquipment.getIdentifier());
         
         return savedEquipment;
@@ -101,8 +148,17 @@ public class EquipmentServiceImpl implements EquipmentService {
         Equipment equipment = equipmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipment", id));
         
+        requireAdminSettableStatus(equipment.getStatus(), status);
+        requireNoOpenRental(equipment, status);
+        
+        EquipmentStatus previousStatus = equipment.getStatus();
         equipment.setStatus(status);
         Equipment savedEquipment = equipmentRepository.save(equipment);
+        equipmentSearchIndex.indexAfterCommit(savedEquipment);
+        equipmentStatusCounters.recordTransition(previousStatus, savedEquipment.getIsPublic(),
+                savedEquipment.getStatus(), savedEquipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(savedEquipment.getId(), savedEquipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
         
         log.info("기자재 상태 변경 완료 (관리자): ID={}, 상태={}", savedEquipment.getId(), savedEquipment.getStatus());
         return savedEquipment;
@@ -117,13 +173,81 @@ public class EquipmentServiceImpl implements EquipmentService {
         Equipment equipment = equipmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipment", id));
         
+        Boolean previousPublic = equipment.getIsPublic();
         equipment.setIsPublic(isPublic);
         Equipment savedEquipment = equipmentRepository.save(equipment);
+        equipmentSearchIndex.indexAfterCommit(savedEquipment);
+        equipmentStatusCounters.recordTransition(savedEquipment.getStatus(), previousPublic,
+                savedEquipment.getStatus(), savedEquipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(savedEquipment.getId(), savedEquipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
         
         log.info("기자재 공개 설정 변경 완료 (관리자): ID={}, 공개여부={}", savedEquipment.getId(), savedEquipment.getIsPublic());
         return savedEquipment;
     }
 
+    @Override
+    @Transactional
+    @PreAuthorize("hasRole('ADMIN')")
+    public EquipmentBulkUpdateResultDto changeEquipmentStatuses(EquipmentBulkUpdateRequestDto request) {
+        EquipmentStatus status = request.getStatus();
+        if (status == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "변경할 상태는 필수입니다.");
+        }
+        if (isRentalStatus(status)) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID,
+                    "대여 중/반납 확인 상태는 대여 처리로만 설정할 수 있습니다: " + status);
+        }
+        log.info("기자재 상태 일괄 변경 시작 (관리자): 상태={}", status);
+        
+        List<Equipment> targets = lockBulkTargets(request);
+        List<Equipment> changed = targets.stream()
+                .filter(equipment -> equipment.getStatus() != status)
+                .toList();
+        requireNoOpenRentals(changed);
+        List<Long> changedIds = changed.stream().map(Equipment::getId).toList();
+        if (!changedIds.isEmpty()) {
+            equipmentRepository.updateStatusByIds(changedIds, status, LocalDateTime.now());
+            // UPDATE 후 영속성 컨텍스트가 비워지므로 targets 는 변경 전 값을 그대로 가짐
+            for (Equipment equipment : changed) {
+                equipmentStatusCounters.recordTransition(equipment.getStatus(), equipment.getIsPublic(),
+                        status, equipment.getIsPublic());
+            }
+            afterBulkUpdate(changed, changedIds);
+        }
+        
+        log.info("기자재 상태 일괄 변경 완료 (관리자): 상태={}, 대상={}, 변경={}", status, targets.size(), changedIds.size());
+        return bulkUpdateResult(targets, changedIds);
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("hasRole('ADMIN')")
+    public EquipmentBulkUpdateResultDto setEquipmentPublicities(EquipmentBulkUpdateRequestDto request) {
+        Boolean isPublic = request.getIsPublic();
+        if (isPublic == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "공개 여부는 필수입니다.");
+        }
+        log.info("기자재 공개 설정 일괄 변경 시작 (관리자): 공개여부={}", isPublic);
+        
+        List<Equipment> targets = lockBulkTargets(request);
+        List<Equipment> changed = targets.stream()
+                .filter(equipment -> !isPublic.equals(equipment.getIsPublic()))
+                .toList();
+        List<Long> changedIds = changed.stream().map(Equipment::getId).toList();
+        if (!changedIds.isEmpty()) {
+            equipmentRepository.updatePublicityByIds(changedIds, isPublic, LocalDateTime.now());
+            for (Equipment equipment : changed) {
+                equipmentStatusCounters.recordTransition(equipment.getStatus(), equipment.getIsPublic(),
+                        equipment.getStatus(), isPublic);
+            }
+            afterBulkUpdate(changed, changedIds);
+        }
+        
+        log.info("기자재 공개 설정 일괄 변경 완료 (관리자): 공개여부={}, 대상={}, 변경={}", isPublic, targets.size(), changedIds.size());
+        return bulkUpdateResult(targets, changedIds);
+    }
+
     @Override
     @Transactional
     @PreAuthorize("hasRole('ADMIN')")
@@ -133,10 +257,19 @@ public class EquipmentServiceImpl implements EquipmentService {
         Equipment equipment = equipmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Equipment", id));
         
+        requireNoOpenRental(equipment, EquipmentStatus.UNAVAILABLE);
+        
         // 논리적 삭제: 상태를 UNAVAILABLE로 변경
+        EquipmentStatus previousStatus = equipment.getStatus();
+        Boolean previousPublic = equipment.getIsPublic();
         equipment.setStatus(EquipmentStatus.UNAVAILABLE);
         equipment.setIsPublic(false);
         equipmentRepository.save(equipment);
+        equipmentSearchIndex.indexAfterCommit(equipment);
+        equipmentStatusCounters.recordTransition(previousStatus, previousPublic,
+                equipment.getStatus(), equipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(equipment.getId(), equipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
         
         log.info("기자재 삭제 완료 (관리자): ID={}", id);
     }
@@ -152,51 +285,77 @@ public class EquipmentServiceImpl implements EquipmentService {
     }
 
     @Override
-    public List<EquipmentInfoDto> getAllEquipments() {
-        List<Equipment> equipmentList = equipmentRepository.findAll();
-        return convertToEquipmentInfoDtoList(equipmentList);
-    }
-
-    @Override
-    public List<Equipment> getPublicEquipments() {
-        return equipmentRepository.findByIsPublicTrue();
-    }
-
-    @Override
-    public List<Equipment> getEquipmentsByStatus(EquipmentStatus status) {
-        return equipmentRepository.findByStatus(status);
+    public Optional<EquipmentInfoDto> getEquipmentInfo(Long id) {
+        return equipmentReadCache.getById(id).map(this::convertToEquipmentInfoDto);
     }
 
     @Override
-    public List<Equipment> getEquipmentsByType(Long typeId) {
-        return equipmentRepository.findByEquipmentTypeId(typeId);
+    public Optional<EquipmentInfoDto> getEquipmentInfoByIdentifier(String identifier) {
+        return equipmentReadCache.getByIdentifier(identifier).map(this::convertToEquipmentInfoDto);
     }
 
     @Override
-    public List<Equipment> getAvailableEquipments() {
-        return equipmentRepository.findByStatusAndIsPublicTrue(EquipmentStatus.AVAILABLE);
+    public CursorPageResponseDto<EquipmentInfoDto> getEquipmentPage(EquipmentSearchCondition condition, EquipmentPageRequestDto pageRequest) {
+        EquipmentSortKey sortKey = pageRequest.getSort();
+        boolean ascending = pageRequest.getDirection().isAscending();
+        EquipmentKeyset after = decodeCursor(pageRequest.getCursor(), sortKey, ascending);
+        int size = pageRequest.getSize();
+        
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<EquipmentSummaryDto> rows = equipmentRepository.findPage(condition, sortKey, ascending, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<EquipmentSummaryDto> page = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = hasNext
+                ? EquipmentKeyset.after(page.get(page.size() - 1), sortKey, ascending).encode()
+                : null;
+        Long totalCount = pageRequest.isIncludeTotal() ? equipmentRepository.countByCondition(condition) : null;
+        
+        return CursorPageResponseDto.<EquipmentInfoDto>builder()
+                .content(page.stream().map(this::convertToEquipmentInfoDto).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalCount(totalCount)
+                .build();
     }
 
     @Override
-    public EquipmentStatisticsDto getEquipmentStatistics() {
-        long totalCount = equipmentRepository.count();
-        long availableCount = equipmentRepository.countByStatus(EquipmentStatus.AVAILABLE);
-        long rentedCount = equipmentRepository.countByStatus(EquipmentStatus.RENT);
-        long brokenCount = equipmentRepository.countByStatus(EquipmentStatus.BROKEN);
-        long publicCount = equipmentRepository.countByIsPublicTrue();
+    public CursorPageResponseDto<EquipmentInfoDto> searchEquipments(String keyword, EquipmentPageRequestDto pageRequest) {
+        Optional<List<NGramIndex.Hit>> ranked = equipmentSearchIndex.search(keyword);
+        if (ranked.isEmpty()) {
+            // 색인이 준비되기 전 (기동 직후) 에는 데이터베이스 검색으로 처리
+            return getEquipmentPage(EquipmentSearchCondition.ofKeyword(keyword), pageRequest);
+        }
         
-        return EquipmentStatisticsDto.builder()
-                .totalCount(totalCount)
-                .availableCount(availableCount)
-                .rentedCount(rentedCount)
-                .brokenCount(brokenCount)
-                .publicCount(publicCount)
+        List<NGramIndex.Hit> hits = ranked.get();
+        int offset = decodeSearchCursor(pageRequest.getCursor());
+        int size = pageRequest.getSize();
+        List<NGramIndex.Hit> pageHits = hits.subList(Math.min(offset, hits.size()), Math.min(offset + size, hits.size()));
+        
+        // 순위 순서를 유지하며 읽기 모델 조회 (색인 반영 직후 삭제된 행은 건너뜀)
+        Map<Long, EquipmentSummaryDto> rows = new HashMap<>();
+        equipmentRepository.findSummariesByIds(pageHits.stream().map(NGramIndex.Hit::id).toList())
+                .forEach(row -> rows.put(row.getId(), row));
+        List<EquipmentInfoDto> content = pageHits.stream()
+                .map(hit -> rows.get(hit.id()))
+                .filter(Objects::nonNull)
+                .map(this::convertToEquipmentInfoDto)
+                .toList();
+        
+        boolean hasNext = offset + size < hits.size();
+        return CursorPageResponseDto.<EquipmentInfoDto>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeSearchCursor(offset + size) : null)
+                .totalCount(pageRequest.isIncludeTotal() ? (long) hits.size() : null)
                 .build();
     }
 
     @Override
-    public List<Equipment> searchEquipments(String keyword) {
-        return equipmentRepository.findByIdentifierContainingOrCautionMessageContaining(keyword, keyword);
+    public EquipmentStatisticsDto getEquipmentStatistics() {
+        return equipmentStatusCounters.snapshot();
     }
 
     @Override
@@ -220,32 +379,162 @@ public class EquipmentServiceImpl implements EquipmentService {
     }
 
     /**
-     * Equipment 엔티티 리스트를 EquipmentInfoDto 리스트로 변환
-     * @param equipmentList Equipment 엔티티 리스트
-     * @return EquipmentInfoDto 리스트
+     * 커서 해석 (요청한 정렬 기준과 다르면 잘못된 요청으로 처리)
+     * @param cursor 커서 문자열 (첫 페이지면 null)
+     * @param sortKey 요청한 정렬 기준
+     * @param ascending 요청한 정렬 방향
+     * @return 키셋 위치 (첫 페이지면 null)
      */
-    private List<EquipmentInfoDto> convertToEquipmentInfoDtoList(List<Equipment> equipmentList) {
-        return equipmentList.stream()
-                .map(this::convertToEquipmentInfoDto)
-                .collect(Collectors.toList());
+    private EquipmentKeyset decodeCursor(String cursor, EquipmentSortKey sortKey, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        EquipmentKeyset keyset;
+        try {
+            keyset = EquipmentKeyset.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+        
+        if (keyset.sortKey() != sortKey || keyset.ascending() != ascending) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "커서의 정렬 기준이 요청과 다릅니다.");
+        }
+        return keyset;
+    }
+
+    /**
+     * 검색 결과 커서 해석 ("R:순위 위치" 를 Base64url 로 인코딩한 값)
+     * @param cursor 커서 문자열 (첫 페이지면 null)
+     * @return 다음 페이지 시작 위치
+     */
+    private int decodeSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (raw.startsWith(SEARCH_CURSOR_PREFIX)) {
+                int offset = Integer.parseInt(raw.substring(SEARCH_CURSOR_PREFIX.length()));
+                if (offset >= 0) {
+                    return offset;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 처리
+        }
+        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+    }
+
+    private static String encodeSearchCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((SEARCH_CURSOR_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
     }
 
     /**
-     * Equipment 엔티티를 EquipmentInfoDto로 변환
-     * @param equipment Equipment 엔티티
+     * 목록 읽기 모델을 EquipmentInfoDto로 변환
+     * @param summary 목록 읽기 모델
      * @return EquipmentInfoDto
      */
-    private EquipmentInfoDto convertToEquipmentInfoDto(Equipment equipment) {
+    private EquipmentInfoDto convertToEquipmentInfoDto(EquipmentSummaryDto summary) {
         return EquipmentInfoDto.builder()
-                .equipmentId(equipment.getId())
-                .name(equipment.getName())
-                .cautionMessage(equipment.getCautionMessage())
-                .type(equipment.getTypeName())
-                .createdAt(equipment.getCreatedAt())
-                .lastUpdateTime(equipment.getLastUpdateTime())
-                .description(equipment.getDescription())
-                .status(equipment.getStatus().getMessage())
-                .identifier(equipment.getIdentifier())
+                .equipmentId(summary.getId())
+                .name(summary.getName())
+                .cautionMessage(summary.getCautionMessage())
+                .type(summary.getTypeName() != null ? summary.getTypeName() : "미분류")
+                .createdAt(summary.getCreatedAt())
+                .lastUpdateTime(summary.getLastUpdateTime())
+                .description(summary.getDescription())
+                .status(summary.getStatus().getMessage())
+                .identifier(summary.getIdentifier())
+                .version(summary.getVersion())
+                .typeLastUpdateTime(summary.getTypeLastUpdateTime())
+                .build();
+    }
+
+    /**
+     * 대여 중/반납 확인 상태는 대여 서비스만 설정하도록 관리자 변경을 거부
+     * (대여 기록 없이 대여 중이 되면 반납할 수 없고, 연체 감시에도 잡히지 않음)
+     * 이미 같은 상태인 경우는 변경이 아니므로 허용
+     */
+    private static void requireAdminSettableStatus(EquipmentStatus current, EquipmentStatus status) {
+        if (isRentalStatus(status) && status != current) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID,
+                    "대여 중/반납 확인 상태는 대여 처리로만 설정할 수 있습니다: " + status);
+        }
+    }
+
+    /**
+     * 끝나지 않은 대여가 있는 기자재의 상태를 대여/반납 절차 밖에서 바꾸지 못하도록 확인
+     * (대여 중 → 대여 가능으로 바꾸면 다른 사용자가 대여할 수 있고, 기존 대여자의 반납이 새 대여를 반납 확인 중으로 바꿈)
+     * 확인 뒤 대여가 시작되면 기자재 버전이 올라가므로 저장 시 낙관적 잠금 충돌로 거부됨
+     */
+    private void requireNoOpenRental(Equipment equipment, EquipmentStatus status) {
+        if (isRentalStatus(equipment.getStatus()) && equipment.getStatus() != status
+                && rentHistoryRepository.existsOpenByEquipmentId(equipment.getId())) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID,
+                    "대여 중인 기자재의 상태는 반납 처리로만 변경할 수 있습니다: " + equipment.getIdentifier());
+        }
+    }
+
+    /**
+     * 일괄 변경 대상 중 끝나지 않은 대여가 있는 기자재가 있으면 전체 거부 (잠근 행에 대해 한 번의 쿼리로 확인)
+     */
+    private void requireNoOpenRentals(List<Equipment> changed) {
+        List<Long> rentalIds = changed.stream()
+                .filter(equipment -> isRentalStatus(equipment.getStatus()))
+                .map(Equipment::getId)
+                .toList();
+        if (rentalIds.isEmpty()) {
+            return;
+        }
+        List<Long> openIds = rentHistoryRepository.findOpenEquipmentIds(rentalIds);
+        if (!openIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID,
+                    "대여 중인 기자재의 상태는 반납 처리로만 변경할 수 있습니다: ID=" + openIds);
+        }
+    }
+
+    private static boolean isRentalStatus(EquipmentStatus status) {
+        return status == EquipmentStatus.RENT || status == EquipmentStatus.CHECK;
+    }
+
+    /**
+     * 일괄 변경 대상을 잠그고 조회 (ID 목록과 필터를 모두 만족하는 기자재)
+     */
+    private List<Equipment> lockBulkTargets(EquipmentBulkUpdateRequestDto request) {
+        if (!request.hasTarget()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "변경할 기자재 ID 목록이나 필터(typeId, currentStatus)가 필요합니다.");
+        }
+        
+        List<Long> ids = request.getIds() == null || request.getIds().isEmpty() ? null : request.getIds();
+        EquipmentSearchCondition condition = new EquipmentSearchCondition(null, request.getCurrentStatus(), request.getTypeId(), null);
+        List<Equipment> targets = equipmentRepository.findForBulkUpdate(ids, condition,
+                EquipmentBulkUpdateRequestDto.MAX_TARGETS + 1);
+        if (targets.size() > EquipmentBulkUpdateRequestDto.MAX_TARGETS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 최대 " + EquipmentBulkUpdateRequestDto.MAX_TARGETS + "개의 기자재까지 변경할 수 있습니다. 필터를 좁혀 주세요.");
+        }
+        return targets;
+    }
+
+    /**
+     * 일괄 변경 후 캐시, 검색 색인, 목록 버전 갱신 (모두 커밋 후 반영)
+     */
+    private void afterBulkUpdate(List<Equipment> changed, List<Long> changedIds) {
+        for (Equipment equipment : changed) {
+            equipmentReadCache.invalidateAfterCommit(equipment.getId(), equipment.getIdentifier());
+        }
+        equipmentRepository.findSummariesByIds(changedIds).forEach(equipmentSearchIndex::indexAfterCommit);
+        equipmentCollectionVersion.incrementAfterCommit();
+    }
+
+    private static EquipmentBulkUpdateResultDto bulkUpdateResult(List<Equipment> targets, List<Long> changedIds) {
+        return EquipmentBulkUpdateResultDto.builder()
+                .matchedCount(targets.size())
+                .affectedCount(changedIds.size())
+                .affectedIds(changedIds)
                 .build();
     }
 }
@@ -0,0 +1,178 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기자재 상태 × 공개 여부별 개수
+ * 통계 조회마다 COUNT 쿼리를 여러 번 실행하지 않도록 메모리에서 유지하는 카운터 행렬
+ *
+ * 구조:
+ * - 행: 기자재 상태 (상태가 비어 있는 행은 마지막 칸), 열: 비공개/공개
+ * - 칸마다 LongAdder 를 사용하여 동시에 상태가 바뀌어도 락 없이 셀 단위로 분산 누적
+ *
+ * 기동 시 GROUP BY 쿼리 한 번으로 채우고, 등록/상태 변경/공개 설정 변경은 트랜잭션 커밋 후 반영합니다.
+ * 다른 인스턴스의 변경이나 직접 수정한 데이터 때문에 생긴 차이는 주기적으로 데이터베이스와 비교하여 보정합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipmentStatusCounters {
+
+    private static final EquipmentStatus[] STATUSES = EquipmentStatus.values();
+    private static final int UNKNOWN_STATUS = STATUSES.length;
+
+    private final EquipmentRepository equipmentRepository;
+
+    private final LongAdder[][] counters = newMatrix();
+
+    @PostConstruct
+    void initialize() {
+        long[][] counts = loadCounts();
+        for (int row = 0; row < counts.length; row++) {
+            for (int column = 0; column < 2; column++) {
+                counters[row][column].add(counts[row][column]);
+            }
+        }
+        log.info("기자재 상태별 개수 적재 완료: 전체 {}건", snapshot().getTotalCount());
+    }
+
+    /**
+     * 기자재 등록 반영 (현재 트랜잭션 커밋 후)
+     * @param status 상태
+     * @param isPublic 공개 여부
+     */
+    public void recordCreated(EquipmentStatus status, Boolean isPublic) {
+        TransactionUtils.afterCommit(() -> cell(status, isPublic).increment());
+    }
+
+    /**
+     * 기자재 상태/공개 여부 변경 반영 (현재 트랜잭션 커밋 후, 바뀌지 않았으면 무시)
+     * @param fromStatus 변경 전 상태
+     * @param fromPublic 변경 전 공개 여부
+     * @param toStatus 변경 후 상태
+     * @param toPublic 변경 후 공개 여부
+     */
+    public void recordTransition(EquipmentStatus fromStatus, Boolean fromPublic,
+                                 EquipmentStatus toStatus, Boolean toPublic) {
+        LongAdder from = cell(fromStatus, fromPublic);
+        LongAdder to = cell(toStatus, toPublic);
+        if (from == to) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            to.increment();
+            from.decrement();
+        });
+    }
+
+    /**
+     * 현재 통계
+     * @return 기자재 통계 정보
+     */
+    public EquipmentStatisticsDto snapshot() {
+        long total = 0;
+        long publicCount = 0;
+        long[] byStatus = new long[counters.length];
+        for (int row = 0; row < counters.length; row++) {
+            long privateRow = counters[row][0].sum();
+            long publicRow = counters[row][1].sum();
+            byStatus[row] = privateRow + publicRow;
+            total += byStatus[row];
+            publicCount += publicRow;
+        }
+
+        return EquipmentStatisticsDto.builder()
+                .totalCount(total)
+                .availableCount(byStatus[EquipmentStatus.AVAILABLE.ordinal()])
+                .rentedCount(byStatus[EquipmentStatus.RENT.ordinal()])
+                .brokenCount(byStatus[EquipmentStatus.BROKEN.ordinal()])
+                .publicCount(publicCount)
+                .checkCount(byStatus[EquipmentStatus.CHECK.ordinal()])
+                .unavailableCount(byStatus[EquipmentStatus.UNAVAILABLE.ordinal()])
+                .fixCount(byStatus[EquipmentStatus.FIX.ordinal()])
+                .build();
+    }
+
+    /**
+     * 데이터베이스 기준으로 보정
+     * 조회와 보정 사이에 커밋된 변경은 다음 보정에서 다시 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${equipment.statistics.reconcile-interval:300000}",
+            initialDelayString = "${equipment.statistics.reconcile-interval:300000}")
+    public void reconcile() {
+        long[][] counts = loadCounts();
+        long drift = 0;
+        for (int row = 0; row < counts.length; row++) {
+            for (int column = 0; column < 2; column++) {
+                long difference = counts[row][column] - counters[row][column].sum();
+                if (difference != 0) {
+                    counters[row][column].add(difference);
+                    drift += Math.abs(difference);
+                }
+            }
+        }
+        if (drift > 0) {
+            log.warn("기자재 상태별 개수 보정: 차이 {}건", drift);
+        }
+    }
+
+    /**
+     * 카운터 상태 조회
+     * @return 상태별 비공개/공개 개수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (int row = 0; row < counters.length; row++) {
+            String name = row == UNKNOWN_STATUS ? "UNKNOWN" : STATUSES[row].name();
+            stats.put(name, List.of(counters[row][0].sum(), counters[row][1].sum()));
+        }
+        return stats;
+    }
+
+    private long[][] loadCounts() {
+        long[][] counts = new long[STATUSES.length + 1][2];
+        for (Object[] row : equipmentRepository.countGroupByStatusAndPublicity()) {
+            counts[rowOf((EquipmentStatus) row[0])][columnOf((Boolean) row[1])] += ((Number) row[2]).longValue();
+        }
+        return counts;
+    }
+
+    private LongAdder cell(EquipmentStatus status, Boolean isPublic) {
+        return counters[rowOf(status)][columnOf(isPublic)];
+    }
+
+    private static int rowOf(EquipmentStatus status) {
+        return status != null ? status.ordinal() : UNKNOWN_STATUS;
+    }
+
+    private static int columnOf(Boolean isPublic) {
+        return Boolean.TRUE.equals(isPublic) ? 1 : 0;
+    }
+
+    private static LongAdder[][] newMatrix() {
+        LongAdder[][] matrix = new LongAdder[STATUSES.length + 1][2];
+        for (LongAdder[] row : matrix) {
+            for (int column = 0; column < row.length; column++) {
+                row[column] = new LongAdder();
+            }
+        }
+        return matrix;
+    }
+}
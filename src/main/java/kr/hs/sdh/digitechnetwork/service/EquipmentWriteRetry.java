@@ -0,0 +1,114 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.exception.ConcurrentUpdateException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.utility.RetryExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 기자재 쓰기의 낙관적 잠금 충돌 처리
+ * Equipment 의 @Version 으로 감지한 동시 수정 충돌을 변경 종류에 따라 재시도하거나 409 로 응답
+ *
+ * - 멱등 변경 (상태 변경, 공개 설정, 삭제): "이 값으로 설정" 이므로 최신 상태를 다시 읽어 적용해도 의도가 같음
+ *   → 제한된 횟수만큼 백오프 후 새 트랜잭션으로 재시도하고, 그래도 충돌하면 409
+ * - 비멱등 변경 (정보 수정): 클라이언트가 본 상태를 기준으로 만든 요청이므로 다시 적용하면 다른 변경을 덮어씀
+ *   → 재시도하지 않고 현재 상태와 함께 409
+ *
+ * 재시도는 트랜잭션 전체를 다시 실행해야 하므로 서비스 호출 바깥(컨트롤러)에서 사용하며,
+ * 이미 트랜잭션 안이면 재시도하지 않습니다.
+ *
+ * 설정 항목:
+ * - equipment.retry.max-attempts: 최대 시도 횟수 (첫 시도 포함)
+ * - equipment.retry.initial-backoff: 첫 재시도 전 최대 대기 시간 (밀리초)
+ * - equipment.retry.max-backoff: 재시도 전 최대 대기 시간 상한 (밀리초)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EquipmentWriteRetry {
+
+    private final EquipmentRepository equipmentRepository;
+
+    @Value("${equipment.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${equipment.retry.initial-backoff:10}")
+    private long initialBackoffMillis;
+
+    @Value("${equipment.retry.max-backoff:100}")
+    private long maxBackoffMillis;
+
+    private RetryExecutor retryExecutor;
+
+    @PostConstruct
+    void initialize() {
+        this.retryExecutor = new RetryExecutor(maxAttempts, Duration.ofMillis(initialBackoffMillis),
+                Duration.ofMillis(maxBackoffMillis), OptimisticLockingFailureException.class::isInstance);
+    }
+
+    /**
+     * 멱등 변경 실행 (충돌 시 재시도)
+     * @param id 기자재 ID
+     * @param write 변경 (서비스 호출, 호출마다 새 트랜잭션)
+     * @return 변경 결과
+     * @throws ConcurrentUpdateException 재시도 후에도 충돌한 경우
+     */
+    public <T> T idempotent(Long id, Supplier<T> write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 바깥 트랜잭션이 이미 롤백 대상이 되므로 여기서 재시도해도 소용이 없음
+            return once(id, write);
+        }
+        try {
+            return retryExecutor.execute(write);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("기자재 변경 재시도 한도 초과: ID={}", id);
+            throw conflict(id, e);
+        }
+    }
+
+    /**
+     * 비멱등 변경 실행 (재시도하지 않음)
+     * @param id 기자재 ID
+     * @param write 변경 (서비스 호출)
+     * @return 변경 결과
+     * @throws ConcurrentUpdateException 충돌한 경우
+     */
+    public <T> T once(Long id, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (OptimisticLockingFailureException e) {
+            throw conflict(id, e);
+        }
+    }
+
+    /**
+     * 재시도 통계 조회 (관리자 모니터링용)
+     * @return 호출/충돌/재시도/복구/포기 건수
+     */
+    public RetryExecutor.Stats getStats() {
+        return retryExecutor.stats();
+    }
+
+    private ConcurrentUpdateException conflict(Long id, OptimisticLockingFailureException cause) {
+        List<EquipmentSummaryDto> current = equipmentRepository.findSummariesByIds(List.of(id));
+        return new ConcurrentUpdateException(ErrorCode.EQUIPMENT_CONFLICT,
+                "기자재(ID=" + id + ")가 다른 요청에 의해 먼저 변경되었습니다. 현재 상태를 확인한 뒤 다시 요청해 주세요.",
+                current.isEmpty() ? null : current.get(0), cause);
+    }
+}
@@ -3,7 +3,15 @@ package kr.hs.sdh.digitechnetwork.service;
 import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.GoogleOAuthRequestDto;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface GoogleOAuthService {
     String getAuthorizationUrl();
     AuthResponseDto authenticate(GoogleOAuthRequestDto requestDto);
+
+    /**
+     * Google 원격 호출을 가상 스레드에서 실행하는 비동기 로그인
+     * 요청 스레드와 DB 연결을 원격 호출 동안 붙잡지 않음
+     */
+    CompletableFuture<AuthResponseDto> authenticateAsync(GoogleOAuthRequestDto requestDto);
 }
@@ -1,25 +1,28 @@
 package kr.hs.sdh.digitechnetwork.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.sdh.digitechnetwork.auth.GoogleIdTokenVerifier;
 import kr.hs.sdh.digitechnetwork.auth.GoogleOAuth;
 import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.GoogleOAuthRequestDto;
-import kr.hs.sdh.digitechnetwork.entity.Student;
-import kr.hs.sdh.digitechnetwork.entity.Teacher;
-import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
 import kr.hs.sdh.digitechnetwork.exception.BusinessException;
 import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
-import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
-import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import kr.hs.sdh.digitechnetwork.utility.Bulkhead;
+import kr.hs.sdh.digitechnetwork.utility.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Google OAuth 서비스 구현체
@@ -35,11 +38,17 @@ import java.util.Map;
 public class GoogleOAuthServiceImpl implements GoogleOAuthService {
 
     private final GoogleOAuth googleOAuth;
-    private final StudentRepository studentRepository;
-    private final TeacherRepository teacherRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final JwtService jwtService;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final UserProvisioningService userProvisioningService;
+    private final Bulkhead googleOAuthBulkhead;
+
+    /**
+     * 같은 이메일의 동시 첫 로그인을 하나의 프로비저닝으로 합침
+     */
+    private final SingleFlight<String, AuthResponseDto.UserInfoDto> provisioningFlight = new SingleFlight<>();
 
     @Value("${google.oauth.client-id}")
     private String clientId;
@@ -50,45 +59,107 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
     @Value("${google.oauth.redirect-uri}")
     private String redirectUri;
 
+    @Value("${google.oauth.token-uri:https://oauth2.googleapis.com/token}")
+    private String tokenUri;
+
+    @Value("${google.oauth.user-info-uri:https://www.googleapis.com/oauth2/v2/userinfo}")
+    private String userInfoUri;
+
     @Override
     public String getAuthorizationUrl() {
         return googleOAuth.getRedirectUri();
     }
 
+    /**
+     * 로그인 처리 (동기)
+     * authenticateAsync 의 결과를 기다려 반환
+     */
     @Override
-    @Transactional
     public AuthResponseDto authenticate(GoogleOAuthRequestDto requestDto) {
+        try {
+            return authenticateAsync(requestDto).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 로그인 처리
+     * 1) 원격 구간: 토큰 교환과 사용자 확인을 Bulkhead 의 가상 스레드에서 트랜잭션 없이 실행
+     * 2) 로컬 구간: 사용자 조회/생성만 짧은 트랜잭션으로 실행하고 JWT 발급
+     * 원격 호출 동안에는 DB 연결을 점유하지 않음
+     */
+    @Override
+    public CompletableFuture<AuthResponseDto> authenticateAsync(GoogleOAuthRequestDto requestDto) {
         log.info("Google OAuth 인증 시작: code={}", requestDto.getCode());
 
-        try {
-            // 1. 액세스 토큰 요청
-            Map<String, Object> tokenResponse = getAccessToken(requestDto.getCode());
-            String accessToken = (String) tokenResponse.get("access_token");
+        return googleOAuthBulkhead.submit(() -> fetchGoogleUser(requestDto.getCode()))
+                .thenApply(this::completeLogin)
+                .exceptionally(e -> {
+                    throw new CompletionException(toBusinessException(e instanceof CompletionException ? e.getCause() : e));
+                });
+    }
 
-            // 2. 사용자 정보 요청
-            Map<String, Object> userInfo = getUserInfo(accessToken);
+    /**
+     * 원격 구간: 인가 코드를 토큰으로 교환하고 사용자 정보를 확인
+     */
+    private GoogleUserInfoDto fetchGoogleUser(String code) {
+        // 1. 액세스 토큰 요청
+        Map<String, Object> tokenResponse = getAccessToken(code);
+        String accessToken = (String) tokenResponse.get("access_token");
+
+        // 2. 사용자 정보 확인 (id_token 을 로컬에서 검증하고, 실패한 경우에만 userinfo API 호출)
+        return googleIdTokenVerifier.verify((String) tokenResponse.get("id_token"))
+                .orElseGet(() -> getUserInfo(accessToken));
+    }
+
+    /**
+     * 로컬 구간: 사용자 로그인 처리 후 JWT 토큰 발급
+     */
+    private AuthResponseDto completeLogin(GoogleUserInfoDto googleUser) {
+        // 3. 사용자 로그인 처리 (짧은 트랜잭션, 같은 이메일의 동시 요청은 한 번만 실행)
+        if (googleUser.getEmail() == null || googleUser.getEmail().isBlank()) {
+            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_REQUEST_FAILED, "Google 계정의 이메일 정보를 확인할 수 없습니다.");
+        }
+        String email = googleUser.getEmail().trim().toLowerCase(Locale.ROOT);
+        AuthResponseDto.UserInfoDto userInfoDto = provisioningFlight.execute(email, () -> provisionUser(googleUser));
 
-            // 3. 사용자 로그인 처리
-            AuthResponseDto.UserInfoDto userInfoDto = processUserLogin(userInfo);
+        // 4. JWT 토큰 생성 (조회한 사용자 정보를 그대로 사용)
+        Map<String, String> tokens = jwtService.generateTokens(userInfoDto.getRole(), userInfoDto.getId(), userInfoDto.getEmail());
 
-            // 4. JWT 토큰 생성
-            Map<String, String> tokens = generateJwtTokens(userInfoDto);
+        // 5. 응답 생성
+        return createAuthResponse(tokens, userInfoDto);
+    }
 
-            // 5. 응답 생성
-            return createAuthResponse(tokens, userInfoDto);
+    /**
+     * 사용자 프로비저닝
+     * 다른 인스턴스가 같은 사용자를 먼저 생성해 유니크 제약에 걸리면, 새 트랜잭션에서 다시 조회
+     */
+    private AuthResponseDto.UserInfoDto provisionUser(GoogleUserInfoDto googleUser) {
+        try {
+            return userProvisioningService.provision(googleUser);
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시 생성된 사용자 재조회: {}", googleUser.getEmail());
+            return userProvisioningService.provision(googleUser);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("Google OAuth 인증 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.OAUTH_AUTHENTICATION_FAILED, "Google OAuth 인증에 실패했습니다: " + e.getMessage());
+    private BusinessException toBusinessException(Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return businessException;
+        }
+        if (e instanceof RejectedExecutionException) {
+            log.warn("Google OAuth 동시 요청 한도 초과: {}", e.getMessage());
+            return new BusinessException(ErrorCode.EXTERNAL_SERVICE_ERROR, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
         }
+        log.error("Google OAuth 인증 실패: {}", e.getMessage(), e);
+        return new BusinessException(ErrorCode.OAUTH_AUTHENTICATION_FAILED, "Google OAuth 인증에 실패했습니다: " + e.getMessage());
     }
 
     /**
      * 액세스 토큰 요청
      */
     private Map<String, Object> getAccessToken(String code) {
-        String tokenUrl = "https://oauth2.googleapis.com/token";
-        
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         
@@ -98,7 +169,7 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
         );
         
         HttpEntity<String> request = new HttpEntity<>(body, headers);
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUri, request, Map.class);
         
         if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
             throw new RuntimeException("액세스 토큰 요청 실패");
@@ -108,72 +179,30 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
     }
 
     /**
-     * 사용자 정보 요청
+     * 사용자 정보 요청 (id_token 검증에 실패했을 때의 대체 경로)
      */
-    private Map getUserInfo(String accessToken) {
-        String userInfoUrl = "https://www.googleapis.com/oauth2/v2/userinfo";
-        
+    private GoogleUserInfoDto getUserInfo(String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
         
         HttpEntity<String> request = new HttpEntity<>(headers);
-        ResponseEntity<Map> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, request, Map.class);
+        ResponseEntity<Map> response = restTemplate.exchange(userInfoUri, HttpMethod.GET, request, Map.class);
         
         if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
             throw new RuntimeException("사용자 정보 요청 실패");
         }
         
-        return response.getBody();
-    }
-
-    /**
-     * 사용자 로그인 처리
-     */
-    private AuthResponseDto.UserInfoDto processUserLogin(Map<String, Object> userInfo) {
-        String email = (String) userInfo.get("email");
-        String name = (String) userInfo.get("name");
-        
-        log.info("사용자 로그인 처리: email={}, name={}", email, name);
-
-        // 기존 학생 사용자 확인
-        var studentOptional = studentRepository.findByEmail(email);
-        if (studentOptional.isPresent()) {
-            Student student = studentOptional.get();
-            log.info("기존 학생 사용자 로그인: {}", email);
-            return createUserInfoFromStudent(student);
-        }
-
-        // 기존 교사 사용자 확인
-        var teacherOptional = teacherRepository.findByEmail(email);
-        if (teacherOptional.isPresent()) {
-            Teacher teacher = teacherOptional.get();
-            log.info("기존 교사 사용자 로그인: {}", email);
-            return createUserInfoFromTeacher(teacher);
-        }
-
-        // 새로운 사용자 생성 (기본적으로 학생으로 생성)
-        log.info("새로운 사용자 생성: {}", email);
-        
-        Student newStudent = createNewStudent(userInfo);
-        Student savedStudent = studentRepository.save(newStudent);
-        return createUserInfoFromStudent(savedStudent);
-    }
-
-    /**
-     * JWT 토큰 생성
-     */
-    private Map<String, String> generateJwtTokens(AuthResponseDto.UserInfoDto userInfo) {
-        if (userInfo.getGrade() != null) {
-            // Student인 경우
-            Student student = studentRepository.findById(userInfo.getId())
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-            return jwtService.generateTokensFromStudent(student);
-        } else {
-            // Teacher인 경우
-            Teacher teacher = teacherRepository.findById(userInfo.getId())
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-            return jwtService.generateTokensFromTeacher(teacher);
-        }
+        Map<?, ?> body = response.getBody();
+        return GoogleUserInfoDto.builder()
+                .id((String) body.get("id"))
+                .email((String) body.get("email"))
+                .name((String) body.get("name"))
+                .givenName((String) body.get("given_name"))
+                .familyName((String) body.get("family_name"))
+                .picture((String) body.get("picture"))
+                .locale((String) body.get("locale"))
+                .verifiedEmail((Boolean) body.get("verified_email"))
+                .build();
     }
 
     /**
@@ -188,53 +217,4 @@ public class GoogleOAuthServiceImpl implements GoogleOAuthService {
                 .userInfo(userInfo)
                 .build();
     }
-
-    /**
-     * 새로운 학생 생성
-     */
-    private Student createNewStudent(Map<String, Object> userInfo) {
-        return Student.builder()
-                .name((String) userInfo.get("name"))
-                .email((String) userInfo.get("email"))
-                .phoneNumber("")
-                .role(UserType.STUDENT)
-                .isEnabled(true)
-                .grade(1) // 기본값
-                .classroom(1) // 기본값
-                .studentNumber(1) // 기본값
-                .build();
-    }
-
-    /**
-     * Student 엔티티로부터 UserInfoDto 생성
-     */
-    private AuthResponseDto.UserInfoDto createUserInfoFromStudent(Student student) {
-        return AuthResponseDto.UserInfoDto.builder()
-                .id(student.getId())
-                .email(student.getEmail())
-                .name(student.getName())
-                .phoneNumber(student.getPhoneNumber())
-                .role(student.getRole())
-                .isEnabled(student.getIsEnabled())
-                .bio(student.getBio())
-                .grade(student.getGrade())
-                .classroom(student.getClassroom())
-                .studentNumber(student.getStudentNumber())
-                .build();
-    }
-
-    /**
-     * Teacher 엔티티로부터 UserInfoDto 생성
-     */
-    private AuthResponseDto.UserInfoDto createUserInfoFromTeacher(Teacher teacher) {
-        return AuthResponseDto.UserInfoDto.builder()
-                .id(teacher.getId())
-                .email(teacher.getEmail())
-                .name(teacher.getName())
-                .phoneNumber(teacher.getPhoneNumber())
-                .role(teacher.getRole())
-                .isEnabled(teacher.getIsEnabled())
-                .bio(teacher.getBio())
-                .build();
-    }
 }
@@ -2,30 +2,53 @@ package kr.hs.sdh.digitechnetwork.service;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.auth.JwtKeyRing;
+import kr.hs.sdh.digitechnetwork.auth.RevokedTokenIndex;
+import kr.hs.sdh.digitechnetwork.auth.VerifiedToken;
+import kr.hs.sdh.digitechnetwork.auth.VerifiedTokenCache;
 import kr.hs.sdh.digitechnetwork.entity.Student;
 import kr.hs.sdh.digitechnetwork.entity.Teacher;
+import kr.hs.sdh.digitechnetwork.enums.TokenType;
 import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.utility.ExpiringCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 서비스
  * JWT 토큰의 생성, 검증, 갱신을 담당
  *
+ * jwt.algorithm 이 ES256/RS256 이면 JwtKeyRing 의 개인 키로 서명하고 헤더에 kid 를 기록하여,
+ * 다른 서비스가 JWKS 로 공개된 키만으로 토큰을 검증할 수 있게 합니다.
+ * 기본값 HS256 은 기존 공유 비밀 키 방식과의 호환 모드입니다.
+ *
+ * 모든 토큰은 jti 와 종류(ACCESS/REFRESH)를 가지며, 리프레시 토큰은 갱신 시 폐기되고
+ * 새 토큰으로 교체됩니다. 폐기 여부는 RevokedTokenIndex 로 검증 시마다 확인합니다.
+ *
  * @since 2025.08.30
  * @author yunjisang sdh230308@sdh.hs.kr
  * @version 1.0.0
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    private final JwtKeyRing jwtKeyRing;
+    private final RevokedTokenIndex revokedTokenIndex;
+
     @Value("${jwt.secret:defaultSecretKeyForDevelopmentOnly}")
     private String secret;
 
@@ -36,10 +59,36 @@ public class JwtService {
     private long refreshExpiration;
 
     /**
-     * JWT 시크릿 키 생성
+     * 비대칭 서명으로 전환하는 동안 기존 HS256 토큰(kid 없음)도 받아들일지 여부
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.accept-hs256-tokens:false}")
+    private boolean acceptHs256Tokens;
+
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    /**
+     * 서명 키와 파서는 불변이므로 기동 시 한 번만 생성하여 재사용
+     */
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    /**
+     * 같은 토큰의 반복 검증을 피하기 위한 검증 결과 캐시 (비활성화 시 null)
+     */
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @PostConstruct
+    void initialize() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = jwtKeyRing.isAsymmetric()
+                ? Jwts.parser().keyLocator(new KeyRingLocator()).build()
+                : Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokenCache = verifiedCacheEnabled ? new VerifiedTokenCache(verifiedCacheMaxSize) : null;
     }
 
     /**
@@ -50,7 +99,7 @@ public class JwtService {
      * @return 액세스 토큰
      */
     public String generateAccessToken(UserType userType, Long userId, String email) {
-        return generateToken(userType, userId, email, expiration);
+        return generateToken(userType, userId, email, TokenType.ACCESS, expiration);
     }
 
     /**
@@ -61,7 +110,7 @@ public class JwtService {
      * @return 리프레시 토큰
      */
     public String generateRefreshToken(UserType userType, Long userId, String email) {
-        return generateToken(userType, userId, email, refreshExpiration);
+        return generateToken(userType, userId, email, TokenType.REFRESH, refreshExpiration);
     }
 
     /**
@@ -69,10 +118,11 @@ public class JwtService {
      * @param userType 사용자 타입
      * @param userId 사용자 ID
      * @param email 사용자 이메일
+     * @param tokenType 토큰 종류
      * @param expiration 만료 시간
      * @return JWT 토큰
      */
-    private String generateToken(UserType userType, Long userId, String email, long expiration) {
+    private String generateToken(UserType userType, Long userId, String email, TokenType tokenType, long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
@@ -80,54 +130,113 @@ public class JwtService {
         claims.put("userType", userType.name());
         claims.put("userId", userId);
         claims.put("email", email);
+        claims.put("tokenType", tokenType.name());
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
-                .compact();
+        JwtBuilder builder = Jwts.builder()
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiration(expiryDate);
+
+        if (jwtKeyRing.isAsymmetric()) {
+            JwtKeyRing.RingKey key = jwtKeyRing.currentSigningKey();
+            builder.header().keyId(key.kid()).and()
+                    .signWith(key.privateKey(), jwtKeyRing.getAlgorithm());
+        } else {
+            builder.signWith(signingKey, Jwts.SIG.HS256);
+        }
+        return builder.compact();
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
-     * @param token JWT 토큰
-     * @return 사용자 ID
+     * 토큰 헤더의 kid 로 검증 키를 찾는 Locator
+     * kid 가 없는 토큰은 HS256 호환 수용이 켜져 있을 때만 공유 비밀 키로 검증
+     * (헤더의 alg 와 키 종류가 맞지 않으면 파서가 거부하므로 알고리즘 혼동 공격은 통하지 않음)
      */
-    public Long getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("userId", Long.class);
+    private class KeyRingLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (acceptHs256Tokens) {
+                    return signingKey;
+                }
+                throw new UnsupportedJwtException("키 ID가 없는 토큰입니다.");
+            }
+            return jwtKeyRing.findVerificationKey(kid)
+                    .orElseThrow(() -> new UnsupportedJwtException("알 수 없는 서명 키입니다: " + kid));
+        }
     }
 
     /**
-     * 토큰에서 사용자 이메일 추출
+     * 토큰의 서명과 만료를 검증하고 클레임을 추출
+     * 이전에 검증한 토큰이면 캐시된 결과를 반환하고, 아니면 한 번 파싱하여 캐시에 보관
+     * 만료된 토큰은 파서 단계에서 ExpiredJwtException 으로 거부됨
+     * 폐기 여부는 캐시 적중 여부와 관계없이 매번 확인
      * @param token JWT 토큰
-     * @return 사용자 이메일
+     * @return 검증된 토큰 클레임
+     * @throws JwtException 서명이 올바르지 않거나 만료 또는 폐기된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있거나 필수 클레임이 없는 경우
      */
-    public String getEmailFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("email", String.class);
+    public VerifiedToken parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        VerifiedToken verified = verifiedTokenCache == null ? parseSignedToken(token) : parseCachedToken(token);
+        if (revokedTokenIndex.isRevoked(verified.tokenId())) {
+            throw new JwtException("폐기된 토큰입니다.");
+        }
+        return verified;
+    }
+
+    private VerifiedToken parseCachedToken(String token) {
+        Optional<VerifiedToken> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        VerifiedToken verified = parseSignedToken(token);
+        verifiedTokenCache.put(token, verified);
+        return verified;
     }
 
     /**
-     * 토큰에서 사용자 타입 추출
+     * 토큰을 한 번 파싱하여 서명과 만료를 검증하고 클레임을 추출
      * @param token JWT 토큰
-     * @return 사용자 타입
+     * @return 검증된 토큰 클레임
      */
-    public UserType getUserTypeFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+    private VerifiedToken parseSignedToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
         String userTypeStr = claims.get("userType", String.class);
-        return UserType.valueOf(userTypeStr);
+        Long userId = claims.get("userId", Long.class);
+        String tokenType = claims.get("tokenType", String.class);
+        if (userTypeStr == null || userId == null) {
+            throw new IllegalArgumentException("토큰에 사용자 정보가 없습니다.");
+        }
+
+        return new VerifiedToken(
+                UserType.valueOf(userTypeStr),
+                userId,
+                claims.get("email", String.class),
+                claims.getExpiration().toInstant(),
+                claims.getId(),
+                tokenType == null ? null : TokenType.valueOf(tokenType)
+        );
     }
 
     /**
-     * 토큰에서 만료 시간 추출
+     * 토큰 검증 (예외 대신 Optional 반환)
      * @param token JWT 토큰
-     * @return 만료 시간
+     * @return 검증된 토큰 클레임 (유효하지 않으면 empty)
      */
-    public Date getExpirationFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getExpiration();
+    public Optional<VerifiedToken> verifyToken(String token) {
+        try {
+            return Optional.of(parseToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -136,64 +245,78 @@ public class JwtService {
      * @return 유효성 여부
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return verifyToken(token).isPresent();
     }
 
     /**
-     * 토큰이 만료되었는지 확인
+     * 특정 토큰의 검증 결과를 캐시에서 제거
+     * 토큰 폐기 시 캐시된 결과로 다시 통과되지 않도록 호출
      * @param token JWT 토큰
-     * @return 만료 여부
      */
-    public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = getExpirationFromToken(token);
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
+    public void evictVerifiedToken(String token) {
+        if (verifiedTokenCache != null && token != null) {
+            verifiedTokenCache.evict(token);
         }
     }
 
     /**
-     * 토큰에서 Claims 추출
-     * @param token JWT 토큰
-     * @return Claims
+     * 특정 사용자의 토큰 검증 결과를 캐시에서 모두 제거
+     * @param userType 사용자 타입
+     * @param userId 사용자 ID
      */
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public void evictVerifiedTokens(UserType userType, Long userId) {
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.evictUser(userType, userId);
+        }
     }
 
     /**
-     * 토큰 갱신
-     * @param refreshToken 리프레시 토큰
-     * @return 새로운 액세스 토큰
+     * 검증 결과 캐시 통계 조회
+     * @return 통계 스냅샷 (캐시 비활성화 시 empty)
      */
-    public String refreshAccessToken(String refreshToken) {
-        if (!validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
-        }
+    public Optional<ExpiringCache.Stats> getVerifiedTokenCacheStats() {
+        return Optional.ofNullable(verifiedTokenCache).map(VerifiedTokenCache::getStats);
+    }
 
-        if (isTokenExpired(refreshToken)) {
-            throw new IllegalArgumentException("만료된 리프레시 토큰입니다.");
+    /**
+     * 액세스 토큰의 유효 기간 (초)
+     * @return 유효 기간
+     */
+    public long getAccessTokenExpiresIn() {
+        return expiration / 1000;
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     * 사용한 리프레시 토큰을 폐기하고 새 액세스 토큰과 리프레시 토큰을 발급
+     * 이미 폐기된 토큰(재사용)이면 거부하므로 각 리프레시 토큰은 한 번만 사용 가능
+     * @param refreshToken 검증된 리프레시 토큰
+     * @return 새 토큰 정보가 포함된 Map
+     * @throws IllegalArgumentException 리프레시 토큰이 아니거나 이미 사용된 경우
+     */
+    public Map<String, String> rotateRefreshToken(VerifiedToken refreshToken) {
+        if (refreshToken.tokenType() != TokenType.REFRESH || refreshToken.tokenId() == null) {
+            throw new IllegalArgumentException("리프레시 토큰이 아닙니다.");
+        }
+        if (!revokedTokenIndex.revoke(refreshToken.tokenId(), refreshToken.expiresAt())) {
+            log.warn("이미 사용된 리프레시 토큰 재사용 시도: userType={}, userId={}, jti={}",
+                    refreshToken.userType(), refreshToken.userId(), refreshToken.tokenId());
+            throw new IllegalArgumentException("이미 사용된 리프레시 토큰입니다.");
         }
 
-        UserType userType = getUserTypeFromToken(refreshToken);
-        Long userId = getUserIdFromToken(refreshToken);
-        String email = getEmailFromToken(refreshToken);
+        return generateTokens(refreshToken.userType(), refreshToken.userId(), refreshToken.email());
+    }
 
-        return generateAccessToken(userType, userId, email);
+    /**
+     * 토큰 폐기 (로그아웃 등)
+     * @param token 검증된 토큰
+     * @return 새로 폐기되었으면 true
+     */
+    public boolean revokeToken(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return false;
+        }
+        return revokedTokenIndex.revoke(token.tokenId(), token.expiresAt());
     }
 
     /**
@@ -202,16 +325,7 @@ public class JwtService {
      * @return 토큰 정보가 포함된 Map
      */
     public Map<String, String> generateTokensFromStudent(Student student) {
-        String accessToken = generateAccessToken(student.getRole(), student.getId(), student.getEmail());
-        String refreshToken = generateRefreshToken(student.getRole(), student.getId(), student.getEmail());
-
-        Map<String, String> tokens = new HashMap<>();
-        tokens.put("accessToken", accessToken);
-        tokens.put("refreshToken", refreshToken);
-        tokens.put("tokenType", "Bearer");
-        tokens.put("expiresIn", String.valueOf(expiration / 1000)); // 초 단위로 변환
-
-        return tokens;
+        return generateTokens(student.getRole(), student.getId(), student.getEmail());
     }
 
     /**
@@ -220,14 +334,22 @@ public class JwtService {
      * @return 토큰 정보가 포함된 Map
      */
     public Map<String, String> generateTokensFromTeacher(Teacher teacher) {
-        String accessToken = generateAccessToken(teacher.getRole(), teacher.getId(), teacher.getEmail());
-        String refreshToken = generateRefreshToken(teacher.getRole(), teacher.getId(), teacher.getEmail());
+        return generateTokens(teacher.getRole(), teacher.getId(), teacher.getEmail());
+    }
 
+    /**
+     * 사용자 식별 정보로 토큰 생성 (엔티티를 다시 조회하지 않음)
+     * @param userType 사용자 타입
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @return 토큰 정보가 포함된 Map
+     */
+    public Map<String, String> generateTokens(UserType userType, Long userId, String email) {
         Map<String, String> tokens = new HashMap<>();
-        tokens.put("accessToken", accessToken);
-        tokens.put("refreshToken", refreshToken);
+        tokens.put("accessToken", generateAccessToken(userType, userId, email));
+        tokens.put("refreshToken", generateRefreshToken(userType, userId, email));
         tokens.put("tokenType", "Bearer");
-        tokens.put("expiresIn", String.valueOf(expiration / 1000)); // 초 단위로 변환
+        tokens.put("expiresIn", String.valueOf(getAccessTokenExpiresIn())); // 초 단위로 변환
 
         return tokens;
     }
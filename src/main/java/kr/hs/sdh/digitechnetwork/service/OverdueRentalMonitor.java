@@ -0,0 +1,200 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.repository.RentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.utility.TimingWheel;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 연체 대여 감시
+ * 대여 중인 기록의 반납 기한을 타이밍 휠({@link TimingWheel})에 등록해 두고, 기한이 지난 것만 골라 연체로 변경
+ * (매 틱마다 대여 중인 전체 기록을 조회하지 않음)
+ *
+ * 생명 주기:
+ * - 애플리케이션 기동 후 별도 스레드에서 대여 중인 기록을 스트리밍 조회하여 휠에 등록
+ * - 이 인스턴스의 대여/연장은 커밋 후 등록(교체), 반납은 커밋 후 해제
+ * - 틱마다 기한이 지난 기록을 잠가 확인한 뒤 연체로 바꾸고, 커밋 후 {@link RentalOverdueEvent} 발행
+ * - 정리 작업이 (status, dueAt) 인덱스로 기한이 지난 대여 중 기록을 주기적으로 찾아 같은 방식으로 처리
+ *   (다른 인스턴스에서 대여된 기록, 휠에 등록되기 전에 재시작된 경우 등 휠이 놓친 것을 보완)
+ *
+ * 연체 변경은 "대여 중일 때만" 조건으로 잠근 행에만 하므로, 여러 인스턴스가 같은 기록을 처리해도 이벤트는 한 번만 발행됩니다.
+ *
+ * 설정 항목:
+ * - rental.overdue.tick: 휠의 틱 길이이자 확인 주기 (밀리초)
+ * - rental.overdue.reconcile-interval: 정리 작업 주기 (밀리초)
+ * - rental.overdue.batch-size: 한 트랜잭션에서 연체로 바꿀 최대 건수
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueRentalMonitor {
+
+    private static final int WHEEL_SIZE = 512; // 기본 틱 1분이면 한 바퀴 약 8.5시간
+
+    private final RentHistoryRepository rentHistoryRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${rental.overdue.tick:60000}")
+    private long tickMillis;
+
+    @Value("${rental.overdue.batch-size:500}")
+    private int batchSize;
+
+    private final LongAdder markedByWheel = new LongAdder();
+    private final LongAdder markedBySweep = new LongAdder();
+
+    private TimingWheel wheel;
+
+    private volatile boolean loaded;
+
+    @PostConstruct
+    void initialize() {
+        this.wheel = new TimingWheel(LocalDateTime.now(), Duration.ofMillis(tickMillis), WHEEL_SIZE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void loadOnStartup() {
+        Thread.ofVirtual().name("overdue-rental-monitor").start(this::load);
+    }
+
+    /**
+     * 대여 중인 기록을 휠에 등록
+     * 조회 중에 이 인스턴스에서 대여/연장되어 이미 등록된 기록은 조회한 (오래된) 반납 기한으로 덮어쓰지 않음
+     * 이미 반납된 기록이 남더라도 연체 변경 조건에 걸러지므로 결과에는 영향이 없음
+     */
+    void load() {
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<RentHistory> rows = rentHistoryRepository.streamRented()) {
+                    rows.forEach(row -> wheel.scheduleIfAbsent(row.getId(), row.getDueAt()));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("연체 대여 감시 초기화 실패 (정리 작업으로만 연체를 감지합니다)", e);
+            return;
+        }
+        loaded = true;
+        log.info("연체 대여 감시 준비 완료: 대여 중 {}건", wheel.size());
+    }
+
+    /**
+     * 반납 기한 등록 또는 교체 (현재 트랜잭션 커밋 후 반영)
+     * @param rentalId 대여 이력 ID
+     * @param dueAt 반납 예정 시각
+     */
+    public void scheduleAfterCommit(Long rentalId, LocalDateTime dueAt) {
+        TransactionUtils.afterCommit(() -> wheel.schedule(rentalId, dueAt));
+    }
+
+    /**
+     * 반납 기한 해제 (현재 트랜잭션 커밋 후 반영)
+     * @param rentalId 대여 이력 ID
+     */
+    public void cancelAfterCommit(Long rentalId) {
+        TransactionUtils.afterCommit(() -> wheel.cancel(rentalId));
+    }
+
+    /**
+     * 휠에서 기한이 지난 대여를 꺼내 연체로 변경
+     */
+    @Scheduled(fixedDelayString = "${rental.overdue.tick:60000}", initialDelayString = "${rental.overdue.tick:60000}")
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = wheel.advance(now);
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> chunk = due.subList(from, Math.min(from + batchSize, due.size()));
+            markedByWheel.add(markOverdue(() -> rentHistoryRepository.findOverdueForUpdate(chunk, now), now));
+        }
+    }
+
+    /**
+     * 휠이 놓친 연체 대여 정리 (기한이 한 틱 이상 지난 대여 중 기록)
+     */
+    @Scheduled(fixedDelayString = "${rental.overdue.reconcile-interval:600000}",
+            initialDelayString = "${rental.overdue.reconcile-interval:600000}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(Duration.ofMillis(tickMillis)); // 휠이 곧 처리할 것과 겹치지 않도록
+        long total = 0;
+        int marked;
+        do {
+            marked = markOverdue(() -> rentHistoryRepository.findOverdueForUpdate(cutoff, PageRequest.of(0, batchSize)), now);
+            total += marked;
+        } while (marked == batchSize);
+
+        if (total > 0) {
+            markedBySweep.add(total);
+            log.warn("연체 대여 정리: 타이머가 놓친 {}건을 연체로 변경", total);
+        }
+    }
+
+    /**
+     * 감시 상태 조회
+     * @return 준비 여부, 등록된 대여 수, 휠/정리 작업으로 연체 처리한 건수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", loaded);
+        stats.put("scheduled", wheel.size());
+        stats.put("markedByWheel", markedByWheel.sum());
+        stats.put("markedBySweep", markedBySweep.sum());
+        return stats;
+    }
+
+    /**
+     * 잠근 연체 대상을 연체로 바꾸고 커밋 후 이벤트 발행
+     * @return 연체로 바꾼 건수
+     */
+    private int markOverdue(Supplier<List<RentHistory>> overdueFinder, LocalDateTime now) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<RentalOverdueEvent> events = transactionTemplate.execute(status -> {
+            List<RentHistory> overdue = overdueFinder.get();
+            if (overdue.isEmpty()) {
+                return List.<RentalOverdueEvent>of();
+            }
+            // UPDATE 후에는 영속성 컨텍스트가 비워지므로 이벤트 내용을 먼저 읽어 둠
+            List<RentalOverdueEvent> pending = overdue.stream()
+                    .map(rent -> new RentalOverdueEvent(rent.getId(), rent.getEquipment().getId(),
+                            rent.getRenterType(), rent.getRenterId(), rent.getDueAt()))
+                    .toList();
+            rentHistoryRepository.markOverdue(pending.stream().map(RentalOverdueEvent::rentalId).toList(), now);
+            return pending;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        events.forEach(eventPublisher::publishEvent);
+        log.info("연체 대여 {}건 처리: 대여 ID={}", events.size(),
+                events.stream().map(RentalOverdueEvent::rentalId).toList());
+        return events.size();
+    }
+}
@@ -0,0 +1,23 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 연체 이벤트
+ * 대여가 반납 기한을 넘겨 연체(OVERDUE)로 바뀐 트랜잭션이 커밋된 뒤 발행됨
+ * 기본 구독자는 {@link RentalOverdueListener} (알림 등은 @EventListener 로 추가 구독)
+ *
+ * @param rentalId 대여 이력 ID
+ * @param equipmentId 기자재 ID
+ * @param renterType 대여자 타입
+ * @param renterId 대여자 ID
+ * @param dueAt 반납 예정 시각
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public record RentalOverdueEvent(Long rentalId, Long equipmentId, UserType renterType, Long renterId,
+                                 LocalDateTime dueAt) {
+}
@@ -0,0 +1,30 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대여 연체 이벤트 기본 구독자
+ * 연체된 대여를 대여자 단위로 기록 (관리자 확인용)
+ * 알림 발송 등은 {@link RentalOverdueEvent} 를 구독하는 별도 리스너로 추가
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class RentalOverdueListener {
+
+    /**
+     * 연체 기록
+     * 연체 감시 스레드에서 동기 실행되므로 오래 걸리는 작업은 하지 않음
+     * @param event 대여 연체 이벤트
+     */
+    @EventListener
+    public void onOverdue(RentalOverdueEvent event) {
+        log.warn("대여 연체: 대여 ID={}, 기자재 ID={}, 대여자={}({}), 반납 예정={}",
+                event.rentalId(), event.equipmentId(), event.renterType(), event.renterId(), event.dueAt());
+    }
+}
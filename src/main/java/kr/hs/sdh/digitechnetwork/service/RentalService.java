@@ -0,0 +1,91 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.RentalCartCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalExtendRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalInfoDto;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+
+import java.util.List;
+
+/**
+ * 기자재 대여 Service 의 인터페이스
+ * 대여(AVAILABLE → RENT), 반납(RENT → CHECK), 반납 확인(CHECK → AVAILABLE/BROKEN), 기한 연장 처리
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface RentalService {
+
+    /**
+     * 기자재 대여
+     * 기자재 상태 변경과 대여 기록을 한 트랜잭션에서 처리하며, 이미 대여 중인 기자재는 항상 거부
+     *
+     * @param renterType 대여자 타입 (학생 또는 교사)
+     * @param renterId 대여자 ID
+     * @param request 대여할 기자재와 반납 예정 시각
+     * @return 대여 정보
+     */
+    RentalInfoDto checkout(UserType renterType, Long renterId, RentalCheckoutRequestDto request);
+
+    /**
+     * 여러 기자재 한 번에 대여 (전부 대여하거나 전부 거부)
+     * 담긴 기자재를 한 번에 잠가 확인한 뒤 한 번의 UPDATE 로 상태를 바꾸고, 대여 기록은 배치 INSERT 로 저장
+     *
+     * @param renterType 대여자 타입 (학생 또는 교사)
+     * @param renterId 대여자 ID
+     * @param request 대여할 기자재 목록과 반납 예정 시각
+     * @return 대여 정보 목록 (기자재 ID 순)
+     * @throws kr.hs.sdh.digitechnetwork.exception.RentalCartException 하나라도 대여할 수 없는 경우 (기자재별 사유 포함)
+     */
+    List<RentalInfoDto> checkoutCart(UserType renterType, Long renterId, RentalCartCheckoutRequestDto request);
+
+    /**
+     * 기자재 반납 (대여자 본인 또는 관리자)
+     * 기자재는 반납 확인(CHECK) 상태가 되며, 관리자가 확인해야 다시 대여할 수 있음
+     *
+     * @param rentalId 대여 이력 ID
+     * @param userType 요청자 타입
+     * @param userId 요청자 ID
+     * @return 대여 정보
+     */
+    RentalInfoDto returnRental(Long rentalId, UserType userType, Long userId);
+
+    /**
+     * 반납 기한 연장 (대여자 본인 또는 관리자, 연체 전인 대여만)
+     * 새 기한은 기존 기한 이후이고 대여 시각부터 최대 대여 기간 이내여야 함
+     *
+     * @param rentalId 대여 이력 ID
+     * @param userType 요청자 타입
+     * @param userId 요청자 ID
+     * @param request 새 반납 예정 시각
+     * @return 대여 정보
+     */
+    RentalInfoDto extend(Long rentalId, UserType userType, Long userId, RentalExtendRequestDto request);
+
+    /**
+     * 반납 확인 (관리자만)
+     * @param rentalId 대여 이력 ID
+     * @param broken 고장 여부 (true 면 BROKEN, 아니면 AVAILABLE)
+     * @return 대여 정보
+     */
+    RentalInfoDto completeInspection(Long rentalId, boolean broken);
+
+    /**
+     * 대여 정보 조회 (대여자 본인 또는 관리자)
+     * @param rentalId 대여 이력 ID
+     * @param userType 요청자 타입
+     * @param userId 요청자 ID
+     * @return 대여 정보
+     */
+    RentalInfoDto getRental(Long rentalId, UserType userType, Long userId);
+
+    /**
+     * 대여자의 대여 목록 조회 (최신순)
+     * @param renterType 대여자 타입
+     * @param renterId 대여자 ID
+     * @return 대여 정보 목록
+     */
+    List<RentalInfoDto> getRentals(UserType renterType, Long renterId);
+}
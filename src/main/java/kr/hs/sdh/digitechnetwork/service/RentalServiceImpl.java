@@ -0,0 +1,354 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCartCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalExtendRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalInfoDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.entity.StudentRentHistory;
+import kr.hs.sdh.digitechnetwork.entity.TeacherRentHistory;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.exception.ErrorResponse;
+import kr.hs.sdh.digitechnetwork.exception.RentalCartException;
+import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
+import kr.hs.sdh.digitechnetwork.repository.RentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.StudentRentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기자재 대여 서비스 구현체
+ *
+ * 기자재 상태는 읽고-바꾸고-저장하지 않고 "현재 상태가 X 일 때만 Y 로" 라는 조건부 UPDATE 한 문장으로 바꿉니다.
+ * - 같은 기자재를 동시에 대여하면 데이터베이스 행 잠금 순서대로 처리되어 정확히 한 요청만 성공하고,
+ *   나머지는 변경된 행이 0 이므로 항상 같은 방식(R002)으로 거부됩니다.
+ * - 서로 다른 기자재의 대여는 서로 다른 행만 잠그므로 기다리지 않습니다.
+ * - 행 잠금은 UPDATE 부터 커밋까지만 유지되고, 그 사이에는 대여 기록 INSERT 만 합니다.
+ *
+ * 대여/연장한 기록의 반납 기한은 커밋 후 {@link OverdueRentalMonitor} 에 등록되고, 반납하면 해제됩니다.
+ *
+ * 설정 항목:
+ * - rental.default-days: 반납 예정 시각을 주지 않았을 때의 대여 기간 (일)
+ * - rental.max-days: 최대 대여 기간 (일)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RentalServiceImpl implements RentalService {
+
+    private final RentHistoryRepository rentHistoryRepository;
+    private final StudentRentHistoryRepository studentRentHistoryRepository;
+    private final TeacherRentHistoryRepository teacherRentHistoryRepository;
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final EquipmentStatusCounters equipmentStatusCounters;
+    private final EquipmentReadCache equipmentReadCache;
+    private final EquipmentCollectionVersion equipmentCollectionVersion;
+    private final OverdueRentalMonitor overdueRentalMonitor;
+
+    @Value("${rental.default-days:7}")
+    private long defaultDays;
+
+    @Value("${rental.max-days:30}")
+    private long maxDays;
+
+    @Override
+    @Transactional
+    public RentalInfoDto checkout(UserType renterType, Long renterId, RentalCheckoutRequestDto request) {
+        requireRenter(renterType);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = resolveDueAt(request.getDueAt(), now);
+        Long equipmentId = request.getEquipmentId();
+
+        if (equipmentRepository.rentIfAvailable(equipmentId, now) == 0) {
+            throw checkoutRejected(equipmentId);
+        }
+
+        RentHistory rent = rentHistoryRepository.save(RentHistory.builder()
+                .equipment(equipmentRepository.getReferenceById(equipmentId))
+                .status(RentStatus.RENTED)
+                .renterType(renterType)
+                .renterId(renterId)
+                .rentedAt(now)
+                .dueAt(dueAt)
+                .build());
+        if (renterType == UserType.STUDENT) {
+            studentRentHistoryRepository.save(StudentRentHistory.builder()
+                    .student(studentRepository.getReferenceById(renterId))
+                    .rentHistory(rent)
+                    .build());
+        } else {
+            teacherRentHistoryRepository.save(TeacherRentHistory.builder()
+                    .teacher(teacherRepository.getReferenceById(renterId))
+                    .rentHistory(rent)
+                    .build());
+        }
+
+        overdueRentalMonitor.scheduleAfterCommit(rent.getId(), dueAt);
+        EquipmentSummaryDto equipment = afterEquipmentTransition(equipmentId, EquipmentStatus.AVAILABLE, EquipmentStatus.RENT);
+        log.info("기자재 대여: 대여 ID={}, 기자재={}, 대여자={}:{}", rent.getId(), equipment.getIdentifier(), renterType, renterId);
+
+        return rentalInfo(rent.getId(), equipment.getId(), equipment.getIdentifier(), equipment.getName(),
+                renterType, renterId, RentStatus.RENTED, now, dueAt, null);
+    }
+
+    @Override
+    @Transactional
+    public List<RentalInfoDto> checkoutCart(UserType renterType, Long renterId, RentalCartCheckoutRequestDto request) {
+        requireRenter(renterType);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = resolveDueAt(request.getDueAt(), now);
+        List<Long> equipmentIds = request.getEquipmentIds().stream().distinct().sorted().toList();
+
+        // ID 순으로 잠그므로 기자재가 겹치는 일괄 대여끼리는 교착 상태 없이 차례로 처리됨
+        Map<Long, Equipment> locked = equipmentRepository
+                .findForBulkUpdate(equipmentIds, EquipmentSearchCondition.all(), equipmentIds.size()).stream()
+                .collect(Collectors.toMap(Equipment::getId, Function.identity()));
+        List<ErrorResponse.FieldError> failures = new ArrayList<>();
+        for (Long equipmentId : equipmentIds) {
+            String reason = unavailableReason(locked.get(equipmentId));
+            if (reason != null) {
+                failures.add(ErrorResponse.FieldError.builder()
+                        .field("equipmentIds")
+                        .value(equipmentId.toString())
+                        .reason(reason)
+                        .build());
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new RentalCartException(failures);
+        }
+
+        equipmentRepository.updateStatusByIds(equipmentIds, EquipmentStatus.RENT, now);
+        List<Long> rentIds = rentHistoryRepository.batchInsert(equipmentIds.stream()
+                .map(equipmentId -> RentHistory.builder()
+                        .equipment(locked.get(equipmentId))
+                        .status(RentStatus.RENTED)
+                        .renterType(renterType)
+                        .renterId(renterId)
+                        .rentedAt(now)
+                        .dueAt(dueAt)
+                        .build())
+                .toList());
+        rentHistoryRepository.batchInsertRenterLinks(renterType, renterId, rentIds);
+
+        List<RentalInfoDto> rentals = new ArrayList<>(equipmentIds.size());
+        for (int i = 0; i < equipmentIds.size(); i++) {
+            Equipment equipment = locked.get(equipmentIds.get(i));
+            equipmentStatusCounters.recordTransition(EquipmentStatus.AVAILABLE, true, EquipmentStatus.RENT, true);
+            equipmentReadCache.invalidateAfterCommit(equipment.getId(), equipment.getIdentifier());
+            overdueRentalMonitor.scheduleAfterCommit(rentIds.get(i), dueAt);
+            rentals.add(rentalInfo(rentIds.get(i), equipment.getId(), equipment.getIdentifier(), equipment.getName(),
+                    renterType, renterId, RentStatus.RENTED, now, dueAt, null));
+        }
+        equipmentCollectionVersion.incrementAfterCommit();
+        log.info("기자재 일괄 대여: {}건, 대여자={}:{}", rentals.size(), renterType, renterId);
+
+        return rentals;
+    }
+
+    @Override
+    @Transactional
+    public RentalInfoDto returnRental(Long rentalId, UserType userType, Long userId) {
+        RentHistory rent = findAccessibleRental(rentalId, userType, userId);
+        Long equipmentId = rent.getEquipment().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (rentHistoryRepository.startReturn(rentalId, now) == 0) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID, "대여 중인 기록만 반납할 수 있습니다. (현재: " + rent.getStatus().getMessage() + ")");
+        }
+        overdueRentalMonitor.cancelAfterCommit(rentalId);
+        if (equipmentRepository.transitionStatus(equipmentId, EquipmentStatus.RENT, EquipmentStatus.CHECK, now) == 1) {
+            afterEquipmentTransition(equipmentId, EquipmentStatus.RENT, EquipmentStatus.CHECK);
+        } else {
+            // 대여 중에 관리자가 상태를 바꾼 경우 (수리 등) 기자재 상태는 그대로 둠
+            log.warn("반납된 기자재가 대여 중 상태가 아님: 대여 ID={}, 기자재 ID={}", rentalId, equipmentId);
+        }
+        log.info("기자재 반납: 대여 ID={}, 기자재 ID={}", rentalId, equipmentId);
+
+        return rentalInfo(rent, RentStatus.RETURNING, now);
+    }
+
+    @Override
+    @Transactional
+    public RentalInfoDto extend(Long rentalId, UserType userType, Long userId, RentalExtendRequestDto request) {
+        RentHistory rent = findAccessibleRental(rentalId, userType, userId);
+        LocalDateTime dueAt = request.getDueAt();
+        if (!dueAt.isAfter(rent.getDueAt()) || dueAt.isAfter(rent.getRentedAt().plusDays(maxDays))) {
+            throw new BusinessException(ErrorCode.RENT_PERIOD_INVALID,
+                    "새 반납 예정 시각은 기존 기한 이후, 대여 시각부터 " + maxDays + "일 이내여야 합니다.");
+        }
+
+        if (rentHistoryRepository.extendDueAt(rentalId, dueAt, LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID, "연체 전인 대여만 연장할 수 있습니다. (현재: " + rent.getStatus().getMessage() + ")");
+        }
+        overdueRentalMonitor.scheduleAfterCommit(rentalId, dueAt);
+        log.info("대여 기한 연장: 대여 ID={}, {} → {}", rentalId, rent.getDueAt(), dueAt);
+
+        return rentalInfo(rent.getId(), rent.getEquipment().getId(), rent.getEquipment().getIdentifier(),
+                rent.getEquipment().getName(), rent.getRenterType(), rent.getRenterId(), RentStatus.RENTED,
+                rent.getRentedAt(), dueAt, null);
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("hasRole('ADMIN')")
+    public RentalInfoDto completeInspection(Long rentalId, boolean broken) {
+        RentHistory rent = rentHistoryRepository.findWithEquipmentById(rentalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RENT_NOT_FOUND));
+        Long equipmentId = rent.getEquipment().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (rentHistoryRepository.transitionStatus(rentalId, RentStatus.RETURNING, RentStatus.RETURNED, now) == 0) {
+            throw new BusinessException(ErrorCode.RENT_STATUS_INVALID, "반납 확인 중인 기록만 확인할 수 있습니다. (현재: " + rent.getStatus().getMessage() + ")");
+        }
+        EquipmentStatus result = broken ? EquipmentStatus.BROKEN : EquipmentStatus.AVAILABLE;
+        if (equipmentRepository.transitionStatus(equipmentId, EquipmentStatus.CHECK, result, now) == 1) {
+            afterEquipmentTransition(equipmentId, EquipmentStatus.CHECK, result);
+        } else {
+            log.warn("반납 확인한 기자재가 반납 처리 중 상태가 아님: 대여 ID={}, 기자재 ID={}", rentalId, equipmentId);
+        }
+        log.info("반납 확인 완료: 대여 ID={}, 기자재 ID={}, 결과={}", rentalId, equipmentId, result);
+
+        return rentalInfo(rent, RentStatus.RETURNED, rent.getReturnedAt());
+    }
+
+    @Override
+    public RentalInfoDto getRental(Long rentalId, UserType userType, Long userId) {
+        RentHistory rent = findAccessibleRental(rentalId, userType, userId);
+        return rentalInfo(rent, rent.getStatus(), rent.getReturnedAt());
+    }
+
+    @Override
+    public List<RentalInfoDto> getRentals(UserType renterType, Long renterId) {
+        return rentHistoryRepository.findByRenter(renterType, renterId).stream()
+                .map(rent -> rentalInfo(rent, rent.getStatus(), rent.getReturnedAt()))
+                .toList();
+    }
+
+    private static void requireRenter(UserType renterType) {
+        if (renterType != UserType.STUDENT && renterType != UserType.TEACHER) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "학생 또는 교사 계정으로만 대여할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 반납 예정 시각 결정 (없으면 기본 기간, 지금 이후이고 최대 기간 이내여야 함)
+     */
+    private LocalDateTime resolveDueAt(LocalDateTime requested, LocalDateTime now) {
+        if (requested == null) {
+            return now.plusDays(defaultDays);
+        }
+        if (!requested.isAfter(now) || requested.isAfter(now.plusDays(maxDays))) {
+            throw new BusinessException(ErrorCode.RENT_PERIOD_INVALID, "반납 예정 시각은 지금부터 " + maxDays + "일 이내여야 합니다.");
+        }
+        return requested;
+    }
+
+    /**
+     * 대여가 거부된 이유 판별 (조건부 UPDATE 가 0 건일 때)
+     */
+    private BusinessException checkoutRejected(Long equipmentId) {
+        List<EquipmentSummaryDto> found = equipmentRepository.findSummariesByIds(List.of(equipmentId));
+        if (found.isEmpty()) {
+            return new ResourceNotFoundException("Equipment", equipmentId);
+        }
+        EquipmentSummaryDto equipment = found.get(0);
+        if (equipment.getStatus() == EquipmentStatus.RENT) {
+            return new BusinessException(ErrorCode.RENT_ALREADY_EXISTS, "이미 대여 중인 기자재입니다: " + equipment.getIdentifier());
+        }
+        return new BusinessException(ErrorCode.EQUIPMENT_UNAVAILABLE,
+                "대여할 수 없는 기자재입니다: " + equipment.getIdentifier() + " (" + equipment.getStatus().getMessage() + ")");
+    }
+
+    /**
+     * 일괄 대여에서 기자재를 대여할 수 없는 이유 (대여 가능하면 null)
+     */
+    private static String unavailableReason(Equipment equipment) {
+        if (equipment == null) {
+            return "존재하지 않는 기자재입니다.";
+        }
+        if (equipment.getStatus() == EquipmentStatus.RENT) {
+            return "이미 대여 중인 기자재입니다: " + equipment.getIdentifier();
+        }
+        if (equipment.getStatus() != EquipmentStatus.AVAILABLE || !Boolean.TRUE.equals(equipment.getIsPublic())) {
+            return "대여할 수 없는 기자재입니다: " + equipment.getIdentifier() + " (" + equipment.getStatus().getMessage() + ")";
+        }
+        return null;
+    }
+
+    /**
+     * 대여 기록 조회 (대여자 본인 또는 관리자만)
+     */
+    private RentHistory findAccessibleRental(Long rentalId, UserType userType, Long userId) {
+        RentHistory rent = rentHistoryRepository.findWithEquipmentById(rentalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RENT_NOT_FOUND));
+        if (userType != UserType.ADMIN && !rent.isRentedBy(userType, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인의 대여 기록만 처리할 수 있습니다.");
+        }
+        return rent;
+    }
+
+    /**
+     * 기자재 상태 변경 후 카운터, 캐시, 목록 버전 갱신 (모두 커밋 후 반영)
+     * @return 변경된 기자재 읽기 모델
+     */
+    private EquipmentSummaryDto afterEquipmentTransition(Long equipmentId, EquipmentStatus from, EquipmentStatus to) {
+        EquipmentSummaryDto equipment = equipmentRepository.findSummariesByIds(List.of(equipmentId)).get(0);
+        equipmentStatusCounters.recordTransition(from, equipment.getIsPublic(), to, equipment.getIsPublic());
+        equipmentReadCache.invalidateAfterCommit(equipmentId, equipment.getIdentifier());
+        equipmentCollectionVersion.incrementAfterCommit();
+        return equipment;
+    }
+
+    private static RentalInfoDto rentalInfo(RentHistory rent, RentStatus status, LocalDateTime returnedAt) {
+        return rentalInfo(rent.getId(), rent.getEquipment().getId(), rent.getEquipment().getIdentifier(),
+                rent.getEquipment().getName(), rent.getRenterType(), rent.getRenterId(), status,
+                rent.getRentedAt(), rent.getDueAt(), returnedAt);
+    }
+
+    private static RentalInfoDto rentalInfo(Long rentalId, Long equipmentId, String identifier, String name,
+                                            UserType renterType, Long renterId, RentStatus status,
+                                            LocalDateTime rentedAt, LocalDateTime dueAt, LocalDateTime returnedAt) {
+        return RentalInfoDto.builder()
+                .rentalId(rentalId)
+                .equipmentId(equipmentId)
+                .equipmentIdentifier(identifier)
+                .equipmentName(name)
+                .renterType(renterType)
+                .renterId(renterId)
+                .status(status)
+                .rentedAt(rentedAt)
+                .dueAt(dueAt)
+                .returnedAt(returnedAt)
+                .build();
+    }
+}
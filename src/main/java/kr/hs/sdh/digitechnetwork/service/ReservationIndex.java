@@ -0,0 +1,246 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.entity.Reservation;
+import kr.hs.sdh.digitechnetwork.enums.ReservationStatus;
+import kr.hs.sdh.digitechnetwork.repository.ReservationRepository;
+import kr.hs.sdh.digitechnetwork.utility.IntervalIndex;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 기자재 예약 색인
+ * 아직 끝나지 않은 예약을 기자재별 시간 구간으로 메모리에 보관하여, 충돌 확인과 "X ~ Y 에 비어 있는 기자재" 조회를
+ * 예약 테이블을 다시 읽지 않고 처리
+ *
+ * 생명 주기:
+ * - 애플리케이션 기동 후 별도 스레드에서 끝나지 않은 예약을 스트리밍 조회하여 색인을 만듦 (완료 전에는 준비되지 않음)
+ * - 재구성 중 들어온 변경은 모아 두었다가 새 색인에 다시 적용한 뒤 교체
+ * - 이 인스턴스의 예약/취소는 트랜잭션 커밋 후 즉시 반영
+ * - 다른 인스턴스의 예약/취소는 주기적으로 생성/수정 시각 기준으로 가져오고, 끝난 예약은 이때 정리
+ *
+ * 데이터베이스가 기준입니다. 색인은 충돌 후보 확인과 조회에 쓰고, 거부와 예약 확정은 항상 데이터베이스에서 다시 확인합니다.
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Object updateLock = new Object();
+
+    private volatile IntervalIndex index; // 첫 재구성이 끝나기 전에는 null
+
+    private List<Consumer<IntervalIndex>> pendingUpdates; // 재구성 중에만 null 이 아님 (updateLock 으로 보호)
+
+    private volatile LocalDateTime lastSynchronizedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        Thread.ofVirtual().name("reservation-index").start(this::rebuild);
+    }
+
+    /**
+     * 끝나지 않은 예약으로 색인 재구성
+     * 재구성이 이미 진행 중이면 아무것도 하지 않음
+     */
+    public void rebuild() {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                return;
+            }
+            pendingUpdates = new ArrayList<>();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        IntervalIndex rebuilt = new IntervalIndex();
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Reservation> rows = reservationRepository.streamActiveEndingAfter(startedAt)) {
+                    rows.forEach(row -> rebuilt.put(interval(row)));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("예약 색인 재구성 실패", e);
+            synchronized (updateLock) {
+                pendingUpdates = null;
+            }
+            return;
+        }
+
+        synchronized (updateLock) {
+            pendingUpdates.forEach(update -> update.accept(rebuilt));
+            pendingUpdates = null;
+            index = rebuilt;
+            lastSynchronizedAt = startedAt;
+        }
+        log.info("예약 색인 재구성 완료: 예약 {}건", rebuilt.size());
+    }
+
+    /**
+     * 예약 추가 (현재 트랜잭션 커밋 후 반영)
+     * @param reservation 저장된 예약
+     */
+    public void addAfterCommit(Reservation reservation) {
+        IntervalIndex.Interval interval = interval(reservation);
+        TransactionUtils.afterCommit(() -> apply(current -> current.put(interval)));
+    }
+
+    /**
+     * 예약 제거 (현재 트랜잭션 커밋 후 반영)
+     * @param reservationId 예약 ID
+     */
+    public void removeAfterCommit(long reservationId) {
+        TransactionUtils.afterCommit(() -> apply(current -> current.remove(reservationId)));
+    }
+
+    /**
+     * 데이터베이스에 더 이상 없는 예약을 즉시 제거 (다른 인스턴스에서 취소되어 동기화 전에 남아 있는 예약)
+     * @param reservationId 예약 ID
+     */
+    public void evict(long reservationId) {
+        apply(current -> current.remove(reservationId));
+    }
+
+    /**
+     * 기자재의 [startAt, endAt) 와 겹치는 예약 하나 조회
+     * @param equipmentId 기자재 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 겹치는 예약 (색인이 아직 준비되지 않았거나 겹치는 예약이 없으면 empty)
+     */
+    public Optional<IntervalIndex.Interval> findConflict(long equipmentId, LocalDateTime startAt, LocalDateTime endAt) {
+        IntervalIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return current.findConflict(equipmentId, startAt, endAt);
+    }
+
+    /**
+     * 기자재의 [startAt, endAt) 와 겹치는 예약 목록
+     * @param equipmentId 기자재 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 시작 시각 순 예약 구간 (색인이 아직 준비되지 않았으면 empty)
+     */
+    public Optional<List<IntervalIndex.Interval>> overlapping(long equipmentId, LocalDateTime startAt, LocalDateTime endAt) {
+        IntervalIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.overlapping(equipmentId, startAt, endAt));
+    }
+
+    /**
+     * 목록 중 [startAt, endAt) 에 예약이 있는 기자재 조회
+     * @param equipmentIds 기자재 ID 목록
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 예약이 있는 기자재 ID (색인이 아직 준비되지 않았으면 empty)
+     */
+    public Optional<Set<Long>> findReserved(Collection<Long> equipmentIds, LocalDateTime startAt, LocalDateTime endAt) {
+        IntervalIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Set<Long> reserved = new LinkedHashSet<>();
+        for (Long equipmentId : equipmentIds) {
+            if (!current.isFree(equipmentId, startAt, endAt)) {
+                reserved.add(equipmentId);
+            }
+        }
+        return Optional.of(reserved);
+    }
+
+    /**
+     * 색인 준비 여부
+     * @return 첫 재구성이 끝났으면 true
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 다른 인스턴스에서 생성/취소된 예약 동기화 및 끝난 예약 정리
+     */
+    @Scheduled(fixedDelayString = "${reservation.index.sync-interval:60000}",
+            initialDelayString = "${reservation.index.sync-interval:60000}")
+    public void synchronize() {
+        if (index == null) {
+            return;
+        }
+        LocalDateTime since = lastSynchronizedAt.minusSeconds(5); // 커밋 지연 여유
+        LocalDateTime now = LocalDateTime.now();
+        for (Reservation row : reservationRepository.findChangedSince(since)) {
+            if (row.getStatus() == ReservationStatus.RESERVED && row.getEndAt().isAfter(now)) {
+                IntervalIndex.Interval interval = interval(row);
+                apply(current -> current.put(interval));
+            } else {
+                long id = row.getId();
+                apply(current -> current.remove(id));
+            }
+        }
+        apply(current -> current.removeEndedBefore(now));
+        this.lastSynchronizedAt = now;
+    }
+
+    /**
+     * 색인 상태 조회
+     * @return 준비 여부, 예약 수
+     */
+    public Map<String, Object> getStats() {
+        IntervalIndex current = index;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", current != null);
+        stats.put("reservations", current != null ? current.size() : 0);
+        return stats;
+    }
+
+    /**
+     * 현재 색인에 변경 적용 (재구성 중이면 새 색인에 적용할 수 있도록 기록)
+     */
+    private void apply(Consumer<IntervalIndex> update) {
+        synchronized (updateLock) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+            IntervalIndex current = index;
+            if (current != null) {
+                update.accept(current);
+            }
+        }
+    }
+
+    private static IntervalIndex.Interval interval(Reservation reservation) {
+        // 지연 로딩 프록시의 ID 는 초기화 없이 읽힘
+        return new IntervalIndex.Interval(reservation.getId(), reservation.getEquipment().getId(),
+                reservation.getStartAt(), reservation.getEndAt());
+    }
+}
@@ -0,0 +1,72 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationCreateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservedSlotDto;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기자재 예약 Service 의 인터페이스
+ * 기자재를 미래의 [시작, 종료) 시간 구간으로 예약하고, 예약이 없는 기자재를 조회
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface ReservationService {
+
+    /**
+     * 기자재 예약
+     * 같은 기자재의 예약 구간은 서로 겹치지 않음 (종료 시각에 바로 이어서 예약하는 것은 허용)
+     *
+     * @param reserverType 예약자 타입 (학생 또는 교사)
+     * @param reserverId 예약자 ID
+     * @param request 예약할 기자재와 시간 구간
+     * @return 예약 정보
+     */
+    ReservationInfoDto reserve(UserType reserverType, Long reserverId, ReservationCreateRequestDto request);
+
+    /**
+     * 예약 취소 (예약자 본인 또는 관리자)
+     *
+     * @param reservationId 예약 ID
+     * @param userType 요청한 사용자 타입
+     * @param userId 요청한 사용자 ID
+     * @return 예약 정보
+     */
+    ReservationInfoDto cancel(Long reservationId, UserType userType, Long userId);
+
+    /**
+     * 예약자의 예약 목록 조회 (시작 시각 최신순)
+     *
+     * @param reserverType 예약자 타입
+     * @param reserverId 예약자 ID
+     * @return 예약 정보 목록
+     */
+    List<ReservationInfoDto> getReservations(UserType reserverType, Long reserverId);
+
+    /**
+     * 기자재의 예약된 시간 구간 조회
+     *
+     * @param equipmentId 기자재 ID
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @return [from, to) 와 겹치는 예약 구간 (시작 시각 순)
+     */
+    List<ReservedSlotDto> getSchedule(Long equipmentId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 타입별로 [startAt, endAt) 에 예약할 수 있는 기자재 조회
+     * 공개되어 있고 사용 불가/고장이 아니며, 그 시간에 예약이 없는 기자재
+     *
+     * @param typeId 기자재 타입 ID
+     * @param startAt 시작 시각
+     * @param endAt 종료 시각
+     * @return 기자재 읽기 모델 목록 (ID 순)
+     */
+    List<EquipmentSummaryDto> findAvailable(Long typeId, LocalDateTime startAt, LocalDateTime endAt);
+}
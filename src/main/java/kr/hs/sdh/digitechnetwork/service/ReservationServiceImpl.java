@@ -0,0 +1,234 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationCreateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationInfoDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservedSlotDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.Reservation;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.enums.ReservationStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentSearchCondition;
+import kr.hs.sdh.digitechnetwork.repository.ReservationRepository;
+import kr.hs.sdh.digitechnetwork.utility.IntervalIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 기자재 예약 서비스 구현체
+ *
+ * 충돌 확인은 두 단계로 합니다.
+ * - 예약 색인({@link ReservationIndex})에서 겹치는 예약이 보이면 기자재 행을 잠그지 않고
+ *   (equipment_id, status, startAt, endAt) 인덱스로 확인한 뒤 거부
+ *   (다른 인스턴스에서 취소된 예약이 다음 동기화까지 색인에 남아 있을 수 있으므로 색인만으로 거부하지 않고,
+ *   데이터베이스에 없으면 색인에서 바로 제거)
+ * - 그 밖에는 기자재 행을 잠근 뒤 같은 인덱스로 겹치는 예약을 다시 확인하고 저장
+ *   (같은 기자재의 예약 확정은 인스턴스가 달라도 행 잠금 순서대로 처리되어 겹치는 예약이 저장되지 않음)
+ *
+ * 빈 기자재 조회는 타입별 기자재를 한 번 조회한 뒤 기자재마다 색인에서 O(log n) 으로 확인합니다.
+ * 색인이 아직 준비되지 않았으면 예약 테이블을 조회합니다.
+ *
+ * 설정 항목:
+ * - reservation.max-days: 한 번에 예약할 수 있는 최대 기간 (일)
+ * - reservation.max-advance-days: 지금부터 예약/조회할 수 있는 최대 기간 (일)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationServiceImpl implements ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final ReservationIndex reservationIndex;
+
+    @Value("${reservation.max-days:7}")
+    private long maxDays;
+
+    @Value("${reservation.max-advance-days:60}")
+    private long maxAdvanceDays;
+
+    @Override
+    @Transactional
+    public ReservationInfoDto reserve(UserType reserverType, Long reserverId, ReservationCreateRequestDto request) {
+        if (reserverType != UserType.STUDENT && reserverType != UserType.TEACHER) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "학생 또는 교사 계정으로만 예약할 수 있습니다.");
+        }
+        Long equipmentId = request.getEquipmentId();
+        LocalDateTime startAt = request.getStartAt();
+        LocalDateTime endAt = request.getEndAt();
+        validateReservationPeriod(startAt, endAt, LocalDateTime.now());
+
+        Optional<IntervalIndex.Interval> indexed = reservationIndex.findConflict(equipmentId, startAt, endAt);
+        if (indexed.isPresent()) {
+            if (reservationRepository.existsOverlapping(equipmentId, startAt, endAt)) {
+                throw conflict(indexed.get().start(), indexed.get().end());
+            }
+            reservationIndex.evict(indexed.get().id());
+        }
+
+        List<Equipment> locked = equipmentRepository.findForBulkUpdate(List.of(equipmentId), EquipmentSearchCondition.all(), 1);
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("Equipment", equipmentId);
+        }
+        Equipment equipment = locked.get(0);
+        if (!isReservable(equipment.getStatus(), equipment.getIsPublic())) {
+            throw new BusinessException(ErrorCode.EQUIPMENT_UNAVAILABLE,
+                    "예약할 수 없는 기자재입니다: " + equipment.getIdentifier() + " (" + equipment.getStatus().getMessage() + ")");
+        }
+        if (reservationRepository.existsOverlapping(equipmentId, startAt, endAt)) {
+            throw conflict(startAt, endAt);
+        }
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .equipment(equipment)
+                .status(ReservationStatus.RESERVED)
+                .reserverType(reserverType)
+                .reserverId(reserverId)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build());
+        reservationIndex.addAfterCommit(reservation);
+        log.info("기자재 예약: 예약 ID={}, 기자재={}, {} ~ {}, 예약자={}:{}",
+                reservation.getId(), equipment.getIdentifier(), startAt, endAt, reserverType, reserverId);
+
+        return reservationInfo(reservation, ReservationStatus.RESERVED);
+    }
+
+    @Override
+    @Transactional
+    public ReservationInfoDto cancel(Long reservationId, UserType userType, Long userId) {
+        Reservation reservation = reservationRepository.findWithEquipmentById(reservationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (userType != UserType.ADMIN && !reservation.isReservedBy(userType, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "본인의 예약만 취소할 수 있습니다.");
+        }
+        if (reservationRepository.cancel(reservationId, LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.RESERVATION_STATUS_INVALID);
+        }
+
+        reservationIndex.removeAfterCommit(reservationId);
+        log.info("기자재 예약 취소: 예약 ID={}, 사용자={}:{}", reservationId, userType, userId);
+
+        return reservationInfo(reservation, ReservationStatus.CANCELLED);
+    }
+
+    @Override
+    public List<ReservationInfoDto> getReservations(UserType reserverType, Long reserverId) {
+        return reservationRepository.findByReserver(reserverType, reserverId).stream()
+                .map(reservation -> reservationInfo(reservation, reservation.getStatus()))
+                .toList();
+    }
+
+    @Override
+    public List<ReservedSlotDto> getSchedule(Long equipmentId, LocalDateTime from, LocalDateTime to) {
+        validateQueryPeriod(from, to);
+        return reservationIndex.overlapping(equipmentId, from, to)
+                .map(intervals -> intervals.stream().map(ReservationServiceImpl::reservedSlot).toList())
+                .orElseGet(() -> reservationRepository.findOverlapping(equipmentId, from, to).stream()
+                        .map(reservation -> ReservedSlotDto.builder()
+                                .reservationId(reservation.getId())
+                                .startAt(reservation.getStartAt())
+                                .endAt(reservation.getEndAt())
+                                .build())
+                        .toList());
+    }
+
+    @Override
+    public List<EquipmentSummaryDto> findAvailable(Long typeId, LocalDateTime startAt, LocalDateTime endAt) {
+        validateQueryPeriod(startAt, endAt);
+        List<EquipmentSummaryDto> candidates = equipmentRepository.findSummariesByTypeId(typeId).stream()
+                .filter(equipment -> isReservable(equipment.getStatus(), equipment.getIsPublic()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> candidateIds = candidates.stream().map(EquipmentSummaryDto::getId).toList();
+        Set<Long> reserved = reservationIndex.findReserved(candidateIds, startAt, endAt)
+                .orElseGet(() -> new HashSet<>(reservationRepository.findReservedEquipmentIds(candidateIds, startAt, endAt)));
+        return candidates.stream()
+                .filter(equipment -> !reserved.contains(equipment.getId()))
+                .toList();
+    }
+
+    /**
+     * 예약 기간 확인 (지금 이후 시작, 최대 기간 이내, 최대 사전 예약 기간 이내)
+     */
+    private void validateReservationPeriod(LocalDateTime startAt, LocalDateTime endAt, LocalDateTime now) {
+        if (!endAt.isAfter(startAt) || !startAt.isAfter(now)) {
+            throw new BusinessException(ErrorCode.RESERVATION_PERIOD_INVALID, "시작 시각은 지금 이후, 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (Duration.between(startAt, endAt).compareTo(Duration.ofDays(maxDays)) > 0) {
+            throw new BusinessException(ErrorCode.RESERVATION_PERIOD_INVALID, "한 번에 " + maxDays + "일까지 예약할 수 있습니다.");
+        }
+        if (startAt.isAfter(now.plusDays(maxAdvanceDays))) {
+            throw new BusinessException(ErrorCode.RESERVATION_PERIOD_INVALID, "지금부터 " + maxAdvanceDays + "일 이내에 시작하는 예약만 할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 조회 구간 확인 (조회 범위를 최대 사전 예약 기간으로 제한)
+     */
+    private void validateQueryPeriod(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new BusinessException(ErrorCode.RESERVATION_PERIOD_INVALID, "종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(Duration.ofDays(maxAdvanceDays)) > 0) {
+            throw new BusinessException(ErrorCode.RESERVATION_PERIOD_INVALID, "한 번에 " + maxAdvanceDays + "일까지 조회할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 예약할 수 있는 기자재인지 (공개되어 있고 사용 불가/고장이 아님, 지금 대여 중인 것은 반납될 것이므로 허용)
+     */
+    private static boolean isReservable(EquipmentStatus status, Boolean isPublic) {
+        return Boolean.TRUE.equals(isPublic) && status != EquipmentStatus.UNAVAILABLE && status != EquipmentStatus.BROKEN;
+    }
+
+    private static BusinessException conflict(LocalDateTime startAt, LocalDateTime endAt) {
+        return new BusinessException(ErrorCode.RESERVATION_CONFLICT, "이미 예약된 시간과 겹칩니다: " + startAt + " ~ " + endAt);
+    }
+
+    private static ReservedSlotDto reservedSlot(IntervalIndex.Interval interval) {
+        return ReservedSlotDto.builder()
+                .reservationId(interval.id())
+                .startAt(interval.start())
+                .endAt(interval.end())
+                .build();
+    }
+
+    private static ReservationInfoDto reservationInfo(Reservation reservation, ReservationStatus status) {
+        Equipment equipment = reservation.getEquipment();
+        return ReservationInfoDto.builder()
+                .reservationId(reservation.getId())
+                .equipmentId(equipment.getId())
+                .equipmentIdentifier(equipment.getIdentifier())
+                .equipmentName(equipment.getName())
+                .reserverType(reservation.getReserverType())
+                .reserverId(reservation.getReserverId())
+                .status(status)
+                .startAt(reservation.getStartAt())
+                .endAt(reservation.getEndAt())
+                .build();
+    }
+}
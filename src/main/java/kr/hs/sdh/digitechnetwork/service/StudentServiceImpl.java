@@ -1,10 +1,15 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
 import kr.hs.sdh.digitechnetwork.entity.Student;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
 import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     public List<Student> getAllStudents() {
@@ -35,7 +41,18 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
+    @Transactional
     public Student updateUserStatus(Long studentId, Boolean isEnabled) {
-        return null;
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student", studentId));
+
+        student.setIsEnabled(isEnabled);
+        Student savedStudent = studentRepository.save(student);
+
+        // 커밋 이후 인증 필터의 사용자 상태 캐시에서 제거
+        TransactionUtils.afterCommit(() -> userStatusCache.invalidate(UserType.STUDENT, studentId));
+        log.info("학생 활성화 상태 변경: ID={}, 활성화={}", studentId, isEnabled);
+
+        return savedStudent;
     }
 }
@@ -1,10 +1,15 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
 import kr.hs.sdh.digitechnetwork.entity.Teacher;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
 import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import kr.hs.sdh.digitechnetwork.utility.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TeacherServiceImpl implements TeacherService {
     private final TeacherRepository teacherRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     public List<Teacher> getAllTeachers() {
@@ -35,7 +41,18 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    @Transactional
     public Teacher updateUserStatus(Long teacherId, Boolean isEnabled) {
-        return null;
+        Teacher teacher = teacherRepository.findById(teacherId)
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher", teacherId));
+
+        teacher.setIsEnabled(isEnabled);
+        Teacher savedTeacher = teacherRepository.save(teacher);
+
+        // 커밋 이후 인증 필터의 사용자 상태 캐시에서 제거
+        TransactionUtils.afterCommit(() -> userStatusCache.invalidate(UserType.TEACHER, teacherId));
+        log.info("교사 활성화 상태 변경: ID={}, 활성화={}", teacherId, isEnabled);
+
+        return savedTeacher;
     }
 }
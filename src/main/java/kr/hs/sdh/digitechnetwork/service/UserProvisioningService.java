@@ -0,0 +1,22 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
+
+/**
+ * 사용자 프로비저닝 서비스 인터페이스
+ * OAuth 로 확인된 사용자를 조회하거나 새로 생성하는 짧은 트랜잭션 구간을 담당
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public interface UserProvisioningService {
+
+    /**
+     * 기존 사용자를 찾고, 없으면 학생으로 생성
+     * @param googleUser Google 에서 확인된 사용자 정보
+     * @return 로그인한 사용자 정보
+     */
+    AuthResponseDto.UserInfoDto provision(GoogleUserInfoDto googleUser);
+}
@@ -0,0 +1,112 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
+import kr.hs.sdh.digitechnetwork.entity.Student;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.repository.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자 프로비저닝 서비스 구현체
+ * 원격 OAuth 호출이 모두 끝난 뒤에만 실행되므로, 트랜잭션(DB 연결)은 조회/저장 동안만 유지됨
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+    private final StudentRepository studentRepository;
+
+    /**
+     * 학생/교사 테이블을 한 번의 쿼리로 조회하고, 없으면 학생으로 생성
+     * 재방문 사용자는 쿼리 1회, 신규 사용자는 조회 1회 + INSERT 1회
+     */
+    @Override
+    @Transactional
+    public AuthResponseDto.UserInfoDto provision(GoogleUserInfoDto googleUser) {
+        String email = googleUser.getEmail();
+        String name = googleUser.getName();
+        
+        log.info("사용자 로그인 처리: email={}, name={}", email, name);
+
+        // 기존 사용자 확인 (학생이 우선)
+        List<UserIdentity> identities = studentRepository.findIdentitiesByEmail(email);
+        if (!identities.isEmpty()) {
+            UserIdentity identity = identities.get(0);
+            log.info("기존 {} 사용자 로그인: {}", "STUDENT".equals(identity.getSource()) ? "학생" : "교사", email);
+            return createUserInfo(identity);
+        }
+
+        // 새로운 사용자 생성 (기본적으로 학생으로 생성)
+        log.info("새로운 사용자 생성: {}", email);
+        
+        Student newStudent = createNewStudent(googleUser);
+        Student savedStudent = studentRepository.save(newStudent);
+        return createUserInfoFromStudent(savedStudent);
+    }
+
+    /**
+     * 새로운 학생 생성
+     */
+    private Student createNewStudent(GoogleUserInfoDto googleUser) {
+        return Student.builder()
+                .name(googleUser.getName())
+                .email(googleUser.getEmail())
+                .phoneNumber("")
+                .role(UserType.STUDENT)
+                .isEnabled(true)
+                .grade(1) // 기본값
+                .classroom(1) // 기본값
+                .studentNumber(1) // 기본값
+                .build();
+    }
+
+    /**
+     * Student 엔티티로부터 UserInfoDto 생성
+     */
+    private AuthResponseDto.UserInfoDto createUserInfoFromStudent(Student student) {
+        return AuthResponseDto.UserInfoDto.builder()
+                .id(student.getId())
+                .email(student.getEmail())
+                .name(student.getName())
+                .phoneNumber(student.getPhoneNumber())
+                .role(student.getRole())
+                .isEnabled(student.getIsEnabled())
+                .bio(student.getBio())
+                .grade(student.getGrade())
+                .classroom(student.getClassroom())
+                .studentNumber(student.getStudentNumber())
+                .build();
+    }
+
+    /**
+     * 통합 조회 결과로부터 UserInfoDto 생성
+     */
+    private AuthResponseDto.UserInfoDto createUserInfo(UserIdentity identity) {
+        return AuthResponseDto.UserInfoDto.builder()
+                .id(identity.getId())
+                .email(identity.getEmail())
+                .name(identity.getName())
+                .phoneNumber(identity.getPhoneNumber())
+                .role(identity.getRole() != null
+                        ? UserType.valueOf(identity.getRole())
+                        : UserType.valueOf(identity.getSource()))
+                .isEnabled(identity.getIsEnabled())
+                .bio(identity.getBio())
+                .grade(identity.getGrade())
+                .classroom(identity.getClassroom())
+                .studentNumber(identity.getStudentNumber())
+                .build();
+    }
+}
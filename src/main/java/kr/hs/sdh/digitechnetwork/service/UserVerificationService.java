@@ -1,5 +1,7 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.UserVerificationRequestDto;
@@ -22,12 +24,29 @@ public interface UserVerificationService {
      */
     UserVerificationResponseDto verifyUser(UserVerificationRequestDto requestDto);
     
+    /**
+     * 사용자 일괄 검증
+     * 모든 토큰의 서명을 검증한 뒤 학생/교사를 각각 한 번의 쿼리로 조회
+     * @param requestDto 일괄 검증 요청 정보
+     * @return 토큰별 검증 결과 (요청 순서 유지)
+     */
+    BatchUserVerificationResponseDto verifyUsers(BatchUserVerificationRequestDto requestDto);
+    
     /**
      * 토큰 갱신
+     * 사용한 리프레시 토큰은 폐기되고 새 리프레시 토큰이 함께 발급됨
      * @param requestDto 토큰 갱신 요청 정보
      * @return 갱신된 토큰 정보
      */
     TokenRefreshResponseDto refreshToken(TokenRefreshRequestDto requestDto);
+
+    /**
+     * 로그아웃
+     * 리프레시 토큰과 (있다면) 액세스 토큰을 폐기
+     * @param requestDto 폐기할 리프레시 토큰
+     * @param accessToken 폐기할 액세스 토큰 (없으면 null)
+     */
+    void logout(TokenRefreshRequestDto requestDto, String accessToken);
     
     /**
      * 토큰 유효성 검증
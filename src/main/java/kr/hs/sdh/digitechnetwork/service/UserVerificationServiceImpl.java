@@ -1,5 +1,9 @@
 package kr.hs.sdh.digitechnetwork.service;
 
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
+import kr.hs.sdh.digitechnetwork.auth.VerifiedToken;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshRequestDto;
 import kr.hs.sdh.digitechnetwork.dto.TokenRefreshResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.UserVerificationRequestDto;
@@ -7,18 +11,25 @@ import kr.hs.sdh.digitechnetwork.dto.UserVerificationResponseDto;
 import kr.hs.sdh.digitechnetwork.entity.Student;
 import kr.hs.sdh.digitechnetwork.entity.Teacher;
 import kr.hs.sdh.digitechnetwork.enums.UserType;
-import kr.hs.sdh.digitechnetwork.exception.ResourceNotFoundException;
 import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
 import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 검증 서비스 구현체
@@ -37,31 +48,22 @@ public class UserVerificationServiceImpl implements UserVerificationService {
     private final JwtService jwtService;
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     public UserVerificationResponseDto verifyUser(UserVerificationRequestDto requestDto) {
         log.info("사용자 검증 요청: 토큰 검증 시작");
         
-        String token = requestDto.getAccessToken();
-        
-        // 토큰 유효성 검증
-        if (!jwtService.validateToken(token)) {
-            log.warn("유효하지 않은 토큰: {}", token);
-            return createInvalidResponse();
-        }
-        
-        // 토큰 만료 확인
-        if (jwtService.isTokenExpired(token)) {
-            log.warn("만료된 토큰: {}", token);
+        // 토큰 검증 및 클레임 추출 (서명/만료 검증을 한 번의 파싱으로 처리)
+        Optional<VerifiedToken> verifiedToken = jwtService.verifyToken(requestDto.getAccessToken());
+        if (verifiedToken.isEmpty()) {
+            log.warn("유효하지 않거나 만료된 토큰");
             return createInvalidResponse();
         }
         
         try {
-            // 토큰에서 사용자 정보 추출
-            UserType userType = jwtService.getUserTypeFromToken(token);
-            Long userId = jwtService.getUserIdFromToken(token);
-            String email = jwtService.getEmailFromToken(token);
-            Date expiration = jwtService.getExpirationFromToken(token);
+            UserType userType = verifiedToken.get().userType();
+            Long userId = verifiedToken.get().userId();
             
             // 사용자 정보 조회
             Optional<?> userOptional = findUserByTypeAndId(userType, userId);
@@ -72,7 +74,7 @@ public class UserVerificationServiceImpl implements UserVerificationService {
             }
             
             // 사용자 정보로 응답 생성
-            return createVerificationResponse(userOptional.get(), userType, expiration);
+            return createVerificationResponse(userOptional.get(), userType, verifiedToken.get().expiresAt());
             
         } catch (Exception e) {
             log.error("사용자 검증 중 오류 발생: {}", e.getMessage(), e);
@@ -81,17 +83,84 @@ public class UserVerificationServiceImpl implements UserVerificationService {
     }
 
     @Override
+    public BatchUserVerificationResponseDto verifyUsers(BatchUserVerificationRequestDto requestDto) {
+        List<String> tokens = requestDto.getAccessTokens();
+        log.info("사용자 일괄 검증 요청: {}개", tokens.size());
+        
+        // 1. 모든 토큰 서명 검증
+        List<Optional<VerifiedToken>> verifiedTokens = tokens.stream()
+                .map(jwtService::verifyToken)
+                .toList();
+        
+        // 2. 참조된 사용자 ID 를 타입별로 수집
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> teacherIds = new HashSet<>();
+        for (Optional<VerifiedToken> verifiedToken : verifiedTokens) {
+            verifiedToken.ifPresent(verified -> {
+                switch (verified.userType()) {
+                    case STUDENT -> studentIds.add(verified.userId());
+                    case TEACHER -> teacherIds.add(verified.userId());
+                    default -> { }
+                }
+            });
+        }
+        
+        // 3. 학생/교사를 각각 한 번의 쿼리로 조회
+        Map<Long, Student> students = studentIds.isEmpty() ? Map.of() : studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+        Map<Long, Teacher> teachers = teacherIds.isEmpty() ? Map.of() : teacherRepository.findAllById(teacherIds).stream()
+                .collect(Collectors.toMap(Teacher::getId, Function.identity()));
+        
+        // 4. 토큰 순서대로 결과 생성
+        List<UserVerificationResponseDto> results = new ArrayList<>(tokens.size());
+        int validCount = 0;
+        for (Optional<VerifiedToken> verifiedToken : verifiedTokens) {
+            Object user = verifiedToken
+                    .map(verified -> switch (verified.userType()) {
+                        case STUDENT -> (Object) students.get(verified.userId());
+                        case TEACHER -> teachers.get(verified.userId());
+                        default -> null;
+                    })
+                    .orElse(null);
+            
+            if (user == null) {
+                results.add(createInvalidResponse());
+            } else {
+                results.add(createVerificationResponse(user, verifiedToken.get().userType(), verifiedToken.get().expiresAt()));
+                validCount++;
+            }
+        }
+        
+        log.info("사용자 일괄 검증 완료: 유효={}, 무효={}", validCount, tokens.size() - validCount);
+        return BatchUserVerificationResponseDto.builder()
+                .results(results)
+                .validCount(validCount)
+                .invalidCount(tokens.size() - validCount)
+                .build();
+    }
+
+    /**
+     * 폐기 기록은 별도 트랜잭션으로 즉시 저장해야 하므로 읽기 전용 트랜잭션 밖에서 실행
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenRefreshResponseDto refreshToken(TokenRefreshRequestDto requestDto) {
         log.info("토큰 갱신 요청");
         
         try {
-            String newAccessToken = jwtService.refreshAccessToken(requestDto.getRefreshToken());
-            Date expiration = jwtService.getExpirationFromToken(newAccessToken);
+            VerifiedToken refreshToken = jwtService.parseToken(requestDto.getRefreshToken());
+            if (!userStatusCache.isEnabled(refreshToken.userType(), refreshToken.userId())) {
+                throw new IllegalArgumentException("사용자가 없거나 비활성화되었습니다.");
+            }
+
+            Map<String, String> tokens = jwtService.rotateRefreshToken(refreshToken);
             
+            // 방금 발급한 토큰을 다시 파싱하지 않고 설정된 유효 기간을 그대로 사용
             return TokenRefreshResponseDto.builder()
-                    .accessToken(newAccessToken)
+                    .accessToken(tokens.get("accessToken"))
+                    .refreshToken(tokens.get("refreshToken"))
                     .tokenType("Bearer")
-                    .expiresIn(expiration.getTime() / 1000) // 초 단위로 변환
+                    .expiresIn(jwtService.getAccessTokenExpiresIn())
                     .build();
                     
         } catch (Exception e) {
@@ -100,9 +169,22 @@ public class UserVerificationServiceImpl implements UserVerificationService {
         }
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(TokenRefreshRequestDto requestDto, String accessToken) {
+        jwtService.verifyToken(requestDto.getRefreshToken()).ifPresent(jwtService::revokeToken);
+        if (accessToken != null) {
+            jwtService.verifyToken(accessToken).ifPresent(verified -> {
+                jwtService.revokeToken(verified);
+                jwtService.evictVerifiedToken(accessToken);
+            });
+        }
+        log.info("로그아웃 처리 완료");
+    }
+
     @Override
     public boolean validateToken(String token) {
-        return jwtService.validateToken(token) && !jwtService.isTokenExpired(token);
+        return jwtService.validateToken(token);
     }
 
     /**
@@ -133,14 +215,14 @@ public class UserVerificationServiceImpl implements UserVerificationService {
      * 검증 성공 응답 생성
      * @param user 사용자 엔티티
      * @param userType 사용자 타입
-     * @param expiration 토큰 만료 시간
+     * @param expiresAt 토큰 만료 시각
      * @return 검증 성공 응답
      */
-    private UserVerificationResponseDto createVerificationResponse(Object user, UserType userType, Date expiration) {
+    private UserVerificationResponseDto createVerificationResponse(Object user, UserType userType, Instant expiresAt) {
         UserVerificationResponseDto.UserVerificationResponseDtoBuilder builder = UserVerificationResponseDto.builder()
                 .userType(userType)
                 .isValid(true)
-                .tokenExpiration(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+                .tokenExpiration(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
         
         if (user instanceof Student student) {
             builder.userId(student.getId())
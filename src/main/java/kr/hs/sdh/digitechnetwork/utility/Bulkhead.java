@@ -0,0 +1,105 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 기반 동시 실행 제한기 (Bulkhead)
+ * 외부 호출처럼 오래 대기하는 작업을 가상 스레드에서 실행하되,
+ * 동시에 실행되는 작업 수를 제한하여 외부 장애가 애플리케이션 전체로 번지지 않도록 함
+ *
+ * 주요 특징:
+ * - 작업마다 가상 스레드를 하나씩 사용하므로 대기 중에도 플랫폼 스레드를 점유하지 않음
+ * - 허용 수를 넘으면 지정한 시간만큼만 기다린 뒤 RejectedExecutionException 으로 거부
+ * - 실행 중/거부 건수 통계 제공
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class Bulkhead implements AutoCloseable {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ExecutorService executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name 이름 (가상 스레드 이름 접두사)
+     * @param maxConcurrent 최대 동시 실행 수
+     * @param acquireTimeout 허용 대기 시간
+     */
+    public Bulkhead(String name, int maxConcurrent, Duration acquireTimeout) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * 작업을 가상 스레드에서 실행
+     * 허가를 얻은 뒤 실행되며, 작업이 끝나면 (성공/실패와 관계없이) 허가를 반납
+     * @param task 작업
+     * @return 작업 결과 (허용 수 초과 시 RejectedExecutionException 으로 완료)
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                permits.release();
+                completed.increment();
+            }
+        }, executor);
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new RejectedExecutionException(name + " 동시 실행 한도(" + maxConcurrent + ")를 초과했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(name + " 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 현재 상태 조회
+     * @return 실행 중/최대/완료/거부 건수
+     */
+    public Stats stats() {
+        return new Stats(maxConcurrent - permits.availablePermits(), maxConcurrent,
+                permits.getQueueLength(), completed.sum(), rejected.sum());
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Bulkhead 상태 스냅샷
+     */
+    public record Stats(int active, int maxConcurrent, int waiting, long completedCount, long rejectedCount) {
+    }
+}
@@ -0,0 +1,120 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 읽기 (RFC 4180)
+ * 파일 전체를 메모리에 올리지 않고 레코드를 하나씩 읽음
+ *
+ * 지원 형식:
+ * - 쉼표 구분, 큰따옴표로 감싼 필드 (필드 안의 쉼표/줄바꿈 포함)
+ * - 감싼 필드 안의 "" 는 " 하나로 해석
+ * - 줄바꿈은 \n, \r\n 모두 허용하고, 빈 줄은 건너뜀
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class CsvReader {
+
+    private static final int END = -1;
+
+    private final Reader reader;
+    private int peeked = -2; // 아직 읽지 않음
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드 읽기
+     * @return 필드 목록 (더 이상 레코드가 없으면 null)
+     * @throws IOException 읽기 실패 또는 닫히지 않은 따옴표
+     */
+    public List<String> next() throws IOException {
+        while (peek() == '\n' || peek() == '\r') { // 빈 줄
+            readLineBreak();
+        }
+        if (peek() == END) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == '"' && field.isEmpty()) {
+                readQuoted(field);
+                continue;
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == END) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (c != END) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+     * @return 줄 번호
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == END) {
+                throw new IOException(recordLineNumber + "번째 줄: 따옴표가 닫히지 않았습니다.");
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    return;
+                }
+                read();
+            } else if (c == '\n') {
+                lineNumber++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private void readLineBreak() throws IOException {
+        int c = read();
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        lineNumber++;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        return c;
+    }
+}
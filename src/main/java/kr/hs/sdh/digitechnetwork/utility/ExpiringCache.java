@@ -0,0 +1,237 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한과 항목별 만료 시각을 가지는 인메모리 캐시
+ *
+ * 주요 기능:
+ * - 항목마다 절대 만료 시각을 지정 (TTL 또는 토큰 exp 등)
+ * - 최대 크기를 넘으면 만료 항목부터 정리하고, 그래도 넘치면 임의 항목을 축출
+ * - 적중/미스/축출/로드 시간 통계 제공
+ *
+ * 외부 라이브러리 없이 ConcurrentHashMap 위에 구현되어 있으며,
+ * 축출은 용량 초과 시 한 번에 여유분(10%)을 확보하므로 분할 상환 O(1) 로 동작합니다.
+ *
+ * 로드 중에는 키에 로드 표시를 넣어 두고, 로드가 끝났을 때 그 표시가 그대로 있을 때만 값을 저장합니다.
+ * 로드 중에 무효화되면 표시가 지워지므로, 무효화 전에 읽은 오래된 값이 무효화 뒤에 다시 저장되지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public ExpiringCache(int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maximumSize, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 값 조회 (만료된 항목은 제거)
+     * @param key 키
+     * @return 캐시된 값 (없거나 만료되었으면 empty)
+     */
+    public Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isLoading()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (entry.isExpiredAt(clock.millis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value());
+    }
+
+    /**
+     * 캐시된 값을 조회하고, 없으면 로더로 읽어와 TTL 동안 보관
+     * 로더가 null 을 반환하거나, 로드 중에 이 키가 무효화되면 캐시하지 않음
+     * @param key 키
+     * @param loader 값 로더
+     * @param ttl 보관 기간
+     * @return 값 (로더가 null 을 반환한 경우 null)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader, Duration ttl) {
+        Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Entry<V> loading = Entry.loading();
+        entries.put(key, loading);
+        V value = null;
+        try {
+            long start = System.nanoTime();
+            value = loader.apply(key);
+            loadNanos.add(System.nanoTime() - start);
+            loads.increment();
+        } finally {
+            // 로드 표시가 남아 있을 때만 저장 (무효화되었거나 다른 로드가 표시를 바꿨으면 저장하지 않음)
+            if (value != null) {
+                entries.replace(key, loading, new Entry<>(value, clock.millis() + ttl.toMillis(), null));
+            } else {
+                entries.remove(key, loading);
+            }
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * 절대 만료 시각을 지정하여 값 저장
+     * @param key 키
+     * @param value 값
+     * @param expiresAtMillis 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis, null));
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    /**
+     * 특정 키 무효화
+     * @param key 키
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 조건을 만족하는 값을 가진 항목 모두 무효화 (진행 중인 로드도 저장되지 않도록 함께 취소)
+     * @param predicate 무효화 조건
+     */
+    public void invalidateIf(Predicate<? super V> predicate) {
+        entries.values().removeIf(entry -> entry.isLoading() || predicate.test(entry.value()));
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 현재 보관 중인 항목 수 (만료되었지만 아직 정리되지 않은 항목 포함)
+     * @return 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 통계 스냅샷
+     */
+    public Stats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long loadCount = loads.sum();
+        long requests = hitCount + missCount;
+        return new Stats(
+                entries.size(),
+                maximumSize,
+                hitCount,
+                missCount,
+                requests == 0 ? 0.0 : (double) hitCount / requests,
+                evictions.sum(),
+                loadCount,
+                loadCount == 0 ? 0.0 : loadNanos.sum() / 1_000_000.0 / loadCount
+        );
+    }
+
+    /**
+     * 용량 초과 시 만료 항목을 먼저 정리하고, 여전히 넘치면 최대 크기의 90% 까지 축출
+     */
+    private void evict() {
+        long now = clock.millis();
+        int target = Math.max(1, maximumSize - maximumSize / 10);
+
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpiredAt(now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 캐시 항목 (loadToken 이 있으면 로드 중 표시, 표시마다 다른 객체이므로 다른 로드의 표시와 같지 않음)
+     */
+    private record Entry<V>(V value, long expiresAtMillis, Object loadToken) {
+
+        static <V> Entry<V> loading() {
+            return new Entry<>(null, Long.MAX_VALUE, new Object());
+        }
+
+        boolean isLoading() {
+            return loadToken != null;
+        }
+
+        boolean isExpiredAt(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     * @param size 현재 항목 수
+     * @param maximumSize 최대 항목 수
+     * @param hitCount 적중 횟수
+     * @param missCount 미스 횟수
+     * @param hitRatio 적중률
+     * @param evictionCount 축출 횟수
+     * @param loadCount 로드 횟수
+     * @param averageLoadMillis 평균 로드 시간 (ms)
+     */
+    public record Stats(long size, long maximumSize, long hitCount, long missCount, double hitRatio,
+                        long evictionCount, long loadCount, double averageLoadMillis) {
+    }
+}
@@ -0,0 +1,216 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 시간 구간 색인 (예약 충돌/빈 시간 확인용)
+ * 키(기자재 ID 등)마다 서로 겹치지 않는 [시작, 종료) 구간을 시작 시각 순으로 보관
+ *
+ * 구간이 서로 겹치지 않으므로 시작 시각 순서와 종료 시각 순서가 같습니다.
+ * 따라서 [start, end) 와 겹치는 구간이 있는지는 "시작이 end 보다 앞선 구간 중 마지막 구간" 하나만 보면 되고,
+ * 충돌 확인과 추가 모두 O(log n) 입니다.
+ *
+ * 동시성:
+ * - 키를 고정된 수의 락(stripe)에 나누어 배정하여, 같은 키의 확인-추가는 원자적으로, 다른 키끼리는 대부분 동시에 처리
+ * - 구간 ID → 구간 매핑은 삭제/교체용
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class IntervalIndex {
+
+    private static final int STRIPES = 64;
+
+    private final Map<Long, NavigableMap<LocalDateTime, Interval>> intervalsByKey = new ConcurrentHashMap<>();
+    private final Map<Long, Interval> intervalsById = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+
+    public IntervalIndex() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 겹치는 구간이 없을 때만 추가 (확인과 추가가 원자적)
+     * @param interval 추가할 구간
+     * @return 추가했으면 true, 겹치는 구간이 있으면 false
+     */
+    public boolean tryAdd(Interval interval) {
+        synchronized (lockFor(interval.key())) {
+            if (findConflict(interval.key(), interval.start(), interval.end()).isPresent()) {
+                return false;
+            }
+            insert(interval);
+            return true;
+        }
+    }
+
+    /**
+     * 구간 추가 또는 교체 (저장소 기준 최신 값 반영용)
+     * 겹치는 기존 구간은 이미 취소된 오래된 값으로 보고 제거
+     * @param interval 추가할 구간
+     */
+    public void put(Interval interval) {
+        remove(interval.id());
+        synchronized (lockFor(interval.key())) {
+            for (Interval stale : overlapping(interval.key(), interval.start(), interval.end())) {
+                delete(stale);
+            }
+            insert(interval);
+        }
+    }
+
+    /**
+     * 구간 제거
+     * @param id 구간 ID
+     */
+    public void remove(long id) {
+        Interval interval = intervalsById.get(id);
+        if (interval == null) {
+            return;
+        }
+        synchronized (lockFor(interval.key())) {
+            if (intervalsById.get(id) == interval) {
+                delete(interval);
+            }
+        }
+    }
+
+    /**
+     * [start, end) 와 겹치는 구간 하나 조회
+     * @param key 키
+     * @param start 시작 시각
+     * @param end 종료 시각 (start 보다 뒤)
+     * @return 겹치는 구간
+     */
+    public Optional<Interval> findConflict(long key, LocalDateTime start, LocalDateTime end) {
+        synchronized (lockFor(key)) {
+            NavigableMap<LocalDateTime, Interval> intervals = intervalsByKey.get(key);
+            if (intervals == null) {
+                return Optional.empty();
+            }
+            Map.Entry<LocalDateTime, Interval> last = intervals.lowerEntry(end);
+            if (last != null && last.getValue().end().isAfter(start)) {
+                return Optional.of(last.getValue());
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * [start, end) 가 비어 있는지 확인
+     * @param key 키
+     * @param start 시작 시각
+     * @param end 종료 시각
+     * @return 겹치는 구간이 없으면 true
+     */
+    public boolean isFree(long key, LocalDateTime start, LocalDateTime end) {
+        return findConflict(key, start, end).isEmpty();
+    }
+
+    /**
+     * [start, end) 와 겹치는 구간 목록 (시작 시각 순)
+     * @param key 키
+     * @param start 시작 시각
+     * @param end 종료 시각
+     * @return 겹치는 구간 목록
+     */
+    public List<Interval> overlapping(long key, LocalDateTime start, LocalDateTime end) {
+        synchronized (lockFor(key)) {
+            NavigableMap<LocalDateTime, Interval> intervals = intervalsByKey.get(key);
+            if (intervals == null) {
+                return List.of();
+            }
+            // start 이전에 시작했지만 start 이후에 끝나는 구간은 많아야 하나
+            Map.Entry<LocalDateTime, Interval> before = intervals.lowerEntry(start);
+            LocalDateTime from = before != null && before.getValue().end().isAfter(start) ? before.getKey() : start;
+            return new ArrayList<>(intervals.subMap(from, true, end, false).values());
+        }
+    }
+
+    /**
+     * 종료 시각이 지난 구간 정리
+     * @param now 기준 시각
+     * @return 제거한 구간 수
+     */
+    public int removeEndedBefore(LocalDateTime now) {
+        int removed = 0;
+        for (Long key : intervalsByKey.keySet()) {
+            synchronized (lockFor(key)) {
+                NavigableMap<LocalDateTime, Interval> intervals = intervalsByKey.get(key);
+                if (intervals == null) {
+                    continue;
+                }
+                // 종료 시각도 시작 시각 순이므로 앞에서부터 지난 구간만 제거
+                Iterator<Interval> iterator = intervals.values().iterator();
+                while (iterator.hasNext()) {
+                    Interval interval = iterator.next();
+                    if (interval.end().isAfter(now)) {
+                        break;
+                    }
+                    iterator.remove();
+                    intervalsById.remove(interval.id());
+                    removed++;
+                }
+                if (intervals.isEmpty()) {
+                    intervalsByKey.remove(key);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 전체 구간 수
+     * @return 구간 수
+     */
+    public int size() {
+        return intervalsById.size();
+    }
+
+    private void insert(Interval interval) {
+        intervalsByKey.computeIfAbsent(interval.key(), key -> new TreeMap<>()).put(interval.start(), interval);
+        intervalsById.put(interval.id(), interval);
+    }
+
+    private void delete(Interval interval) {
+        NavigableMap<LocalDateTime, Interval> intervals = intervalsByKey.get(interval.key());
+        if (intervals != null) {
+            intervals.remove(interval.start(), interval);
+            if (intervals.isEmpty()) {
+                intervalsByKey.remove(interval.key());
+            }
+        }
+        intervalsById.remove(interval.id(), interval);
+    }
+
+    private Object lockFor(long key) {
+        return locks[Math.floorMod(Long.hashCode(key), STRIPES)];
+    }
+
+    /**
+     * 구간 [start, end)
+     * @param id 구간 ID (예약 ID 등)
+     * @param key 키 (기자재 ID 등)
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (제외)
+     */
+    public record Interval(long id, long key, LocalDateTime start, LocalDateTime end) {
+
+        public Interval {
+            if (!end.isAfter(start)) {
+                throw new IllegalArgumentException("종료 시각은 시작 시각보다 뒤여야 합니다: " + start + " ~ " + end);
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 n-gram 역색인 (부분 문자열 검색용)
+ * LIKE '%검색어%' 처럼 어디에 있든 찾아야 하는 검색을 전체 스캔 없이 처리하기 위해 사용
+ *
+ * 토큰화:
+ * - NFKC 정규화 + 소문자 변환 (전각 문자, 호환 자모 등을 같은 문자로 취급)
+ * - 문자/숫자가 아닌 곳과 한글 ↔ 비한글 경계에서 단어를 나눔 (예: "LG노트북" → "lg", "노트북")
+ * - 단어마다 1-gram 과 2-gram 을 색인 (한글은 음절 단위이므로 두 글자 검색어도 정확히 맞음)
+ * - 한글 단어는 초성(예: 노트북 → ㄴㅌㅂ)도 따로 색인하여 초성 검색 지원
+ *
+ * 순위:
+ * - 검색어의 n-gram 중 일치한 n-gram 의 필드 가중치 합
+ * - 두 글자 이하 검색어는 모든 n-gram 이, 그보다 길면 75% 이상이 일치해야 결과에 포함
+ * - 검색어 전체가 그대로 포함되면 가산점, 첫 번째 필드(식별자 등)와 정확히 같으면 추가 가산점
+ *
+ * 읽기는 공유 락, 쓰기는 배타 락으로 보호합니다. (쓰기는 기자재 등록/수정 시에만 발생)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class NGramIndex {
+
+    private static final char CHOSEONG_PREFIX = '#'; // 정규화 후 단어에 나타나지 않는 문자
+    private static final double MIN_MATCH_RATIO = 0.75;
+    private static final double CONTAINS_BONUS = 5.0;
+    private static final double EXACT_BONUS = 10.0;
+
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 추가 또는 교체
+     * @param id 문서 ID
+     * @param fields 색인할 필드 (첫 번째 필드는 정확히 일치할 때 추가 가산점)
+     */
+    public void put(long id, List<Field> fields) {
+        Map<String, Double> grams = new HashMap<>();
+        List<String> texts = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            String text = normalize(field.text());
+            texts.add(text);
+            for (String gram : documentGrams(text)) {
+                grams.merge(gram, field.weight(), Math::max);
+            }
+        }
+        Document document = new Document(grams, texts);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, document);
+            grams.forEach((gram, weight) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     * @param id 문서 ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams().keySet()) {
+            Map<Long, Double> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색
+     * @param query 검색어
+     * @return 점수 내림차순(같으면 ID 오름차순) 결과
+     */
+    public List<Hit> search(String query) {
+        String normalized = normalize(query);
+        Set<String> queryGrams = queryGrams(normalized);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+        int required = queryGrams.size() <= 2
+                ? queryGrams.size()
+                : (int) Math.ceil(queryGrams.size() * MIN_MATCH_RATIO);
+        String phrase = normalized.strip();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, double[]> accumulators = new HashMap<>(); // [점수, 일치한 n-gram 수]
+            for (String gram : queryGrams) {
+                Map<Long, Double> ids = postings.get(gram);
+                if (ids == null) {
+                    continue;
+                }
+                ids.forEach((id, weight) -> {
+                    double[] accumulator = accumulators.computeIfAbsent(id, key -> new double[2]);
+                    accumulator[0] += weight;
+                    accumulator[1]++;
+                });
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            accumulators.forEach((id, accumulator) -> {
+                if (accumulator[1] < required) {
+                    return;
+                }
+                double score = accumulator[0];
+                List<String> texts = documents.get(id).texts();
+                for (String text : texts) {
+                    if (text.contains(phrase)) {
+                        score += CONTAINS_BONUS;
+                        break;
+                    }
+                }
+                if (!texts.isEmpty() && texts.get(0).equals(phrase)) {
+                    score += EXACT_BONUS;
+                }
+                hits.add(new Hit(id, score));
+            });
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     * @return 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서로 다른 n-gram 수
+     * @return n-gram 수
+     */
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 토큰화 =====
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 단어 분리 (문자/숫자가 아닌 곳, 한글 ↔ 비한글 경계)
+     */
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        Boolean currentHangul = null;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flush(words, current);
+                currentHangul = null;
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            if (currentHangul != null && currentHangul != hangul) {
+                flush(words, current);
+            }
+            current.append(c);
+            currentHangul = hangul;
+        }
+        flush(words, current);
+        return words;
+    }
+
+    private static Set<String> documentGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            addGrams(grams, word, "");
+            String choseong = choseong(word);
+            if (choseong != null) {
+                addGrams(grams, choseong, String.valueOf(CHOSEONG_PREFIX));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            // 초성만으로 된 검색어 (예: ㄴㅌㅂ) 는 초성 색인에서 찾음
+            String prefix = isChoseongOnly(word) ? String.valueOf(CHOSEONG_PREFIX) : "";
+            if (word.length() == 1) {
+                grams.add(prefix + word);
+            } else {
+                for (int i = 0; i + 2 <= word.length(); i++) {
+                    grams.add(prefix + word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String word, String prefix) {
+        for (int i = 0; i < word.length(); i++) {
+            grams.add(prefix + word.charAt(i));
+            if (i + 2 <= word.length()) {
+                grams.add(prefix + word.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 한글 음절 단어의 초성 문자열 (NFKC 정규화 후와 같은 첫소리 자모 U+1100 영역 사용)
+     * @return 초성 문자열 (한글 음절 단어가 아니면 null)
+     */
+    static String choseong(String word) {
+        StringBuilder initials = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 0xAC00 || c > 0xD7A3) {
+                return null;
+            }
+            initials.append((char) (0x1100 + (c - 0xAC00) / 588));
+        }
+        return initials.toString();
+    }
+
+    private static boolean isChoseongOnly(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 0x1100 || c > 0x1112) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void flush(List<String> words, StringBuilder current) {
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * 색인할 필드
+     * @param text 내용
+     * @param weight 가중치
+     */
+    public record Field(String text, double weight) {
+    }
+
+    /**
+     * 검색 결과
+     * @param id 문서 ID
+     * @param score 점수
+     */
+    public record Hit(long id, double score) {
+    }
+
+    private record Document(Map<String, Double> grams, List<String> texts) {
+    }
+}
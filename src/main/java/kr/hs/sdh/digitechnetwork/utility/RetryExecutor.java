@@ -0,0 +1,127 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 제한된 횟수의 재시도 실행기 (지수 백오프 + 지터)
+ * 낙관적 잠금 충돌처럼 잠시 뒤 다시 하면 성공할 가능성이 높은 실패를 재시도
+ *
+ * 주요 특징:
+ * - 재시도 대상 예외만 재시도하고, 나머지 예외는 즉시 그대로 전파
+ * - n 번째 재시도 전 0 ~ min(최대 대기, 초기 대기 × 2^(n-1)) 사이에서 무작위로 대기하여
+ *   같은 행을 두고 충돌한 요청들이 다시 동시에 부딪히지 않도록 함
+ * - 최대 시도 횟수를 넘으면 마지막 예외를 그대로 전파
+ * - 호출/충돌/재시도/복구/포기 건수 통계 제공 (경합 정도 확인용)
+ *
+ * 재시도마다 작업 전체(트랜잭션 포함)를 다시 실행해야 하므로 트랜잭션 밖에서 호출해야 함
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class RetryExecutor {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Predicate<Throwable> retryable;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAccumulator maxAttemptsUsed = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param maxAttempts 최대 시도 횟수 (첫 시도 포함, 1 이상)
+     * @param initialBackoff 첫 재시도 전 최대 대기 시간
+     * @param maxBackoff 재시도 전 최대 대기 시간 상한
+     * @param retryable 재시도 대상 예외 판별
+     */
+    public RetryExecutor(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Predicate<Throwable> retryable) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts 는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.retryable = retryable;
+    }
+
+    /**
+     * 작업 실행 (재시도 대상 예외가 나면 대기 후 다시 실행)
+     * @param task 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(Supplier<T> task) {
+        calls.increment();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = task.get();
+                maxAttemptsUsed.accumulate(attempt);
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (!retryable.test(e)) {
+                    throw e;
+                }
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    maxAttemptsUsed.accumulate(attempt);
+                    exhausted.increment();
+                    throw e;
+                }
+                if (!backoff(attempt)) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+            }
+        }
+    }
+
+    /**
+     * 재시도 전 대기
+     * @return 인터럽트 없이 대기를 마쳤는지
+     */
+    private boolean backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 현재 통계 조회
+     * @return 호출/충돌/재시도/복구/포기 건수
+     */
+    public Stats stats() {
+        long callCount = calls.sum();
+        long conflictCount = conflicts.sum();
+        return new Stats(callCount, conflictCount, retries.sum(), recovered.sum(), exhausted.sum(),
+                maxAttemptsUsed.get(), callCount == 0 ? 0.0 : (double) conflictCount / callCount);
+    }
+
+    /**
+     * 재시도 통계 스냅샷
+     * conflictsPerCall 은 호출당 평균 충돌 수 (경합이 심할수록 커짐)
+     */
+    public record Stats(long callCount, long conflictCount, long retryCount, long recoveredCount,
+                        long exhaustedCount, long maxAttemptsUsed, double conflictsPerCall) {
+    }
+}
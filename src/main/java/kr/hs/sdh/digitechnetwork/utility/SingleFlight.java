@@ -0,0 +1,72 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 작업을 하나로 합치는 실행기 (single-flight)
+ * 같은 키로 동시에 들어온 호출 중 첫 번째만 작업을 실행하고, 나머지는 그 결과를 함께 받음
+ *
+ * 작업이 끝나면 키를 바로 제거하므로 결과를 캐시하지 않습니다.
+ * 이후 호출은 다시 작업을 실행합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder sharedCount = new LongAdder();
+
+    /**
+     * 작업 실행 (같은 키의 작업이 진행 중이면 그 결과를 기다림)
+     * @param key 키
+     * @param task 작업
+     * @return 작업 결과
+     */
+    public V execute(K key, Supplier<V> task) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            sharedCount.increment();
+            return join(existing);
+        }
+
+        try {
+            V value = task.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 다른 호출의 결과를 함께 받은 횟수
+     * @return 합쳐진 호출 수
+     */
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
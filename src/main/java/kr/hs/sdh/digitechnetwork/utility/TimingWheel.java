@@ -0,0 +1,140 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 타이밍 휠 (마감 시각이 된 ID 를 한 틱 단위로 꺼내는 타이머)
+ * 대여 반납 기한처럼 건수가 많고 대부분 취소되는(제때 반납되는) 마감 시각을 우선순위 큐 없이 관리
+ *
+ * 구조:
+ * - 시간을 틱 단위로 나누고, 틱 번호를 휠 크기로 나눈 나머지 칸(bucket)에 마감 시각을 보관
+ * - 등록/취소는 칸의 해시맵에 넣고 빼는 O(1)
+ * - advance 는 지난 틱의 칸만 방문하며, 칸에 있는 것 중 마감이 지난 것만 꺼냄
+ *   (휠 한 바퀴보다 먼 마감은 칸에 남아 다음 바퀴에 다시 확인되므로, 마감까지의 바퀴 수만큼만 더 보게 됨)
+ * - 한 번에 휠 한 바퀴보다 오래 멈춰 있었다면 모든 칸을 한 번씩만 방문
+ *
+ * 마감은 최대 한 틱 늦게 꺼내집니다. 스레드 안전합니다. (모든 연산을 하나의 락으로 보호)
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ * @version 1.0.0
+ */
+public class TimingWheel {
+
+    private final LocalDateTime origin;
+    private final long tickMillis;
+    private final List<Map<Long, Long>> buckets; // 칸마다 ID → 마감 틱
+    private final Map<Long, Long> deadlineTicks = new HashMap<>(); // ID → 마감 틱
+
+    private long currentTick; // 아직 처리하지 않은 첫 틱
+
+    /**
+     * @param origin 기준 시각 (0 번 틱의 시작)
+     * @param tick 틱 길이
+     * @param wheelSize 칸 수
+     */
+    public TimingWheel(LocalDateTime origin, Duration tick, int wheelSize) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("틱 길이와 칸 수는 0 보다 커야 합니다: " + tick + ", " + wheelSize);
+        }
+        this.origin = origin;
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * 마감 등록 (이미 등록된 ID 면 마감 시각 교체)
+     * 이미 지난 마감은 다음 advance 에서 꺼내짐
+     * @param id ID
+     * @param deadline 마감 시각
+     */
+    public synchronized void schedule(long id, LocalDateTime deadline) {
+        cancel(id);
+        long tick = Math.max(tickOf(deadline), currentTick);
+        buckets.get(bucketOf(tick)).put(id, tick);
+        deadlineTicks.put(id, tick);
+    }
+
+    /**
+     * 등록되어 있지 않은 ID 만 마감 등록 (이미 등록된 마감은 교체하지 않음)
+     * 오래된 스냅샷으로 휠을 채울 때, 그사이 더 최근 값으로 등록된 마감을 덮어쓰지 않도록 사용
+     * @param id ID
+     * @param deadline 마감 시각
+     * @return 새로 등록했으면 true
+     */
+    public synchronized boolean scheduleIfAbsent(long id, LocalDateTime deadline) {
+        if (deadlineTicks.containsKey(id)) {
+            return false;
+        }
+        schedule(id, deadline);
+        return true;
+    }
+
+    /**
+     * 마감 취소
+     * @param id ID
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(long id) {
+        Long tick = deadlineTicks.remove(id);
+        if (tick == null) {
+            return false;
+        }
+        buckets.get(bucketOf(tick)).remove(id);
+        return true;
+    }
+
+    /**
+     * now 직전 틱까지 진행하며 마감이 지난 ID 를 꺼냄 (꺼낸 ID 는 등록 해제됨)
+     * @param now 현재 시각
+     * @return 마감이 지난 ID 목록
+     */
+    public synchronized List<Long> advance(LocalDateTime now) {
+        long targetTick = tickOf(now); // 진행 중인 틱은 끝난 뒤에 처리
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        List<Long> expired = new ArrayList<>();
+        long visits = Math.min(targetTick - currentTick, buckets.size());
+        for (long tick = currentTick; tick < currentTick + visits; tick++) {
+            Iterator<Map.Entry<Long, Long>> iterator = buckets.get(bucketOf(tick)).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Long> entry = iterator.next();
+                if (entry.getValue() < targetTick) {
+                    iterator.remove();
+                    deadlineTicks.remove(entry.getKey());
+                    expired.add(entry.getKey());
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    /**
+     * 등록된 마감 수
+     * @return 마감 수
+     */
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+
+    private long tickOf(LocalDateTime time) {
+        return Math.floorDiv(Duration.between(origin, time).toMillis(), tickMillis);
+    }
+
+    private int bucketOf(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.size());
+    }
+}
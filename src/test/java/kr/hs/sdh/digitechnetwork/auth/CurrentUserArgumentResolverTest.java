@@ -0,0 +1,89 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CurrentUserArgumentResolver 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("CurrentUserArgumentResolver 테스트")
+class CurrentUserArgumentResolverTest {
+
+    private final CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("@CurrentUser AuthenticatedUser 파라미터만 지원")
+    void supportsAnnotatedAuthenticatedUserOnly() throws NoSuchMethodException {
+        assertThat(resolver.supportsParameter(parameter("required", AuthenticatedUser.class))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("notAnnotated", AuthenticatedUser.class))).isFalse();
+        assertThat(resolver.supportsParameter(parameter("wrongType", String.class))).isFalse();
+    }
+
+    @Test
+    @DisplayName("SecurityContext 의 principal 을 그대로 주입")
+    void resolvesPrincipalFromSecurityContext() throws NoSuchMethodException {
+        // given
+        AuthenticatedUser user = AuthenticatedUser.of(7L, UserType.TEACHER, "teacher@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.authorities()));
+
+        // when
+        Object resolved = resolver.resolveArgument(parameter("required", AuthenticatedUser.class), null, null, null);
+
+        // then
+        assertThat(resolved).isSameAs(user);
+        assertThat(user.authorities()).extracting(Object::toString).containsExactly("ROLE_TEACHER");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("teacher@example.com");
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 required 이면 401, 아니면 null")
+    void unauthenticatedRequest() throws NoSuchMethodException {
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("required", AuthenticatedUser.class), null, null, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AUTHENTICATION_REQUIRED);
+
+        assertThat(resolver.resolveArgument(parameter("optional", AuthenticatedUser.class), null, null, null)).isNull();
+    }
+
+    private static MethodParameter parameter(String methodName, Class<?> type) throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod(methodName, type);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+        void required(@CurrentUser AuthenticatedUser user) {
+        }
+
+        void optional(@CurrentUser(required = false) AuthenticatedUser user) {
+        }
+
+        void notAnnotated(AuthenticatedUser user) {
+        }
+
+        void wrongType(@CurrentUser String user) {
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package kr.hs.sdh.digitechnetwork.auth;
+
+import io.jsonwebtoken.Jwts;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * GoogleIdTokenVerifier 테스트 클래스
+ * 로컬에서 만든 RSA 키 목록으로 Google JWKS 엔드포인트를 대신함
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("GoogleIdTokenVerifier 테스트")
+class GoogleIdTokenVerifierTest {
+
+    private static final String JWKS_URI = "http://localhost/certs";
+    private static final String CLIENT_ID = "test-client-id";
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+
+    private RestTemplate restTemplate;
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("public, max-age=3600");
+        when(restTemplate.getForEntity(eq(JWKS_URI), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(jwks("key-1", (RSAPublicKey) keyPair.getPublic()), headers, HttpStatus.OK));
+
+        verifier = new GoogleIdTokenVerifier(restTemplate);
+        ReflectionTestUtils.setField(verifier, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(verifier, "jwksUri", JWKS_URI);
+        ReflectionTestUtils.setField(verifier, "refreshMinIntervalMillis", 60000L);
+        ReflectionTestUtils.setField(verifier, "defaultMaxAgeMillis", 3600000L);
+        verifier.initialize();
+    }
+
+    @Test
+    @DisplayName("올바른 id_token 에서 사용자 정보를 추출")
+    void verifiesValidIdToken() {
+        // when
+        Optional<GoogleUserInfoDto> userInfo = verifier.verify(idToken("key-1", "https://accounts.google.com", CLIENT_ID));
+
+        // then
+        assertThat(userInfo).hasValueSatisfying(user -> {
+            assertThat(user.getId()).isEqualTo("1234567890");
+            assertThat(user.getEmail()).isEqualTo("test@example.com");
+            assertThat(user.getName()).isEqualTo("Test User");
+        });
+    }
+
+    @Test
+    @DisplayName("키 목록은 한 번만 받아 캐시")
+    void cachesSigningKeys() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(verifier.verify(idToken("key-1", "accounts.google.com", CLIENT_ID))).isPresent();
+        }
+
+        // then
+        verify(restTemplate, times(1)).getForEntity(JWKS_URI, Map.class);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 는 최소 간격 안에서 한 번만 재조회")
+    void refetchesUnknownKidAtMostOncePerInterval() {
+        // given
+        verifier.verify(idToken("key-1", "accounts.google.com", CLIENT_ID));
+
+        // when
+        assertThat(verifier.verify(idToken("unknown", "accounts.google.com", CLIENT_ID))).isEmpty();
+        assertThat(verifier.verify(idToken("unknown", "accounts.google.com", CLIENT_ID))).isEmpty();
+
+        // then
+        verify(restTemplate, times(1)).getForEntity(JWKS_URI, Map.class);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트용 토큰은 거부")
+    void rejectsWrongAudience() {
+        assertThat(verifier.verify(idToken("key-1", "https://accounts.google.com", "other-client"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Google 이 아닌 발급자는 거부")
+    void rejectsWrongIssuer() {
+        assertThat(verifier.verify(idToken("key-1", "https://evil.example.com", CLIENT_ID))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부")
+    void rejectsForeignSignature() {
+        // given
+        KeyPair other = Jwts.SIG.RS256.keyPair().build();
+        String token = Jwts.builder()
+                .header().keyId("key-1").and()
+                .issuer("https://accounts.google.com")
+                .audience().add(CLIENT_ID).and()
+                .subject("1234567890")
+                .claim("email", "test@example.com")
+                .claim("email_verified", true)
+                .expiration(new Date(System.currentTimeMillis() + 3600000L))
+                .signWith(other.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        // when & then
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    private String idToken(String kid, String issuer, String audience) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .subject("1234567890")
+                .claim("email", "test@example.com")
+                .claim("email_verified", true)
+                .claim("name", "Test User")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3600000L))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static Map<String, Object> jwks(String kid, RSAPublicKey publicKey) {
+        return Map.of("keys", List.of(Map.of(
+                "kty", "RSA",
+                "kid", kid,
+                "alg", "RS256",
+                "use", "sig",
+                "n", base64Url(publicKey.getModulus()),
+                "e", base64Url(publicKey.getPublicExponent())
+        )));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,144 @@
+package kr.hs.sdh.digitechnetwork.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RestTemplateConfig 테스트 클래스
+ * 로컬 스텁 HTTP 서버로 연결 재사용, 제한 시간, 풀 지표를 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("RestTemplateConfig 테스트")
+class RestTemplateConfigTest {
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/token", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{\"access_token\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 5);
+        ReflectionTestUtils.setField(config, "routeLimits", "http://127.0.0.1:" + port() + "=2, https://oauth2.googleapis.com=3");
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 500L);
+        ReflectionTestUtils.setField(config, "responseTimeoutMillis", 200L);
+        ReflectionTestUtils.setField(config, "connectionRequestTimeoutMillis", 500L);
+        ReflectionTestUtils.setField(config, "idleEvictionMillis", 30000L);
+        ReflectionTestUtils.setField(config, "timeToLiveMillis", 300000L);
+
+        connectionManager = config.httpConnectionManager();
+        httpClient = config.httpClient(connectionManager);
+        restTemplate = config.restTemplate(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("연속 호출은 keep-alive 연결 하나를 재사용")
+    void reusesPooledConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            Map<?, ?> response = restTemplate.getForObject(url("/token"), Map.class);
+            assertThat(response.get("access_token")).isEqualTo("stub");
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+        Map<String, Object> stats = RestTemplateConfig.poolStats(connectionManager);
+        assertThat(stats.get("total")).isEqualTo(Map.of("leased", 0, "available", 1, "pending", 0, "max", 10));
+    }
+
+    @Test
+    @DisplayName("호스트별 한도 설정이 풀에 반영")
+    void appliesRouteLimit() {
+        // when
+        restTemplate.getForObject(url("/token"), Map.class);
+
+        // then
+        Map<?, ?> routes = (Map<?, ?>) RestTemplateConfig.poolStats(connectionManager).get("routes");
+        assertThat(routes).hasSize(1);
+        assertThat(((Map<?, ?>) routes.values().iterator().next()).get("max")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("https 호스트의 한도는 secure 경로에 적용")
+    void appliesRouteLimitToSecureRoute() {
+        // given
+        HttpHost google = new HttpHost("https", "oauth2.googleapis.com", 443);
+
+        // when & then
+        assertThat(connectionManager.getMaxPerRoute(new HttpRoute(google, null, true))).isEqualTo(3);
+        assertThat(connectionManager.getMaxPerRoute(new HttpRoute(google))).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 넘으면 스레드를 붙잡지 않고 실패")
+    void failsFastOnSlowResponse() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(900);
+    }
+
+    private int port() {
+        return server.getAddress().getPort();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + port() + path;
+    }
+}
@@ -0,0 +1,178 @@
+package kr.hs.sdh.digitechnetwork.controller;
+
+import kr.hs.sdh.digitechnetwork.dto.CursorPageResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentInfoDto;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentTypeRepository;
+import kr.hs.sdh.digitechnetwork.service.EquipmentCollectionVersion;
+import kr.hs.sdh.digitechnetwork.service.EquipmentService;
+import kr.hs.sdh.digitechnetwork.service.EquipmentWriteRetry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 기자재 조건부 GET 테스트
+ * 바뀌지 않은 목록/상세는 서비스 조회 없이 304 로 응답하는지 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기자재 조건부 GET 테스트")
+class EquipmentConditionalGetTest {
+
+    @Mock
+    private EquipmentService equipmentService;
+
+    @Mock
+    private EquipmentTypeRepository equipmentTypeRepository;
+
+    @Mock
+    private EquipmentWriteRetry equipmentWriteRetry;
+
+    private EquipmentCollectionVersion equipmentCollectionVersion;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        equipmentCollectionVersion = new EquipmentCollectionVersion();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new EquipmentController(equipmentService, equipmentTypeRepository, equipmentCollectionVersion,
+                        equipmentWriteRetry))
+                .build();
+    }
+
+    @Test
+    @DisplayName("목록 버전이 같으면 조회 없이 304, 바뀌면 200")
+    void collectionRevalidation() throws Exception {
+        // given
+        when(equipmentService.getEquipmentPage(any(), any())).thenReturn(emptyPage());
+        String eTag = mockMvc.perform(get("/api/v1/equipment"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/equipment").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(equipmentService, times(1)).getEquipmentPage(any(), any());
+
+        equipmentCollectionVersion.increment();
+        mockMvc.perform(get("/api/v1/equipment").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+        verify(equipmentService, times(2)).getEquipmentPage(any(), any());
+    }
+
+    @Test
+    @DisplayName("상세 ETag 는 기자재 버전과 타입 수정 시각으로 결정")
+    void detailRevalidation() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 250_000_000);
+        when(equipmentService.getEquipmentInfo(1L)).thenReturn(Optional.of(EquipmentInfoDto.builder()
+                .equipmentId(1L).identifier("NB-001").lastUpdateTime(updatedAt).version(3L).build()));
+        String eTag = mockMvc.perform(get("/api/v1/equipment/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/equipment/1").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/equipment/1").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isOk());
+        verify(equipmentService, times(3)).getEquipmentInfo(1L);
+    }
+
+    @Test
+    @DisplayName("기자재가 그대로여도 타입 이름이 바뀌면 304 대신 새 응답")
+    void detailRevalidatesAfterTypeRename() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 10, 17, 9, 30);
+        LocalDateTime typeUpdatedAt = LocalDateTime.of(2026, 10, 1, 8, 0);
+        when(equipmentService.getEquipmentInfo(1L))
+                .thenReturn(Optional.of(detail("노트북", updatedAt, typeUpdatedAt)))
+                .thenReturn(Optional.of(detail("학생용 노트북", updatedAt, typeUpdatedAt.plusDays(20))));
+        String eTag = mockMvc.perform(get("/api/v1/equipment/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        String renamedETag = mockMvc.perform(get("/api/v1/equipment/1").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type").value("학생용 노트북"))
+                .andExpect(jsonPath("$.typeLastUpdateTime").doesNotExist())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(renamedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("수정 이력이 없으면 생성 시각을 Last-Modified 로 사용")
+    void detailFallsBackToCreatedAt() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 30);
+        when(equipmentService.getEquipmentInfo(1L)).thenReturn(Optional.of(EquipmentInfoDto.builder()
+                .equipmentId(1L).identifier("NB-001").createdAt(createdAt).version(0L).build()));
+        String lastModified = mockMvc.perform(get("/api/v1/equipment/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Last-Modified");
+
+        // when & then
+        assertThat(lastModified).isNotNull().doesNotContain("1970");
+        mockMvc.perform(get("/api/v1/equipment/1").header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("시각을 알 수 없으면 Last-Modified 없이 ETag 로만 재검증")
+    void detailWithoutTimestampsOmitsLastModified() throws Exception {
+        // given
+        when(equipmentService.getEquipmentInfo(1L)).thenReturn(Optional.of(EquipmentInfoDto.builder()
+                .equipmentId(1L).identifier("NB-001").version(0L).build()));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/equipment/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"));
+        mockMvc.perform(get("/api/v1/equipment/1").header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    private static EquipmentInfoDto detail(String type, LocalDateTime updatedAt, LocalDateTime typeUpdatedAt) {
+        return EquipmentInfoDto.builder()
+                .equipmentId(1L)
+                .identifier("NB-001")
+                .type(type)
+                .lastUpdateTime(updatedAt)
+                .version(3L)
+                .typeLastUpdateTime(typeUpdatedAt)
+                .build();
+    }
+
+    private static CursorPageResponseDto<EquipmentInfoDto> emptyPage() {
+        return CursorPageResponseDto.<EquipmentInfoDto>builder()
+                .content(List.of())
+                .size(0)
+                .hasNext(false)
+                .build();
+    }
+}
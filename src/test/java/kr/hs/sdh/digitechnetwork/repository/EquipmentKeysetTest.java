@@ -0,0 +1,59 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EquipmentKeyset 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("EquipmentKeyset 테스트")
+class EquipmentKeysetTest {
+
+    @Test
+    @DisplayName("마지막 행으로 만든 커서는 인코딩 후 같은 위치로 복원")
+    void roundTrip() {
+        // given
+        EquipmentSummaryDto last = EquipmentSummaryDto.builder().id(42L).identifier("LAB:01/노트북").name("노트북").build();
+
+        // when
+        EquipmentKeyset keyset = EquipmentKeyset.after(last, EquipmentSortKey.IDENTIFIER, false);
+        EquipmentKeyset decoded = EquipmentKeyset.decode(keyset.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(new EquipmentKeyset(EquipmentSortKey.IDENTIFIER, false, 42L, "LAB:01/노트북"));
+    }
+
+    @Test
+    @DisplayName("이름이 없는 행은 빈 문자열로, ID 정렬은 값 없이 인코딩")
+    void nullableKeys() {
+        EquipmentSummaryDto last = EquipmentSummaryDto.builder().id(7L).identifier("EQ-7").build();
+
+        assertThat(EquipmentKeyset.decode(EquipmentKeyset.after(last, EquipmentSortKey.NAME, true).encode()).lastValue())
+                .isEmpty();
+        assertThat(EquipmentKeyset.decode(EquipmentKeyset.after(last, EquipmentSortKey.ID, true).encode()))
+                .isEqualTo(new EquipmentKeyset(EquipmentSortKey.ID, true, 7L, null));
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 거부")
+    void rejectsMalformedCursor() {
+        String unknownSort = Base64.getUrlEncoder().encodeToString("PRICE:A:1:x".getBytes());
+        String badDirection = Base64.getUrlEncoder().encodeToString("ID:X:1:".getBytes());
+        String badCreatedAt = Base64.getUrlEncoder().encodeToString("CREATED_AT:A:1:yesterday".getBytes());
+
+        assertThatThrownBy(() -> EquipmentKeyset.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EquipmentKeyset.decode(unknownSort)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EquipmentKeyset.decode(badDirection)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EquipmentKeyset.decode(badCreatedAt)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,148 @@
+package kr.hs.sdh.digitechnetwork.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.hs.sdh.digitechnetwork.config.JpaConfig;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.EquipmentType;
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.entity.Student;
+import kr.hs.sdh.digitechnetwork.entity.StudentRentHistory;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentSortKey;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 SQL 실행 횟수 테스트
+ * 결과 행 수와 관계없이 목록 조회가 일정한 수의 쿼리로 끝나는지 Hibernate 통계로 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+@DisplayName("목록 조회 SQL 실행 횟수 테스트")
+class RepositoryFetchPlanTest {
+
+    private static final int TYPES = 5;
+    private static final int EQUIPMENTS = 40;
+    private static final int STUDENTS = 8;
+    private static final int RENTS = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private StudentRentHistoryRepository studentRentHistoryRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Equipment rented = null;
+        for (int t = 0; t < TYPES; t++) {
+            EquipmentType type = EquipmentType.builder().type("TYPE-" + t).isPublic(true).build();
+            entityManager.persist(type);
+            for (int e = t; e < EQUIPMENTS; e += TYPES) {
+                Equipment equipment = Equipment.builder()
+                        .identifier("EQ-" + e).name("기자재 " + e)
+                        .status(EquipmentStatus.AVAILABLE).isPublic(true)
+                        .equipmentType(type)
+                        .build();
+                entityManager.persist(equipment);
+                rented = equipment;
+            }
+        }
+
+        for (int s = 0; s < STUDENTS; s++) {
+            Student student = Student.builder()
+                    .name("학생" + s).email("student" + s + "@test.com").phoneNumber("010")
+                    .role(UserType.STUDENT).isEnabled(true)
+                    .build();
+            entityManager.persist(student);
+            for (int r = s; r < RENTS; r += STUDENTS) {
+                RentHistory rentHistory = RentHistory.builder()
+                        .equipment(rented).status(RentStatus.RETURNED)
+                        .renterType(UserType.STUDENT).renterId(student.getId())
+                        .rentedAt(LocalDateTime.now()).dueAt(LocalDateTime.now().plusDays(7))
+                        .build();
+                entityManager.persist(rentHistory);
+                entityManager.persist(StudentRentHistory.builder().student(student).rentHistory(rentHistory).build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll 은 엔티티 그래프로 타입까지 한 번에 조회")
+    void findAllLoadsTypesWithEntityGraph() {
+        List<Equipment> equipments = equipmentRepository.findAll();
+        equipments.forEach(Equipment::getTypeName);
+
+        assertThat(equipments).hasSize(EQUIPMENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지는 엔티티 없이 쿼리 한 번")
+    void keysetPageIsSingleStatement() {
+        List<EquipmentSummaryDto> page = equipmentRepository.findPage(EquipmentSearchCondition.all(),
+                EquipmentSortKey.NAME, true, null, EQUIPMENTS);
+
+        assertThat(page).hasSize(EQUIPMENTS).allSatisfy(row -> assertThat(row.getTypeName()).startsWith("TYPE-"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기간별 학생 대여 이력은 학생/대여 이력까지 한 번에 조회")
+    void rentHistoryByDateRangeLoadsAssociations() {
+        List<StudentRentHistory> histories = studentRentHistoryRepository.findByDateRange(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        histories.forEach(history -> {
+            history.getStudent().getName();
+            history.getRentHistory().getCreatedAt();
+        });
+
+        assertThat(histories).hasSize(RENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔티티 그래프가 없는 경로도 배치 fetch 로 쿼리 수가 행 수와 무관")
+    void batchFetchBoundsLazyLoading() {
+        List<Equipment> equipments = entityManager
+                .createQuery("SELECT e FROM Equipment e", Equipment.class)
+                .getResultList();
+        equipments.forEach(Equipment::getTypeName);
+
+        // 목록 1회 + 타입 일괄 초기화 1회 (배치 fetch 가 없으면 1 + TYPES 회)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
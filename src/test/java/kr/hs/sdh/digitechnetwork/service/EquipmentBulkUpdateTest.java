@@ -0,0 +1,239 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.EquipmentBulkUpdateResultDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentTypeRepository;
+import kr.hs.sdh.digitechnetwork.repository.RentHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기자재 일괄 변경 테스트
+ * 이미 요청한 값인 기자재는 UPDATE 대상에서 빠지고, 변경된 기자재만 카운터/캐시에 반영되는지 확인
+ * 끝나지 않은 대여가 있는 기자재의 상태는 관리자 변경(단건/일괄)으로 바꿀 수 없는지 확인
+ * 대여 중/반납 확인 상태는 관리자가 설정할 수 없는지 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기자재 일괄 변경 테스트")
+class EquipmentBulkUpdateTest {
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    @Mock
+    private EquipmentTypeRepository equipmentTypeRepository;
+
+    @Mock
+    private EquipmentSearchIndex equipmentSearchIndex;
+
+    @Mock
+    private EquipmentStatusCounters equipmentStatusCounters;
+
+    @Mock
+    private EquipmentReadCache equipmentReadCache;
+
+    @Mock
+    private EquipmentCollectionVersion equipmentCollectionVersion;
+
+    @Mock
+    private RentHistoryRepository rentHistoryRepository;
+
+    @InjectMocks
+    private EquipmentServiceImpl equipmentService;
+
+    @Test
+    @DisplayName("상태가 다른 기자재만 한 번의 UPDATE 로 변경")
+    void changesOnlyDifferentStatuses() {
+        // given
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L, 2L, 3L)), any(), anyInt())).thenReturn(List.of(
+                equipment(1L, "NB-001", EquipmentStatus.AVAILABLE),
+                equipment(2L, "NB-002", EquipmentStatus.FIX),
+                equipment(3L, "NB-003", EquipmentStatus.RENT)));
+
+        // when
+        EquipmentBulkUpdateResultDto result = equipmentService.changeEquipmentStatuses(EquipmentBulkUpdateRequestDto.builder()
+                .ids(List.of(1L, 2L, 3L))
+                .status(EquipmentStatus.FIX)
+                .build());
+
+        // then
+        assertThat(result.getMatchedCount()).isEqualTo(3);
+        assertThat(result.getAffectedIds()).containsExactly(1L, 3L);
+        verify(equipmentRepository).updateStatusByIds(eq(List.of(1L, 3L)), eq(EquipmentStatus.FIX), any());
+        verify(equipmentStatusCounters).recordTransition(EquipmentStatus.AVAILABLE, true, EquipmentStatus.FIX, true);
+        verify(equipmentStatusCounters).recordTransition(EquipmentStatus.RENT, true, EquipmentStatus.FIX, true);
+        verify(equipmentReadCache).invalidateAfterCommit(1L, "NB-001");
+        verify(equipmentReadCache).invalidateAfterCommit(3L, "NB-003");
+        verify(equipmentCollectionVersion).incrementAfterCommit();
+    }
+
+    @Test
+    @DisplayName("모두 이미 같은 값이면 UPDATE 하지 않음")
+    void skipsWhenNothingChanges() {
+        // given
+        when(equipmentRepository.findForBulkUpdate(any(), any(), anyInt())).thenReturn(List.of(
+                equipment(1L, "NB-001", EquipmentStatus.AVAILABLE)));
+
+        // when
+        EquipmentBulkUpdateResultDto result = equipmentService.setEquipmentPublicities(EquipmentBulkUpdateRequestDto.builder()
+                .typeId(1L)
+                .isPublic(true)
+                .build());
+
+        // then
+        assertThat(result.getAffectedCount()).isZero();
+        verify(equipmentRepository, never()).updatePublicityByIds(any(), any(), any());
+        verify(equipmentCollectionVersion, never()).incrementAfterCommit();
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 대여가 있는 기자재가 섞여 있으면 일괄 상태 변경 전체를 거부")
+    void bulkStatusChangeRejectsOpenRentals() {
+        // given
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L, 3L)), any(), anyInt())).thenReturn(List.of(
+                equipment(1L, "NB-001", EquipmentStatus.FIX),
+                equipment(3L, "NB-003", EquipmentStatus.RENT)));
+        when(rentHistoryRepository.findOpenEquipmentIds(List.of(3L))).thenReturn(List.of(3L));
+
+        // when & then
+        assertThatThrownBy(() -> equipmentService.changeEquipmentStatuses(EquipmentBulkUpdateRequestDto.builder()
+                .ids(List.of(1L, 3L))
+                .status(EquipmentStatus.AVAILABLE)
+                .build()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        verify(equipmentRepository, never()).updateStatusByIds(any(), any(), any());
+        verify(equipmentStatusCounters, never()).recordTransition(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 대여가 있으면 대여 중 → 대여 가능 단건 변경을 거부")
+    void statusChangeRejectsOpenRental() {
+        // given
+        when(equipmentRepository.findById(3L)).thenReturn(Optional.of(equipment(3L, "NB-003", EquipmentStatus.RENT)));
+        when(rentHistoryRepository.existsOpenByEquipmentId(3L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> equipmentService.changeEquipmentStatus(3L, EquipmentStatus.AVAILABLE))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        assertThatThrownBy(() -> equipmentService.updateEquipment(3L, Equipment.builder()
+                .identifier("NB-003")
+                .status(EquipmentStatus.AVAILABLE)
+                .isPublic(true)
+                .build()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> equipmentService.deleteEquipment(3L))
+                .isInstanceOf(BusinessException.class);
+        verify(equipmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대여가 모두 끝났으면 남아 있는 대여 중 상태를 관리자가 바로잡을 수 있음")
+    void statusChangeAllowedWithoutOpenRental() {
+        // given
+        Equipment stale = equipment(3L, "NB-003", EquipmentStatus.RENT);
+        when(equipmentRepository.findById(3L)).thenReturn(Optional.of(stale));
+        when(rentHistoryRepository.existsOpenByEquipmentId(3L)).thenReturn(false);
+        when(equipmentRepository.save(stale)).thenReturn(stale);
+
+        // when
+        Equipment saved = equipmentService.changeEquipmentStatus(3L, EquipmentStatus.AVAILABLE);
+
+        // then
+        assertThat(saved.getStatus()).isEqualTo(EquipmentStatus.AVAILABLE);
+        verify(equipmentStatusCounters).recordTransition(EquipmentStatus.RENT, true, EquipmentStatus.AVAILABLE, true);
+    }
+
+    @Test
+    @DisplayName("대여와 관계없는 상태 변경은 대여 기록을 조회하지 않음")
+    void statusChangeSkipsRentalCheckForOtherStatuses() {
+        // given
+        Equipment equipment = equipment(1L, "NB-001", EquipmentStatus.AVAILABLE);
+        when(equipmentRepository.findById(1L)).thenReturn(Optional.of(equipment));
+        when(equipmentRepository.save(equipment)).thenReturn(equipment);
+
+        // when
+        equipmentService.changeEquipmentStatus(1L, EquipmentStatus.FIX);
+
+        // then
+        verify(rentHistoryRepository, never()).existsOpenByEquipmentId(any());
+    }
+
+    @Test
+    @DisplayName("관리자는 대여 중/반납 확인 상태로 바꿀 수 없음 (단건/수정/일괄/등록)")
+    void rejectsAdminWritesToRentalStatuses() {
+        // given
+        when(equipmentRepository.findById(1L)).thenReturn(Optional.of(equipment(1L, "NB-001", EquipmentStatus.AVAILABLE)));
+
+        // when & then
+        assertThatThrownBy(() -> equipmentService.changeEquipmentStatus(1L, EquipmentStatus.RENT))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        assertThatThrownBy(() -> equipmentService.updateEquipment(1L, Equipment.builder()
+                .identifier("NB-001")
+                .status(EquipmentStatus.CHECK)
+                .isPublic(true)
+                .build()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        assertThatThrownBy(() -> equipmentService.changeEquipmentStatuses(EquipmentBulkUpdateRequestDto.builder()
+                .ids(List.of(1L, 2L))
+                .status(EquipmentStatus.RENT)
+                .build()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        assertThatThrownBy(() -> equipmentService.registerEquipment(Equipment.builder()
+                .identifier("NB-009")
+                .status(EquipmentStatus.RENT)
+                .build()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_STATUS_INVALID));
+        verify(equipmentRepository, never()).save(any());
+        verify(equipmentRepository, never()).findForBulkUpdate(any(), any(), anyInt());
+        verify(equipmentRepository, never()).updateStatusByIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대상(ID 목록 또는 필터)이 없으면 오류")
+    void rejectsMissingTarget() {
+        assertThatThrownBy(() -> equipmentService.changeEquipmentStatuses(EquipmentBulkUpdateRequestDto.builder()
+                .status(EquipmentStatus.FIX)
+                .build()))
+                .isInstanceOf(BusinessException.class);
+        verify(equipmentRepository, never()).findForBulkUpdate(any(), any(), anyInt());
+    }
+
+    private static Equipment equipment(Long id, String identifier, EquipmentStatus status) {
+        return Equipment.builder()
+                .id(id)
+                .identifier(identifier)
+                .status(status)
+                .isPublic(true)
+                .build();
+    }
+}
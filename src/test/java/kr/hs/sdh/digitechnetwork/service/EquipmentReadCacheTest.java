@@ -0,0 +1,104 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EquipmentReadCache 테스트 클래스
+ * 트랜잭션 밖에서 호출하므로 무효화가 즉시 반영됨
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EquipmentReadCache 테스트")
+class EquipmentReadCacheTest {
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    private EquipmentReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EquipmentReadCache(equipmentRepository);
+        ReflectionTestUtils.setField(cache, "maximumSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+        cache.initialize();
+    }
+
+    @Test
+    @DisplayName("ID 와 식별자 조회는 각각 한 번만 데이터베이스를 조회")
+    void loadsOncePerKey() {
+        // given
+        EquipmentSummaryDto summary = summary(1L, "NB-001");
+        when(equipmentRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(summary));
+        when(equipmentRepository.findSummaryByIdentifier("NB-001")).thenReturn(Optional.of(summary));
+
+        // when
+        cache.getById(1L);
+        cache.getById(1L);
+        cache.getByIdentifier("NB-001");
+        Optional<EquipmentSummaryDto> result = cache.getByIdentifier("NB-001");
+
+        // then
+        assertThat(result).containsSame(summary);
+        verify(equipmentRepository, times(1)).findSummariesByIds(List.of(1L));
+        verify(equipmentRepository, times(1)).findSummaryByIdentifier("NB-001");
+        assertThat(cache.getStats().get("byId").hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 기자재는 캐시하지 않음")
+    void doesNotCacheMissingEquipment() {
+        when(equipmentRepository.findSummaryByIdentifier("NONE")).thenReturn(Optional.empty());
+
+        assertThat(cache.getByIdentifier("NONE")).isEmpty();
+        assertThat(cache.getByIdentifier("NONE")).isEmpty();
+        verify(equipmentRepository, times(2)).findSummaryByIdentifier("NONE");
+    }
+
+    @Test
+    @DisplayName("무효화하면 ID 와 변경 전/후 식별자 모두 다시 조회")
+    void invalidatesAllKeys() {
+        // given
+        when(equipmentRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(summary(1L, "NB-001")));
+        when(equipmentRepository.findSummaryByIdentifier("NB-001")).thenReturn(Optional.of(summary(1L, "NB-001")));
+        cache.getById(1L);
+        cache.getByIdentifier("NB-001");
+
+        // when
+        cache.invalidateAfterCommit(1L, "NB-001", "NB-100");
+        cache.getById(1L);
+        cache.getByIdentifier("NB-001");
+
+        // then
+        verify(equipmentRepository, times(2)).findSummariesByIds(List.of(1L));
+        verify(equipmentRepository, times(2)).findSummaryByIdentifier("NB-001");
+    }
+
+    private static EquipmentSummaryDto summary(Long id, String identifier) {
+        return EquipmentSummaryDto.builder()
+                .id(id)
+                .identifier(identifier)
+                .status(EquipmentStatus.AVAILABLE)
+                .isPublic(true)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentStatisticsDto;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * EquipmentStatusCounters 테스트 클래스
+ * 트랜잭션 밖에서 호출하므로 변경이 즉시 반영됨
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EquipmentStatusCounters 테스트")
+class EquipmentStatusCountersTest {
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    private EquipmentStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        when(equipmentRepository.countGroupByStatusAndPublicity()).thenReturn(rows(
+                new Object[]{EquipmentStatus.AVAILABLE, true, 8L},
+                new Object[]{EquipmentStatus.AVAILABLE, false, 2L},
+                new Object[]{EquipmentStatus.RENT, true, 3L},
+                new Object[]{EquipmentStatus.FIX, false, 1L},
+                new Object[]{null, null, 1L}));
+        counters = new EquipmentStatusCounters(equipmentRepository);
+        counters.initialize();
+    }
+
+    @Test
+    @DisplayName("GROUP BY 결과로 모든 상태의 개수를 채움")
+    void seedsFromGroupBy() {
+        EquipmentStatisticsDto statistics = counters.snapshot();
+
+        assertThat(statistics.getTotalCount()).isEqualTo(15);
+        assertThat(statistics.getAvailableCount()).isEqualTo(10);
+        assertThat(statistics.getRentedCount()).isEqualTo(3);
+        assertThat(statistics.getFixCount()).isEqualTo(1);
+        assertThat(statistics.getPublicCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("등록과 상태/공개 여부 변경이 반영됨")
+    void recordsTransitions() {
+        // when
+        counters.recordCreated(EquipmentStatus.AVAILABLE, true);
+        counters.recordTransition(EquipmentStatus.AVAILABLE, true, EquipmentStatus.RENT, true);
+        counters.recordTransition(EquipmentStatus.RENT, true, EquipmentStatus.UNAVAILABLE, false);
+        counters.recordTransition(EquipmentStatus.FIX, false, EquipmentStatus.FIX, false);
+
+        // then
+        EquipmentStatisticsDto statistics = counters.snapshot();
+        assertThat(statistics.getTotalCount()).isEqualTo(16);
+        assertThat(statistics.getAvailableCount()).isEqualTo(10);
+        assertThat(statistics.getRentedCount()).isEqualTo(3);
+        assertThat(statistics.getUnavailableCount()).isEqualTo(1);
+        assertThat(statistics.getPublicCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("보정 시 데이터베이스 값으로 맞춤")
+    void reconcilesWithDatabase() {
+        // given
+        counters.recordCreated(EquipmentStatus.BROKEN, true);
+        when(equipmentRepository.countGroupByStatusAndPublicity()).thenReturn(rows(
+                new Object[]{EquipmentStatus.AVAILABLE, true, 7L},
+                new Object[]{EquipmentStatus.CHECK, true, 1L}));
+
+        // when
+        counters.reconcile();
+
+        // then
+        EquipmentStatisticsDto statistics = counters.snapshot();
+        assertThat(statistics.getTotalCount()).isEqualTo(8);
+        assertThat(statistics.getAvailableCount()).isEqualTo(7);
+        assertThat(statistics.getCheckCount()).isEqualTo(1);
+        assertThat(statistics.getBrokenCount()).isZero();
+        assertThat(statistics.getPublicCount()).isEqualTo(8);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
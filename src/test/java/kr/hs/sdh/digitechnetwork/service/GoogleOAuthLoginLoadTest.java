@@ -0,0 +1,241 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.sdh.digitechnetwork.auth.GoogleIdTokenVerifier;
+import kr.hs.sdh.digitechnetwork.auth.GoogleOAuth;
+import kr.hs.sdh.digitechnetwork.dto.GoogleOAuthRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
+import kr.hs.sdh.digitechnetwork.entity.Student;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.utility.Bulkhead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Google 로그인 부하 테스트
+ * 로그인 러시 상황에서 DB 연결 풀 점유를 트랜잭션 분리 전/후로 비교
+ *
+ * 크기가 제한된 연결 풀을 흉내 내는 트랜잭션 매니저로 연결 점유 시간과 최대 동시 점유 수를 측정하고,
+ * 같은 시간 동안 반복 실행되는 기자재 조회가 연결을 얻기까지 기다린 시간을 함께 기록합니다.
+ * Google 응답은 150ms 가 걸리는 것으로 가정합니다.
+ *
+ * 실행: ./gradlew benchmark --tests '*GoogleOAuthLoginLoadTest'
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@Tag("benchmark")
+@DisplayName("Google 로그인 부하 테스트")
+class GoogleOAuthLoginLoadTest {
+
+    private static final int POOL_SIZE = 10; // Hikari 기본값
+    private static final int REQUEST_THREADS = 50;
+    private static final int LOGINS = 300;
+    private static final long GOOGLE_LATENCY_MILLIS = 150;
+
+    @Test
+    @DisplayName("원격 호출을 트랜잭션 밖으로 옮기면 연결 풀 점유가 줄어듦")
+    void poolOccupancyBeforeAndAfter() throws Exception {
+        Result before = run(true);
+        Result after = run(false);
+
+        System.out.printf("%-28s %12s %14s %18s %18s%n",
+                "mode", "peak leased", "held total ms", "equipment max ms", "equipment avg ms");
+        System.out.printf("%-28s %12d %14d %18.1f %18.2f%n", "before (tx around login)",
+                before.peakLeased, before.heldMillis, before.equipmentMaxWaitMillis, before.equipmentAvgWaitMillis);
+        System.out.printf("%-28s %12d %14d %18.1f %18.2f%n", "after (tx around upsert)",
+                after.peakLeased, after.heldMillis, after.equipmentMaxWaitMillis, after.equipmentAvgWaitMillis);
+
+        assertThat(after.heldMillis).isLessThan(before.heldMillis / 10);
+        assertThat(after.equipmentMaxWaitMillis).isLessThan(before.equipmentMaxWaitMillis);
+    }
+
+    private Result run(boolean transactionAroundLogin) throws Exception {
+        PooledTransactionManager pool = new PooledTransactionManager(POOL_SIZE);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(pool);
+
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        Student student = Student.builder()
+                .id(1L).name("Test User").email("test@example.com").role(UserType.STUDENT)
+                .isEnabled(true).grade(1).classroom(1).studentNumber(1)
+                .build();
+        when(studentRepository.findIdentitiesByEmail(anyString())).thenReturn(List.of());
+        when(studentRepository.save(any(Student.class))).thenReturn(student);
+
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class))).thenAnswer(invocation -> {
+            Thread.sleep(GOOGLE_LATENCY_MILLIS);
+            return new ResponseEntity<>(Map.of("access_token", "a", "id_token", "id"), HttpStatus.OK);
+        });
+
+        GoogleIdTokenVerifier verifier = mock(GoogleIdTokenVerifier.class);
+        when(verifier.verify(anyString())).thenReturn(Optional.of(GoogleUserInfoDto.builder()
+                .email("test@example.com").name("Test User").verifiedEmail(true).build()));
+
+        JwtService jwtService = mock(JwtService.class);
+        when(jwtService.generateTokens(any(), anyLong(), anyString())).thenReturn(Map.of(
+                "accessToken", "a", "refreshToken", "r", "tokenType", "Bearer", "expiresIn", "3600"));
+
+        UserProvisioningService provisioning = new UserProvisioningServiceImpl(studentRepository);
+        UserProvisioningService transactionalProvisioning = transactionAroundLogin
+                ? provisioning
+                : googleUser -> transactionTemplate.execute(status -> provisioning.provision(googleUser));
+
+        try (Bulkhead bulkhead = new Bulkhead("google-oauth", 64, Duration.ofSeconds(5))) {
+            GoogleOAuthServiceImpl service = new GoogleOAuthServiceImpl(
+                    mock(GoogleOAuth.class), restTemplate, new ObjectMapper(),
+                    jwtService, verifier, transactionalProvisioning, bulkhead);
+            ReflectionTestUtils.setField(service, "tokenUri", "http://localhost/token");
+
+            Function<GoogleOAuthRequestDto, Object> login = transactionAroundLogin
+                    ? request -> transactionTemplate.execute(status -> service.authenticate(request))
+                    : service::authenticate;
+
+            // 로그인과 동시에 짧은 기자재 조회를 반복 실행
+            AtomicBoolean running = new AtomicBoolean(true);
+            EquipmentQueryProbe probe = new EquipmentQueryProbe(transactionTemplate, running);
+            Thread probeThread = Thread.ofPlatform().start(probe);
+
+            ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < LOGINS; i++) {
+                GoogleOAuthRequestDto request = GoogleOAuthRequestDto.builder().code("code-" + i).build();
+                futures.add(requestThreads.submit(() -> login.apply(request)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            requestThreads.shutdown();
+
+            running.set(false);
+            probeThread.join();
+
+            return new Result(pool.peakLeased.get(), pool.heldNanos.sum() / 1_000_000,
+                    probe.maxWaitNanos.get() / 1_000_000.0,
+                    probe.totalWaitNanos.sum() / 1_000_000.0 / Math.max(1, probe.count.sum()));
+        }
+    }
+
+    private record Result(int peakLeased, long heldMillis, double equipmentMaxWaitMillis, double equipmentAvgWaitMillis) {
+    }
+
+    /**
+     * 기자재 조회처럼 연결을 잠깐(1ms) 쓰는 쿼리를 반복하며 연결 대기 시간을 기록
+     */
+    private static class EquipmentQueryProbe implements Runnable {
+        private final TransactionTemplate transactionTemplate;
+        private final AtomicBoolean running;
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+
+        EquipmentQueryProbe(TransactionTemplate transactionTemplate, AtomicBoolean running) {
+            this.transactionTemplate = transactionTemplate;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                long start = System.nanoTime();
+                transactionTemplate.executeWithoutResult(status -> {
+                    long waited = System.nanoTime() - start;
+                    maxWaitNanos.accumulateAndGet(waited, Math::max);
+                    totalWaitNanos.add(waited);
+                    count.increment();
+                    sleepQuietly(1);
+                });
+                sleepQuietly(5);
+            }
+        }
+    }
+
+    /**
+     * 크기가 제한된 DB 연결 풀을 흉내 내는 트랜잭션 매니저
+     * 트랜잭션 시작 시 연결을 빌리고 커밋/롤백 시 반납
+     */
+    private static class PooledTransactionManager implements PlatformTransactionManager {
+        private final Semaphore connections;
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger peakLeased = new AtomicInteger();
+        private final LongAdder heldNanos = new LongAdder();
+
+        PooledTransactionManager(int size) {
+            this.connections = new Semaphore(size, true);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            connections.acquireUninterruptibly();
+            peakLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+            return new PooledStatus(System.nanoTime());
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            release(status);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            release(status);
+        }
+
+        private void release(TransactionStatus status) {
+            heldNanos.add(System.nanoTime() - ((PooledStatus) status).acquiredAt);
+            leased.decrementAndGet();
+            connections.release();
+        }
+    }
+
+    private static class PooledStatus extends SimpleTransactionStatus {
+        private final long acquiredAt;
+
+        PooledStatus(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
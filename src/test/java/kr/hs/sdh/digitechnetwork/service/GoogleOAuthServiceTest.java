@@ -1,13 +1,18 @@
 package kr.hs.sdh.digitechnetwork.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.sdh.digitechnetwork.auth.GoogleIdTokenVerifier;
 import kr.hs.sdh.digitechnetwork.auth.GoogleOAuth;
 import kr.hs.sdh.digitechnetwork.dto.AuthResponseDto;
 import kr.hs.sdh.digitechnetwork.dto.GoogleOAuthRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.GoogleUserInfoDto;
 import kr.hs.sdh.digitechnetwork.entity.Student;
 import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
 import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
-import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import kr.hs.sdh.digitechnetwork.repository.UserIdentity;
+import kr.hs.sdh.digitechnetwork.utility.Bulkhead;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,13 +26,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,27 +52,36 @@ class GoogleOAuthServiceTest {
     private StudentRepository studentRepository;
 
     @Mock
-    private TeacherRepository teacherRepository;
+    private RestTemplate restTemplate;
 
     @Mock
-    private RestTemplate restTemplate;
+    private JwtService jwtService;
+
+    @Mock
+    private GoogleIdTokenVerifier googleIdTokenVerifier;
 
     private GoogleOAuthServiceImpl googleOAuthService;
 
     private GoogleOAuthRequestDto requestDto;
     private Map<String, Object> tokenResponseMap;
     private Map<String, Object> userInfoMap;
+    private Map<String, String> jwtTokens;
 
     @BeforeEach
     void setUp() {
         googleOAuthService = new GoogleOAuthServiceImpl(
-                googleOAuth, studentRepository, teacherRepository, restTemplate, new ObjectMapper()
+                googleOAuth, restTemplate, new ObjectMapper(),
+                jwtService, googleIdTokenVerifier,
+                new UserProvisioningServiceImpl(studentRepository),
+                new Bulkhead("google-oauth-test", 4, Duration.ofSeconds(1))
         );
 
         // 테스트용 설정값 주입
         ReflectionTestUtils.setField(googleOAuthService, "clientId", "test-client-id");
         ReflectionTestUtils.setField(googleOAuthService, "clientSecret", "test-client-secret");
         ReflectionTestUtils.setField(googleOAuthService, "redirectUri", "http://localhost:8081/api/v1/auth/google/callback");
+        ReflectionTestUtils.setField(googleOAuthService, "tokenUri", "https://oauth2.googleapis.com/token");
+        ReflectionTestUtils.setField(googleOAuthService, "userInfoUri", "https://www.googleapis.com/oauth2/v2/userinfo");
 
         requestDto = GoogleOAuthRequestDto.builder()
                 .code("test_auth_code")
@@ -84,6 +105,13 @@ class GoogleOAuthServiceTest {
         userInfoMap.put("picture", "https://example.com/picture.jpg");
         userInfoMap.put("locale", "ko");
         userInfoMap.put("verified_email", true);
+
+        jwtTokens = Map.of(
+                "accessToken", "test_access_token",
+                "refreshToken", "test_refresh_token",
+                "tokenType", "Bearer",
+                "expiresIn", "3600"
+        );
     }
 
     @Test
@@ -115,8 +143,8 @@ class GoogleOAuthServiceTest {
                 .studentNumber(1)
                 .build();
 
-        when(studentRepository.findByEmail("test@example.com")).thenReturn(Optional.of(existingStudent));
-        when(teacherRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(studentRepository.findIdentitiesByEmail("test@example.com")).thenReturn(List.of(identityOf(existingStudent)));
+        when(jwtService.generateTokens(UserType.STUDENT, 1L, "test@example.com")).thenReturn(jwtTokens);
         when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
                 .thenReturn(new ResponseEntity<>(tokenResponseMap, HttpStatus.OK));
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
@@ -149,9 +177,9 @@ class GoogleOAuthServiceTest {
                 .studentNumber(1)
                 .build();
 
-        when(studentRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
-        when(teacherRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+        when(studentRepository.findIdentitiesByEmail("test@example.com")).thenReturn(List.of());
         when(studentRepository.save(any(Student.class))).thenReturn(newStudent);
+        when(jwtService.generateTokens(UserType.STUDENT, 1L, "test@example.com")).thenReturn(jwtTokens);
         when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
                 .thenReturn(new ResponseEntity<>(tokenResponseMap, HttpStatus.OK));
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
@@ -169,6 +197,68 @@ class GoogleOAuthServiceTest {
         assertThat(result.getUserInfo().getRole()).isEqualTo(UserType.STUDENT);
     }
 
+    @Test
+    @DisplayName("id_token 검증에 성공하면 userinfo 호출 없이 인증")
+    void authenticateWithVerifiedIdToken() {
+        // given
+        Student existingStudent = Student.builder()
+                .id(1L)
+                .name("Test User")
+                .email("test@example.com")
+                .role(UserType.STUDENT)
+                .isEnabled(true)
+                .grade(1)
+                .classroom(1)
+                .studentNumber(1)
+                .build();
+        GoogleUserInfoDto verifiedUser = GoogleUserInfoDto.builder()
+                .id("123456789")
+                .email("test@example.com")
+                .name("Test User")
+                .verifiedEmail(true)
+                .build();
+
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(tokenResponseMap, HttpStatus.OK));
+        when(googleIdTokenVerifier.verify("test_id_token")).thenReturn(Optional.of(verifiedUser));
+        when(studentRepository.findIdentitiesByEmail("test@example.com")).thenReturn(List.of(identityOf(existingStudent)));
+        when(jwtService.generateTokens(UserType.STUDENT, 1L, "test@example.com")).thenReturn(jwtTokens);
+
+        // when
+        AuthResponseDto result = googleOAuthService.authenticate(requestDto);
+
+        // then
+        assertThat(result.getUserInfo().getEmail()).isEqualTo("test@example.com");
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    @DisplayName("기존 교사 사용자는 한 번의 조회로 로그인하고 재조회 없이 토큰 발급")
+    void authenticateWithExistingTeacherUsesSingleQuery() {
+        // given
+        UserIdentity teacher = identity("TEACHER", 7L, "teacher@example.com", "Teacher", "TEACHER", null);
+        GoogleUserInfoDto verifiedUser = GoogleUserInfoDto.builder()
+                .email("teacher@example.com")
+                .name("Teacher")
+                .verifiedEmail(true)
+                .build();
+
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(tokenResponseMap, HttpStatus.OK));
+        when(googleIdTokenVerifier.verify("test_id_token")).thenReturn(Optional.of(verifiedUser));
+        when(studentRepository.findIdentitiesByEmail("teacher@example.com")).thenReturn(List.of(teacher));
+        when(jwtService.generateTokens(UserType.TEACHER, 7L, "teacher@example.com")).thenReturn(jwtTokens);
+
+        // when
+        AuthResponseDto result = googleOAuthService.authenticate(requestDto);
+
+        // then
+        assertThat(result.getUserInfo().getRole()).isEqualTo(UserType.TEACHER);
+        assertThat(result.getUserInfo().getGrade()).isNull();
+        verify(studentRepository, times(1)).findIdentitiesByEmail("teacher@example.com");
+        verifyNoMoreInteractions(studentRepository);
+    }
+
     @Test
     @DisplayName("토큰 요청 실패 시 예외 발생 테스트")
     void authenticateWithTokenRequestFailure() {
@@ -194,4 +284,42 @@ class GoogleOAuthServiceTest {
         assertThatThrownBy(() -> googleOAuthService.authenticate(requestDto))
                 .isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    @DisplayName("사용자 정보에 이메일이 없으면 사용자를 조회하지 않고 예외 발생")
+    void authenticateWithoutEmailFails() {
+        // given
+        userInfoMap.remove("email");
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(tokenResponseMap, HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(userInfoMap, HttpStatus.OK));
+
+        // when & then
+        assertThatThrownBy(() -> googleOAuthService.authenticate(requestDto))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.OAUTH_USER_INFO_REQUEST_FAILED));
+        verifyNoInteractions(studentRepository);
+    }
+
+    private static UserIdentity identityOf(Student student) {
+        return identity("STUDENT", student.getId(), student.getEmail(), student.getName(),
+                student.getRole().name(), student.getGrade());
+    }
+
+    private static UserIdentity identity(String source, Long id, String email, String name, String role, Integer grade) {
+        return new UserIdentity() {
+            @Override public String getSource() { return source; }
+            @Override public Long getId() { return id; }
+            @Override public String getEmail() { return email; }
+            @Override public String getName() { return name; }
+            @Override public String getPhoneNumber() { return ""; }
+            @Override public String getRole() { return role; }
+            @Override public Boolean getIsEnabled() { return true; }
+            @Override public String getBio() { return null; }
+            @Override public Integer getGrade() { return grade; }
+            @Override public Integer getClassroom() { return grade == null ? null : 1; }
+            @Override public Integer getStudentNumber() { return grade == null ? null : 1; }
+        };
+    }
 }
@@ -0,0 +1,98 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 요청당 처리 비용 벤치마크
+ * 기존 방식(클레임마다 키 재생성 + 파서 재생성 + 재파싱)과
+ * parse-once 방식, 검증 결과 캐시 적중 시의 요청당 CPU 시간과 할당량을 비교
+ *
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark} 로 실행
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@Tag("benchmark")
+@DisplayName("JwtService 벤치마크")
+class JwtServiceBenchmarkTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInTestEnvironment";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("parse-once 방식이 요청당 CPU 시간과 할당량을 줄임")
+    void parseOnceVersusLegacyPipeline() {
+        JwtService jwtService = JwtServiceTest.createJwtService(3600000L);
+        String token = jwtService.generateAccessToken(UserType.STUDENT, 42L, "student@sdh.hs.kr");
+
+        JwtService cachedJwtService = JwtServiceTest.createJwtService(3600000L, true);
+
+        Measurement legacy = measure(() -> legacyFilterPipeline(token));
+        Measurement parseOnce = measure(() -> jwtService.parseToken(token).userId());
+        Measurement cached = measure(() -> cachedJwtService.parseToken(token).userId());
+
+        System.out.printf("legacy    : %,8d ns/req CPU, %,8d B/req alloc%n", legacy.cpuNanosPerOp(), legacy.bytesPerOp());
+        System.out.printf("parse-once: %,8d ns/req CPU, %,8d B/req alloc%n", parseOnce.cpuNanosPerOp(), parseOnce.bytesPerOp());
+        System.out.printf("cached    : %,8d ns/req CPU, %,8d B/req alloc%n", cached.cpuNanosPerOp(), cached.bytesPerOp());
+
+        assertThat(parseOnce.bytesPerOp()).isLessThan(legacy.bytesPerOp());
+        assertThat(parseOnce.cpuNanosPerOp()).isLessThan(legacy.cpuNanosPerOp());
+        assertThat(cached.cpuNanosPerOp()).isLessThan(parseOnce.cpuNanosPerOp());
+    }
+
+    /**
+     * 기존 JwtAuthenticationFilter 가 요청마다 수행하던 작업을 재현
+     * validateToken + getUserType + getUserId + getEmail (각각 키/파서 재생성)
+     */
+    private long legacyFilterPipeline(String token) {
+        legacyClaims(token);
+        legacyClaims(token).get("userType", String.class);
+        Long userId = legacyClaims(token).get("userId", Long.class);
+        legacyClaims(token).get("email", String.class);
+        Date expiration = legacyClaims(token).getExpiration();
+        return userId + expiration.getTime();
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private Measurement measure(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long cpuBefore = threadMXBean.getCurrentThreadCpuTime();
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        long cpuAfter = threadMXBean.getCurrentThreadCpuTime();
+        long bytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return new Measurement((cpuAfter - cpuBefore) / ITERATIONS, (bytesAfter - bytesBefore) / ITERATIONS);
+    }
+
+    private record Measurement(long cpuNanosPerOp, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,307 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import kr.hs.sdh.digitechnetwork.auth.JwtKeyRing;
+import kr.hs.sdh.digitechnetwork.auth.RevokedTokenIndex;
+import kr.hs.sdh.digitechnetwork.auth.VerifiedToken;
+import kr.hs.sdh.digitechnetwork.entity.JwtSigningKey;
+import kr.hs.sdh.digitechnetwork.entity.RevokedToken;
+import kr.hs.sdh.digitechnetwork.enums.TokenType;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.JwtSigningKeyRepository;
+import kr.hs.sdh.digitechnetwork.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtService 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("JwtService 테스트")
+class JwtServiceTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationAndValidationInTestEnvironment";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = createJwtService(3600000L);
+    }
+
+    static JwtService createJwtService(long expiration) {
+        return createJwtService(expiration, false);
+    }
+
+    static JwtService createJwtService(long expiration, boolean verifiedCacheEnabled) {
+        return createJwtService(createKeyRing("HS256", null), SECRET, expiration, verifiedCacheEnabled);
+    }
+
+    static JwtService createJwtService(JwtKeyRing keyRing, String secret, long expiration, boolean verifiedCacheEnabled) {
+        JwtService service = new JwtService(keyRing, createRevokedTokenIndex());
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "expiration", expiration);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 86400000L);
+        ReflectionTestUtils.setField(service, "verifiedCacheEnabled", verifiedCacheEnabled);
+        ReflectionTestUtils.setField(service, "verifiedCacheMaxSize", 100);
+        service.initialize();
+        return service;
+    }
+
+    static JwtKeyRing createKeyRing(String algorithm, JwtSigningKeyRepository repository) {
+        JwtKeyRing keyRing = new JwtKeyRing(repository);
+        ReflectionTestUtils.setField(keyRing, "algorithmName", algorithm);
+        ReflectionTestUtils.setField(keyRing, "secret", SECRET);
+        ReflectionTestUtils.setField(keyRing, "rotationIntervalMillis", 0L);
+        ReflectionTestUtils.setField(keyRing, "jwksMaxAgeSeconds", 0L);
+        ReflectionTestUtils.setField(keyRing, "maxTokenLifetimeMillis", 86400000L);
+        ReflectionTestUtils.invokeMethod(keyRing, "initialize");
+        return keyRing;
+    }
+
+    /**
+     * 중복 jti 저장 시 기본 키 충돌을 흉내 내는 메모리 기반 폐기 색인
+     */
+    static RevokedTokenIndex createRevokedTokenIndex() {
+        Set<String> stored = ConcurrentHashMap.newKeySet();
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        when(repository.saveAndFlush(any(RevokedToken.class))).thenAnswer(invocation -> {
+            RevokedToken revoked = invocation.getArgument(0);
+            if (!stored.add(revoked.getJti())) {
+                throw new DataIntegrityViolationException("duplicate jti");
+            }
+            return revoked;
+        });
+        RevokedTokenIndex index = new RevokedTokenIndex(repository);
+        ReflectionTestUtils.setField(index, "expectedInsertions", 1000);
+        ReflectionTestUtils.invokeMethod(index, "initialize");
+        return index;
+    }
+
+    /**
+     * 저장한 키를 그대로 돌려주는 메모리 기반 키 저장소
+     */
+    static JwtSigningKeyRepository inMemoryKeyRepository() {
+        List<JwtSigningKey> stored = new ArrayList<>();
+        JwtSigningKeyRepository repository = mock(JwtSigningKeyRepository.class);
+        when(repository.save(any(JwtSigningKey.class))).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(repository.findByAlgorithmOrderByActivatesAtAsc(anyString())).thenAnswer(invocation -> stored.stream()
+                .filter(key -> key.getAlgorithm().equals(invocation.getArgument(0)))
+                .sorted(Comparator.comparing(JwtSigningKey::getActivatesAt))
+                .toList());
+        return repository;
+    }
+
+    @Test
+    @DisplayName("한 번의 파싱으로 모든 클레임을 추출")
+    void parseTokenExtractsAllClaims() {
+        // given
+        String token = jwtService.generateAccessToken(UserType.TEACHER, 7L, "teacher@sdh.hs.kr");
+
+        // when
+        VerifiedToken verified = jwtService.parseToken(token);
+
+        // then
+        assertThat(verified.userType()).isEqualTo(UserType.TEACHER);
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.email()).isEqualTo("teacher@sdh.hs.kr");
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부")
+    void parseTokenRejectsForeignSignature() {
+        // given
+        JwtService other = createJwtService(createKeyRing("HS256", null), SECRET + "-other", 3600000L, false);
+        String token = other.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(JwtException.class);
+        assertThat(jwtService.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 파서 단계에서 거부")
+    void parseTokenRejectsExpiredToken() {
+        // given
+        JwtService expiring = createJwtService(-1000L);
+        String token = expiring.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+
+        // when & then
+        assertThatThrownBy(() -> expiring.parseToken(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(expiring.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 검증은 캐시에서 응답")
+    void repeatedParseIsServedFromCache() {
+        // given
+        JwtService cached = createJwtService(3600000L, true);
+        String token = cached.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+
+        // when
+        VerifiedToken first = cached.parseToken(token);
+        VerifiedToken second = cached.parseToken(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cached.getVerifiedTokenCacheStats()).hasValueSatisfying(stats -> {
+            assertThat(stats.hitCount()).isEqualTo(1);
+            assertThat(stats.missCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("캐시에서 제거된 토큰은 다시 검증")
+    void evictedTokenIsVerifiedAgain() {
+        // given
+        JwtService cached = createJwtService(3600000L, true);
+        String token = cached.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+        VerifiedToken first = cached.parseToken(token);
+
+        // when
+        cached.evictVerifiedTokens(UserType.TEACHER, 2L);
+        VerifiedToken second = cached.parseToken(token);
+
+        // then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰 발급")
+    void rotateRefreshToken() {
+        // given
+        String refreshToken = jwtService.generateRefreshToken(UserType.STUDENT, 3L, "student@sdh.hs.kr");
+
+        // when
+        Map<String, String> tokens = jwtService.rotateRefreshToken(jwtService.parseToken(refreshToken));
+
+        // then
+        VerifiedToken access = jwtService.parseToken(tokens.get("accessToken"));
+        assertThat(access.userId()).isEqualTo(3L);
+        assertThat(access.userType()).isEqualTo(UserType.STUDENT);
+        assertThat(access.tokenType()).isEqualTo(TokenType.ACCESS);
+        assertThat(jwtService.parseToken(tokens.get("refreshToken")).tokenType()).isEqualTo(TokenType.REFRESH);
+    }
+
+    @Test
+    @DisplayName("사용한 리프레시 토큰은 폐기되어 재사용 불가")
+    void usedRefreshTokenIsRevoked() {
+        // given
+        String refreshToken = jwtService.generateRefreshToken(UserType.TEACHER, 4L, "teacher@sdh.hs.kr");
+        VerifiedToken verified = jwtService.parseToken(refreshToken);
+        jwtService.rotateRefreshToken(verified);
+
+        // when & then
+        assertThatThrownBy(() -> jwtService.parseToken(refreshToken)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.rotateRefreshToken(verified))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("폐기 여부는 검증 결과 캐시 적중 시에도 확인")
+    void revokedTokenIsRejectedEvenWhenCached() {
+        // given
+        JwtService cached = createJwtService(3600000L, true);
+        String token = cached.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+        VerifiedToken verified = cached.parseToken(token);
+
+        // when
+        cached.revokeToken(verified);
+
+        // then
+        assertThat(cached.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰으로는 갱신할 수 없음")
+    void rotateRejectsAccessToken() {
+        String accessToken = jwtService.generateAccessToken(UserType.STUDENT, 3L, "student@sdh.hs.kr");
+
+        assertThatThrownBy(() -> jwtService.rotateRefreshToken(jwtService.parseToken(accessToken)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("ES256 토큰은 kid 를 포함하고 공개된 키만으로 검증 가능")
+    void asymmetricTokenIsVerifiableWithPublishedKey() {
+        // given
+        JwtKeyRing keyRing = createKeyRing("ES256", inMemoryKeyRepository());
+        JwtService es256 = createJwtService(keyRing, SECRET, 3600000L, false);
+
+        // when
+        String token = es256.generateAccessToken(UserType.STUDENT, 5L, "student@sdh.hs.kr");
+
+        // then
+        List<Map<String, Object>> jwks = keyRing.getPublicJwks();
+        assertThat(jwks).hasSize(1);
+        assertThat(jwks.get(0)).containsEntry("kty", "EC").containsEntry("alg", "ES256").doesNotContainKey("d");
+
+        String kid = (String) jwks.get(0).get("kid");
+        PublicKey publicKey = keyRing.findVerificationKey(kid).orElseThrow();
+        assertThat(Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getHeader().getKeyId())
+                .isEqualTo(kid);
+        assertThat(es256.parseToken(token).userId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("ES256 모드에서는 호환 수용을 켜지 않으면 HS256 토큰을 거부")
+    void asymmetricModeRejectsHs256TokensByDefault() {
+        // given
+        JwtKeyRing keyRing = createKeyRing("ES256", inMemoryKeyRepository());
+        JwtService es256 = createJwtService(keyRing, SECRET, 3600000L, false);
+        String legacyToken = jwtService.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+
+        // when & then
+        assertThat(es256.verifyToken(legacyToken)).isEmpty();
+
+        ReflectionTestUtils.setField(es256, "acceptHs256Tokens", true);
+        assertThat(es256.verifyToken(legacyToken)).isPresent();
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명된 토큰은 검증")
+    void previousKeyStillVerifiesAfterRotation() {
+        // given
+        JwtKeyRing keyRing = createKeyRing("ES256", inMemoryKeyRepository());
+        JwtService es256 = createJwtService(keyRing, SECRET, 3600000L, false);
+        String before = es256.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+        String kidBefore = keyRing.currentSigningKey().kid();
+
+        // when
+        keyRing.rotateIfDue();
+        String after = es256.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+
+        // then
+        assertThat(keyRing.currentSigningKey().kid()).isNotEqualTo(kidBefore);
+        assertThat(keyRing.getPublicJwks()).hasSize(2);
+        assertThat(es256.verifyToken(before)).isPresent();
+        assertThat(es256.verifyToken(after)).isPresent();
+    }
+}
@@ -0,0 +1,206 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCartCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalCheckoutRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.RentalInfoDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.RentHistory;
+import kr.hs.sdh.digitechnetwork.entity.StudentRentHistory;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.enums.RentStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.exception.ErrorResponse;
+import kr.hs.sdh.digitechnetwork.exception.RentalCartException;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.RentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.StudentRentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRentHistoryRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RentalService 테스트 클래스
+ * 조건부 UPDATE 결과에 따라 대여가 기록되거나 항상 같은 오류로 거부되는지 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RentalService 테스트")
+class RentalServiceTest {
+
+    @Mock
+    private RentHistoryRepository rentHistoryRepository;
+
+    @Mock
+    private StudentRentHistoryRepository studentRentHistoryRepository;
+
+    @Mock
+    private TeacherRentHistoryRepository teacherRentHistoryRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    @Mock
+    private EquipmentStatusCounters equipmentStatusCounters;
+
+    @Mock
+    private EquipmentReadCache equipmentReadCache;
+
+    @Mock
+    private EquipmentCollectionVersion equipmentCollectionVersion;
+
+    @Mock
+    private OverdueRentalMonitor overdueRentalMonitor;
+
+    @InjectMocks
+    private RentalServiceImpl rentalService;
+
+    @Test
+    @DisplayName("대여 가능하면 상태 변경과 같은 트랜잭션에서 대여 기록과 학생 연결을 저장")
+    void checkoutRecordsRental() {
+        // given
+        when(equipmentRepository.rentIfAvailable(eq(1L), any())).thenReturn(1);
+        when(rentHistoryRepository.save(any())).then(returnsFirstArg());
+        when(equipmentRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(summary(EquipmentStatus.RENT)));
+
+        // when
+        RentalInfoDto rental = rentalService.checkout(UserType.STUDENT, 7L,
+                RentalCheckoutRequestDto.builder().equipmentId(1L).build());
+
+        // then
+        assertThat(rental.getStatus()).isEqualTo(RentStatus.RENTED);
+        assertThat(rental.getEquipmentIdentifier()).isEqualTo("NB-001");
+        assertThat(rental.getRenterId()).isEqualTo(7L);
+        verify(studentRentHistoryRepository).save(any(StudentRentHistory.class));
+        verify(equipmentStatusCounters).recordTransition(EquipmentStatus.AVAILABLE, true, EquipmentStatus.RENT, true);
+        verify(equipmentReadCache).invalidateAfterCommit(1L, "NB-001");
+        verify(overdueRentalMonitor).scheduleAfterCommit(any(), eq(rental.getDueAt()));
+    }
+
+    @Test
+    @DisplayName("이미 대여 중이면 기록 없이 R002 로 거부")
+    void rejectsDoubleRental() {
+        // given
+        when(equipmentRepository.rentIfAvailable(eq(1L), any())).thenReturn(0);
+        when(equipmentRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(summary(EquipmentStatus.RENT)));
+
+        // when & then
+        assertThatThrownBy(() -> rentalService.checkout(UserType.TEACHER, 3L,
+                RentalCheckoutRequestDto.builder().equipmentId(1L).build()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.RENT_ALREADY_EXISTS);
+        verify(rentHistoryRepository, never()).save(any());
+        verify(equipmentStatusCounters, never()).recordTransition(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 대여는 반납할 수 없음")
+    void rejectsReturnByOtherUser() {
+        // given
+        RentHistory rent = RentHistory.builder()
+                .id(10L)
+                .equipment(Equipment.builder().id(1L).identifier("NB-001").build())
+                .status(RentStatus.RENTED)
+                .renterType(UserType.STUDENT)
+                .renterId(7L)
+                .rentedAt(LocalDateTime.now())
+                .dueAt(LocalDateTime.now().plusDays(7))
+                .build();
+        when(rentHistoryRepository.findWithEquipmentById(10L)).thenReturn(Optional.of(rent));
+
+        // when & then
+        assertThatThrownBy(() -> rentalService.returnRental(10L, UserType.STUDENT, 8L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACCESS_DENIED);
+        verify(rentHistoryRepository, never()).startReturn(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 대여는 한 번의 UPDATE 와 배치 INSERT 로 전부 대여")
+    void checkoutCartRentsAll() {
+        // given
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L, 2L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, "NB-001", EquipmentStatus.AVAILABLE, true),
+                        equipment(2L, "NB-002", EquipmentStatus.AVAILABLE, true)));
+        when(rentHistoryRepository.batchInsert(anyList())).thenReturn(List.of(101L, 102L));
+
+        // when
+        List<RentalInfoDto> rentals = rentalService.checkoutCart(UserType.TEACHER, 3L,
+                RentalCartCheckoutRequestDto.builder().equipmentIds(List.of(2L, 1L, 2L)).build());
+
+        // then
+        assertThat(rentals).extracting(RentalInfoDto::getRentalId).containsExactly(101L, 102L);
+        assertThat(rentals).extracting(RentalInfoDto::getEquipmentIdentifier).containsExactly("NB-001", "NB-002");
+        verify(equipmentRepository).updateStatusByIds(eq(List.of(1L, 2L)), eq(EquipmentStatus.RENT), any());
+        verify(rentHistoryRepository).batchInsertRenterLinks(UserType.TEACHER, 3L, List.of(101L, 102L));
+        verify(equipmentStatusCounters, times(2)).recordTransition(EquipmentStatus.AVAILABLE, true, EquipmentStatus.RENT, true);
+        verify(equipmentCollectionVersion).incrementAfterCommit();
+        verify(overdueRentalMonitor).scheduleAfterCommit(eq(101L), any());
+        verify(overdueRentalMonitor).scheduleAfterCommit(eq(102L), any());
+    }
+
+    @Test
+    @DisplayName("하나라도 대여할 수 없으면 아무것도 바꾸지 않고 기자재별 사유와 함께 R005 로 거부")
+    void checkoutCartRejectsWithPerItemFailures() {
+        // given
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L, 2L, 3L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, "NB-001", EquipmentStatus.AVAILABLE, true),
+                        equipment(2L, "NB-002", EquipmentStatus.RENT, true)));
+
+        // when & then
+        assertThatThrownBy(() -> rentalService.checkoutCart(UserType.STUDENT, 7L,
+                RentalCartCheckoutRequestDto.builder().equipmentIds(List.of(1L, 2L, 3L)).build()))
+                .isInstanceOfSatisfying(RentalCartException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RENT_CART_UNAVAILABLE);
+                    assertThat(e.getFailures()).extracting(ErrorResponse.FieldError::getValue).containsExactly("2", "3");
+                });
+        verify(equipmentRepository, never()).updateStatusByIds(any(), any(), any());
+        verify(rentHistoryRepository, never()).batchInsert(any());
+    }
+
+    private static Equipment equipment(Long id, String identifier, EquipmentStatus status, boolean isPublic) {
+        return Equipment.builder().id(id).identifier(identifier).name("노트북").status(status).isPublic(isPublic).build();
+    }
+
+    private static EquipmentSummaryDto summary(EquipmentStatus status) {
+        return EquipmentSummaryDto.builder()
+                .id(1L)
+                .identifier("NB-001")
+                .name("노트북")
+                .status(status)
+                .isPublic(true)
+                .build();
+    }
+}
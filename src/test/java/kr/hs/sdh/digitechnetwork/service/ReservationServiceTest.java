@@ -0,0 +1,228 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.dto.EquipmentSummaryDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationCreateRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.ReservationInfoDto;
+import kr.hs.sdh.digitechnetwork.entity.Equipment;
+import kr.hs.sdh.digitechnetwork.entity.Reservation;
+import kr.hs.sdh.digitechnetwork.enums.EquipmentStatus;
+import kr.hs.sdh.digitechnetwork.enums.ReservationStatus;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.exception.BusinessException;
+import kr.hs.sdh.digitechnetwork.exception.ErrorCode;
+import kr.hs.sdh.digitechnetwork.repository.EquipmentRepository;
+import kr.hs.sdh.digitechnetwork.repository.ReservationRepository;
+import kr.hs.sdh.digitechnetwork.utility.IntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReservationService 테스트 클래스
+ * 색인은 충돌 후보로만 쓰고, 거부와 확정은 데이터베이스 확인 결과에 따르는지 확인
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationService 테스트")
+class ReservationServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private EquipmentRepository equipmentRepository;
+
+    @Mock
+    private ReservationIndex reservationIndex;
+
+    @InjectMocks
+    private ReservationServiceImpl reservationService;
+
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationService, "maxDays", 7L);
+        ReflectionTestUtils.setField(reservationService, "maxAdvanceDays", 60L);
+        startAt = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        endAt = startAt.plusHours(2);
+    }
+
+    @Test
+    @DisplayName("색인에서 비어 있으면 기자재 행을 잠근 뒤 데이터베이스로 다시 확인하고 저장")
+    void reserveRechecksUnderRowLock() {
+        // given
+        when(reservationIndex.findConflict(1L, startAt, endAt)).thenReturn(Optional.empty());
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, EquipmentStatus.AVAILABLE)));
+        when(reservationRepository.existsOverlapping(1L, startAt, endAt)).thenReturn(false);
+        when(reservationRepository.save(any(Reservation.class))).then(returnsFirstArg());
+
+        // when
+        ReservationInfoDto reservation = reservationService.reserve(UserType.STUDENT, 7L, request(1L));
+
+        // then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThat(reservation.getEquipmentIdentifier()).isEqualTo("NB-001");
+        InOrder order = inOrder(equipmentRepository, reservationRepository, reservationIndex);
+        order.verify(equipmentRepository).findForBulkUpdate(eq(List.of(1L)), any(), anyInt());
+        order.verify(reservationRepository).existsOverlapping(1L, startAt, endAt);
+        order.verify(reservationRepository).save(any(Reservation.class));
+        order.verify(reservationIndex).addAfterCommit(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("잠근 뒤 데이터베이스에서 겹치는 예약이 보이면 색인에 없더라도 거부")
+    void reserveRejectsWhenDatabaseRecheckFindsOverlap() {
+        // given (다른 인스턴스의 예약이 아직 이 인스턴스 색인에 동기화되지 않음)
+        when(reservationIndex.findConflict(1L, startAt, endAt)).thenReturn(Optional.empty());
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, EquipmentStatus.AVAILABLE)));
+        when(reservationRepository.existsOverlapping(1L, startAt, endAt)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserve(UserType.STUDENT, 7L, request(1L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFLICT));
+        verify(reservationRepository, never()).save(any());
+        verify(reservationIndex, never()).addAfterCommit(any());
+    }
+
+    @Test
+    @DisplayName("색인에서 겹치고 데이터베이스도 확인하면 기자재 행을 잠그지 않고 거부")
+    void reserveFastRejectsConfirmedIndexHit() {
+        // given
+        when(reservationIndex.findConflict(1L, startAt, endAt))
+                .thenReturn(Optional.of(new IntervalIndex.Interval(5L, 1L, startAt.minusHours(1), startAt.plusHours(1))));
+        when(reservationRepository.existsOverlapping(1L, startAt, endAt)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserve(UserType.STUDENT, 7L, request(1L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFLICT));
+        verify(equipmentRepository, never()).findForBulkUpdate(any(), any(), anyInt());
+        verify(reservationIndex, never()).evict(anyLong());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 취소되어 색인에만 남은 예약은 제거하고 예약을 진행")
+    void reserveIgnoresStaleIndexHit() {
+        // given
+        when(reservationIndex.findConflict(1L, startAt, endAt))
+                .thenReturn(Optional.of(new IntervalIndex.Interval(5L, 1L, startAt, endAt)));
+        when(reservationRepository.existsOverlapping(1L, startAt, endAt)).thenReturn(false);
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, EquipmentStatus.AVAILABLE)));
+        when(reservationRepository.save(any(Reservation.class))).then(returnsFirstArg());
+
+        // when
+        ReservationInfoDto reservation = reservationService.reserve(UserType.TEACHER, 3L, request(1L));
+
+        // then
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+        verify(reservationIndex).evict(5L);
+        verify(reservationRepository).save(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("고장난 기자재는 예약할 수 없음")
+    void reserveRejectsBrokenEquipment() {
+        // given
+        when(reservationIndex.findConflict(1L, startAt, endAt)).thenReturn(Optional.empty());
+        when(equipmentRepository.findForBulkUpdate(eq(List.of(1L)), any(), anyInt()))
+                .thenReturn(List.of(equipment(1L, EquipmentStatus.BROKEN)));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserve(UserType.STUDENT, 7L, request(1L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EQUIPMENT_UNAVAILABLE));
+        verify(reservationRepository, never()).existsOverlapping(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 기자재 조회는 색인이 준비되어 있으면 예약 테이블을 조회하지 않음")
+    void findAvailableUsesIndex() {
+        // given
+        when(equipmentRepository.findSummariesByTypeId(10L)).thenReturn(List.of(
+                summary(1L, EquipmentStatus.AVAILABLE), summary(2L, EquipmentStatus.RENT), summary(3L, EquipmentStatus.BROKEN)));
+        when(reservationIndex.findReserved(List.of(1L, 2L), startAt, endAt)).thenReturn(Optional.of(Set.of(2L)));
+
+        // when
+        List<EquipmentSummaryDto> available = reservationService.findAvailable(10L, startAt, endAt);
+
+        // then
+        assertThat(available).extracting(EquipmentSummaryDto::getId).containsExactly(1L);
+        verify(reservationRepository, never()).findReservedEquipmentIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("색인이 아직 준비되지 않았으면 예약 테이블로 빈 기자재를 조회")
+    void findAvailableFallsBackWhenIndexIsNotReady() {
+        // given
+        when(equipmentRepository.findSummariesByTypeId(10L)).thenReturn(List.of(
+                summary(1L, EquipmentStatus.AVAILABLE), summary(2L, EquipmentStatus.AVAILABLE)));
+        when(reservationIndex.findReserved(List.of(1L, 2L), startAt, endAt)).thenReturn(Optional.empty());
+        when(reservationRepository.findReservedEquipmentIds(List.of(1L, 2L), startAt, endAt)).thenReturn(List.of(1L));
+
+        // when
+        List<EquipmentSummaryDto> available = reservationService.findAvailable(10L, startAt, endAt);
+
+        // then
+        assertThat(available).extracting(EquipmentSummaryDto::getId).containsExactly(2L);
+    }
+
+    private ReservationCreateRequestDto request(Long equipmentId) {
+        return ReservationCreateRequestDto.builder()
+                .equipmentId(equipmentId)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build();
+    }
+
+    private static Equipment equipment(Long id, EquipmentStatus status) {
+        return Equipment.builder()
+                .id(id)
+                .identifier("NB-00" + id)
+                .name("노트북")
+                .status(status)
+                .isPublic(true)
+                .build();
+    }
+
+    private static EquipmentSummaryDto summary(Long id, EquipmentStatus status) {
+        return EquipmentSummaryDto.builder()
+                .id(id)
+                .identifier("NB-00" + id)
+                .status(status)
+                .isPublic(true)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package kr.hs.sdh.digitechnetwork.service;
+
+import kr.hs.sdh.digitechnetwork.auth.UserStatusCache;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationRequestDto;
+import kr.hs.sdh.digitechnetwork.dto.BatchUserVerificationResponseDto;
+import kr.hs.sdh.digitechnetwork.dto.UserVerificationResponseDto;
+import kr.hs.sdh.digitechnetwork.entity.Student;
+import kr.hs.sdh.digitechnetwork.entity.Teacher;
+import kr.hs.sdh.digitechnetwork.enums.UserType;
+import kr.hs.sdh.digitechnetwork.repository.StudentRepository;
+import kr.hs.sdh.digitechnetwork.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserVerificationService 일괄 검증 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("UserVerificationService 일괄 검증 테스트")
+class UserVerificationServiceTest {
+
+    private JwtService jwtService;
+    private StudentRepository studentRepository;
+    private TeacherRepository teacherRepository;
+    private UserVerificationService userVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = JwtServiceTest.createJwtService(3600000L);
+        studentRepository = mock(StudentRepository.class);
+        teacherRepository = mock(TeacherRepository.class);
+        userVerificationService = new UserVerificationServiceImpl(jwtService, studentRepository, teacherRepository,
+                mock(UserStatusCache.class));
+    }
+
+    @Test
+    @DisplayName("유효/만료/폐기/위조 토큰이 섞여 있어도 토큰 순서대로 항목별 결과를 반환")
+    void verifyUsersReturnsPerItemResults() {
+        // given
+        String student = jwtService.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+        String expired = JwtServiceTest.createJwtService(-1000L).generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+        String revoked = jwtService.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+        jwtService.revokeToken(jwtService.parseToken(revoked));
+        String teacher = jwtService.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+        String deletedStudent = jwtService.generateAccessToken(UserType.STUDENT, 99L, "gone@sdh.hs.kr");
+
+        when(studentRepository.findAllById(any())).thenReturn(List.of(student(1L)));
+        when(teacherRepository.findAllById(any())).thenReturn(List.of(teacher(2L)));
+
+        // when
+        BatchUserVerificationResponseDto response = userVerificationService.verifyUsers(
+                request(student, expired, revoked, teacher, "not-a-jwt", deletedStudent));
+
+        // then
+        assertThat(response.getValidCount()).isEqualTo(2);
+        assertThat(response.getInvalidCount()).isEqualTo(4);
+        assertThat(response.getResults()).extracting(UserVerificationResponseDto::getIsValid)
+                .containsExactly(true, false, false, true, false, false);
+
+        UserVerificationResponseDto studentResult = response.getResults().get(0);
+        assertThat(studentResult.getUserType()).isEqualTo(UserType.STUDENT);
+        assertThat(studentResult.getUserId()).isEqualTo(1L);
+        assertThat(studentResult.getStudentNumber()).isEqualTo(1);
+        assertThat(studentResult.getTokenExpiration()).isNotNull();
+
+        UserVerificationResponseDto teacherResult = response.getResults().get(3);
+        assertThat(teacherResult.getUserType()).isEqualTo(UserType.TEACHER);
+        assertThat(teacherResult.getUserId()).isEqualTo(2L);
+        assertThat(teacherResult.getEmail()).isEqualTo("teacher2@sdh.hs.kr");
+
+        assertThat(response.getResults().get(1).getUserId()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("사용자 조회는 타입별 findAllById 한 번으로 처리하고 중복 ID 는 한 번만 조회")
+    void verifyUsersLoadsUsersInOneRoundTripPerType() {
+        // given
+        String first = jwtService.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+        String again = jwtService.generateAccessToken(UserType.STUDENT, 1L, "student@sdh.hs.kr");
+        String other = jwtService.generateAccessToken(UserType.STUDENT, 3L, "student3@sdh.hs.kr");
+        String teacher = jwtService.generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+
+        when(studentRepository.findAllById(any())).thenReturn(List.of(student(1L), student(3L)));
+        when(teacherRepository.findAllById(any())).thenReturn(List.of(teacher(2L)));
+
+        // when
+        BatchUserVerificationResponseDto response = userVerificationService.verifyUsers(request(first, again, other, teacher));
+
+        // then
+        assertThat(response.getValidCount()).isEqualTo(4);
+
+        ArgumentCaptor<Iterable<Long>> studentIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(studentRepository, times(1)).findAllById(studentIds.capture());
+        assertThat(studentIds.getValue()).containsExactlyInAnyOrder(1L, 3L);
+
+        ArgumentCaptor<Iterable<Long>> teacherIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(teacherRepository, times(1)).findAllById(teacherIds.capture());
+        assertThat(teacherIds.getValue()).containsExactly(2L);
+
+        verify(studentRepository, never()).findById(anyLong());
+        verify(teacherRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이 하나도 없으면 저장소를 조회하지 않음")
+    void verifyUsersSkipsRepositoriesWhenNoTokenIsValid() {
+        // given
+        String expired = JwtServiceTest.createJwtService(-1000L).generateAccessToken(UserType.TEACHER, 2L, "teacher@sdh.hs.kr");
+
+        // when
+        BatchUserVerificationResponseDto response = userVerificationService.verifyUsers(request(expired, "not-a-jwt"));
+
+        // then
+        assertThat(response.getValidCount()).isZero();
+        assertThat(response.getInvalidCount()).isEqualTo(2);
+        verifyNoInteractions(studentRepository, teacherRepository);
+    }
+
+    private static BatchUserVerificationRequestDto request(String... tokens) {
+        return BatchUserVerificationRequestDto.builder()
+                .accessTokens(List.of(tokens))
+                .build();
+    }
+
+    private static Student student(Long id) {
+        return Student.builder()
+                .id(id)
+                .name("학생" + id)
+                .email("student" + id + "@sdh.hs.kr")
+                .role(UserType.STUDENT)
+                .isEnabled(true)
+                .grade(1)
+                .classroom(1)
+                .studentNumber(id.intValue())
+                .build();
+    }
+
+    private static Teacher teacher(Long id) {
+        return Teacher.builder()
+                .id(id)
+                .name("교사" + id)
+                .email("teacher" + id + "@sdh.hs.kr")
+                .role(UserType.TEACHER)
+                .isEnabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BloomFilter 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 항목은 항상 있을 수 있음으로 판정 (거짓 음성 없음)")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        List<String> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = UUID.randomUUID().toString();
+            inserted.add(jti);
+            filter.put(jti);
+        }
+
+        // when & then
+        assertThat(inserted).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("거짓 양성 비율은 목표치 근처로 유지")
+    void falsePositiveRateIsBounded() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then (목표 1%, 여유를 두고 3% 미만)
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값은 거부")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulkhead 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("Bulkhead 테스트")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("작업은 가상 스레드에서 실행")
+    void runsOnVirtualThread() {
+        try (Bulkhead bulkhead = new Bulkhead("test", 2, Duration.ofMillis(100))) {
+            assertThat(bulkhead.submit(() -> Thread.currentThread().isVirtual()).join()).isTrue();
+            assertThat(bulkhead.stats().completedCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도를 넘으면 대기 시간 후 거부")
+    void rejectsWhenSaturated() throws InterruptedException {
+        try (Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(50))) {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> running = bulkhead.submit(() -> {
+                started.countDown();
+                release.await();
+                return "done";
+            });
+            started.await();
+
+            // when & then
+            assertThatThrownBy(() -> bulkhead.submit(() -> "rejected").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+            assertThat(bulkhead.stats().rejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.join()).isEqualTo("done");
+            assertThat(bulkhead.stats().active()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 허가를 반납")
+    void releasesPermitOnFailure() {
+        try (Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(50))) {
+            assertThatThrownBy(() -> bulkhead.submit(() -> {
+                throw new IllegalStateException("boom");
+            }).join()).hasCauseInstanceOf(IllegalStateException.class);
+
+            assertThat(bulkhead.submit(() -> "ok").join()).isEqualTo("ok");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CsvReader 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("CsvReader 테스트")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 따옴표, 줄바꿈을 하나의 필드로 읽음")
+    void readsQuotedFields() throws IOException {
+        // given
+        CsvReader reader = new CsvReader(new StringReader(
+                "identifier,name\r\n" +
+                "NB-001,\"노트북, 15인치\"\r\n" +
+                "NB-002,\"\"\"태블릿\"\"\n2세대\"\n"));
+
+        // when & then
+        assertThat(reader.next()).containsExactly("identifier", "name");
+        assertThat(reader.next()).containsExactly("NB-001", "노트북, 15인치");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("NB-002", "\"태블릿\"\n2세대");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 줄은 건너뛰고 빈 필드와 마지막 줄바꿈 없는 레코드도 읽음")
+    void skipsBlankLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,,c\n\n\nd,e,"));
+
+        assertThat(reader.next()).containsExactly("a", "", "c");
+        assertThat(reader.next()).containsExactly("d", "e", "");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 오류")
+    void rejectsUnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b\n"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,216 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ExpiringCache 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("ExpiringCache 테스트")
+class ExpiringCacheTest {
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-17T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 한 번만 로드하고 이후에는 적중")
+    void loadsOnceAndThenHits() {
+        // given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get("a", key -> loads.incrementAndGet(), Duration.ofMinutes(1));
+        Integer value = cache.get("a", key -> loads.incrementAndGet(), Duration.ofMinutes(1));
+
+        // then
+        assertThat(value).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().loadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 다시 로드")
+    void reloadsAfterExpiry() {
+        // given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, clock);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> loads.incrementAndGet(), Duration.ofSeconds(30));
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+        Integer value = cache.get("a", key -> loads.incrementAndGet(), Duration.ofSeconds(30));
+
+        // then
+        assertThat(value).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("절대 만료 시각으로 저장한 항목은 그 시각에 만료")
+    void putWithAbsoluteExpiry() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+        cache.put("token", "claims", clock.millis() + 1000);
+
+        // when & then
+        assertThat(cache.getIfPresent("token")).contains("claims");
+        clock.advance(Duration.ofMillis(1000));
+        assertThat(cache.getIfPresent("token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로더가 null 을 반환하면 캐시하지 않음")
+    void nullIsNotCached() {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+
+        // when
+        cache.get("a", key -> null, Duration.ofMinutes(1));
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 축출")
+    void evictsWhenFull() {
+        // given
+        ExpiringCache<Integer, Integer> cache = new ExpiringCache<>(100, clock);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i, clock.millis() + 60_000);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("조건부 무효화")
+    void invalidateIf() {
+        // given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, clock);
+        cache.put("odd", 1, clock.millis() + 60_000);
+        cache.put("even", 2, clock.millis() + 60_000);
+
+        // when
+        cache.invalidateIf(value -> value % 2 == 1);
+
+        // then
+        assertThat(cache.getIfPresent("odd")).isEmpty();
+        assertThat(cache.getIfPresent("even")).contains(2);
+    }
+
+    @Test
+    @DisplayName("로드 중에 무효화되면 로드한 값을 반환하되 캐시하지 않음")
+    void loadRacingInvalidateIsNotCached() {
+        // given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, clock);
+
+        // when: 로더가 오래된 값을 읽은 직후 다른 스레드의 변경으로 무효화됨
+        Integer loaded = cache.get("a", key -> {
+            cache.invalidate(key);
+            return 1;
+        }, Duration.ofMinutes(1));
+
+        // then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(cache.getIfPresent("a")).isEmpty();
+        assertThat(cache.get("a", key -> 2, Duration.ofMinutes(1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 스레드의 로드 중에 무효화되면 오래된 값이 다시 저장되지 않음")
+    void concurrentLoadAndInvalidate() throws Exception {
+        // given
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, clock);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        Thread loader = Thread.ofVirtual().start(() -> cache.get("user", key -> {
+            loadStarted.countDown();
+            try {
+                invalidated.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "stale";
+        }, Duration.ofMinutes(1)));
+
+        // when
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.invalidate("user");
+        invalidated.countDown();
+        loader.join(5000);
+
+        // then
+        assertThat(cache.getIfPresent("user")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건부 무효화는 진행 중인 로드도 취소")
+    void invalidateIfCancelsLoad() {
+        // given
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, clock);
+
+        // when
+        cache.get("a", key -> {
+            cache.invalidateIf(value -> value == 1);
+            return 1;
+        }, Duration.ofMinutes(1));
+
+        // then
+        assertThat(cache.getIfPresent("a")).isEmpty();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
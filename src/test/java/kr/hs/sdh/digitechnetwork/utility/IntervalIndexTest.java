@@ -0,0 +1,126 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IntervalIndex 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("IntervalIndex 테스트")
+class IntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 11, 2, 9, 0);
+
+    private IntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new IntervalIndex();
+        index.put(interval(1L, 10L, 0, 2));  // 09:00 ~ 11:00
+        index.put(interval(2L, 10L, 4, 6));  // 13:00 ~ 15:00
+        index.put(interval(3L, 20L, 0, 8));  // 다른 기자재
+    }
+
+    @Test
+    @DisplayName("겹치는 구간을 찾고, 끝나는 시각에 바로 이어지는 구간은 겹치지 않음")
+    void findsConflicts() {
+        assertThat(index.findConflict(10L, at(1), at(3))).map(IntervalIndex.Interval::id).contains(1L);
+        assertThat(index.findConflict(10L, at(3), at(5))).map(IntervalIndex.Interval::id).contains(2L);
+        assertThat(index.findConflict(10L, at(-1), at(10))).isPresent();
+        assertThat(index.isFree(10L, at(2), at(4))).isTrue();
+        assertThat(index.isFree(10L, at(6), at(7))).isTrue();
+        assertThat(index.isFree(30L, at(0), at(8))).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹치는 구간이 있으면 추가하지 않음")
+    void tryAddRejectsOverlap() {
+        assertThat(index.tryAdd(interval(4L, 10L, 1, 5))).isFalse();
+        assertThat(index.tryAdd(interval(5L, 10L, 2, 4))).isTrue();
+
+        assertThat(index.overlapping(10L, at(0), at(8))).extracting(IntervalIndex.Interval::id)
+                .containsExactly(1L, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("구간 목록은 조회 시작 전에 시작해서 걸쳐 있는 구간을 포함")
+    void overlappingIncludesStraddlingInterval() {
+        assertThat(index.overlapping(10L, at(1), at(5))).extracting(IntervalIndex.Interval::id).containsExactly(1L, 2L);
+        assertThat(index.overlapping(10L, at(2), at(4))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put 은 겹치는 오래된 구간을 밀어내고, 제거와 종료된 구간 정리가 가능")
+    void putRemoveAndPrune() {
+        index.put(interval(6L, 10L, 1, 5));
+        assertThat(index.overlapping(10L, at(0), at(8))).extracting(IntervalIndex.Interval::id).containsExactly(6L);
+
+        index.remove(6L);
+        assertThat(index.isFree(10L, at(0), at(8))).isTrue();
+
+        assertThat(index.removeEndedBefore(at(8))).isEqualTo(1);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시각이 시작 시각보다 앞서면 거부")
+    void rejectsEmptyInterval() {
+        assertThatThrownBy(() -> interval(7L, 10L, 3, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 구간을 동시에 추가하면 하나만 성공")
+    void concurrentTryAddAdmitsOne() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long id = 100L + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (index.tryAdd(interval(id, 40L, 0, 2))) {
+                        admitted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted.get()).isEqualTo(1);
+        assertThat(index.overlapping(40L, at(0), at(2))).hasSize(1);
+    }
+
+    private static IntervalIndex.Interval interval(long id, long key, int startHour, int endHour) {
+        return new IntervalIndex.Interval(id, key, at(startHour), at(endHour));
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NGramIndex 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("NGramIndex 테스트")
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(1L, fields("NB-001", "노트북", "전자기기", "LG그램 노트북"));
+        index.put(2L, fields("NB-002", "태블릿", "전자기기", "노트북 대신 사용 가능"));
+        index.put(3L, fields("CAM-01", "카메라", "촬영장비", "삼각대 포함"));
+    }
+
+    @Test
+    @DisplayName("단어 중간의 한글 부분 문자열도 검색되고 가중치가 높은 필드가 먼저 나옴")
+    void ranksByFieldWeight() {
+        List<NGramIndex.Hit> hits = index.search("노트북");
+
+        assertThat(hits).extracting(NGramIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(index.search("트북")).extracting(NGramIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(index.search("삼각")).extracting(NGramIndex.Hit::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("붙어 있는 영문과 한글은 나누어 색인")
+    void splitsScriptBoundaries() {
+        assertThat(index.search("그램")).extracting(NGramIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("lg")).extracting(NGramIndex.Hit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("초성 검색")
+    void searchesByChoseong() {
+        assertThat(index.search("ㄴㅌㅂ")).extracting(NGramIndex.Hit::id).containsExactly(1L, 2L);
+        assertThat(index.search("ㅋㅁㄹ")).extracting(NGramIndex.Hit::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 구분하지 않고, 식별자가 정확히 같으면 가장 먼저 나옴")
+    void normalizesAndBoostsExactIdentifier() {
+        List<NGramIndex.Hit> hits = index.search("ｎｂ-００２");
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("일치하는 n-gram 이 부족하면 결과에서 제외")
+    void requiresMinimumMatch() {
+        assertThat(index.search("노트패드")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문서 교체와 제거 시 이전 n-gram 이 남지 않음")
+    void replaceAndRemove() {
+        // when
+        index.put(1L, fields("NB-001", "모니터", "전자기기", null));
+        index.remove(3L);
+
+        // then
+        assertThat(index.search("노트북")).extracting(NGramIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("모니터")).extracting(NGramIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("카메라")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<NGramIndex.Field> fields(String identifier, String name, String type, String description) {
+        return List.of(
+                new NGramIndex.Field(identifier, 3.0),
+                new NGramIndex.Field(name, 3.0),
+                new NGramIndex.Field(type, 2.0),
+                new NGramIndex.Field(description, 1.0));
+    }
+}
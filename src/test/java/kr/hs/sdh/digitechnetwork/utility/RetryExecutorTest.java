@@ -0,0 +1,75 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RetryExecutor 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("RetryExecutor 테스트")
+class RetryExecutorTest {
+
+    private final RetryExecutor retryExecutor = new RetryExecutor(3, Duration.ofMillis(1), Duration.ofMillis(5),
+            ConcurrentModificationException.class::isInstance);
+
+    @Test
+    @DisplayName("재시도 대상 예외는 다시 실행하여 복구")
+    void recoversAfterConflict() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = retryExecutor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentModificationException();
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        RetryExecutor.Stats stats = retryExecutor.stats();
+        assertThat(stats.conflictCount()).isEqualTo(2);
+        assertThat(stats.retryCount()).isEqualTo(2);
+        assertThat(stats.recoveredCount()).isEqualTo(1);
+        assertThat(stats.maxAttemptsUsed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 마지막 예외를 전파")
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentModificationException();
+        })).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(retryExecutor.stats().exhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 예외는 즉시 전파")
+    void doesNotRetryOtherExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(retryExecutor.stats().conflictCount()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 작업을 한 번만 실행하고 결과를 공유")
+    void concurrentCallsShareOneExecution() throws Exception {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> flight.execute("key", () -> {
+                entered.countDown();
+                awaitQuietly(release);
+                return executions.incrementAndGet();
+            })));
+            entered.await();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> flight.execute("key", executions::incrementAndGet)));
+            }
+            // 나머지 호출이 진행 중인 작업에 합류할 때까지 대기
+            while (flight.getSharedCount() < callers - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // then
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 결과를 보관하지 않고 다음 호출은 다시 실행")
+    void doesNotCacheCompletedResults() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThat(flight.execute("key", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.execute("key", executions::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 실패는 호출자에게 그대로 전달되고 키는 해제")
+    void propagatesFailureAndReleasesKey() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> flight.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(flight.execute("key", () -> 42)).isEqualTo(42);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hs.sdh.digitechnetwork.utility;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimingWheel 테스트 클래스
+ *
+ * @since 2026.10.17
+ * @author yunjisang sdh230308@sdh.hs.kr
+ */
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2026, 11, 2, 9, 0);
+
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel(ORIGIN, Duration.ofMinutes(1), 8); // 한 바퀴 8분
+    }
+
+    @Test
+    @DisplayName("마감이 지난 틱이 끝나면 꺼내고, 꺼낸 것은 다시 나오지 않음")
+    void firesAfterDeadlineTick() {
+        wheel.schedule(1L, ORIGIN.plusMinutes(2).plusSeconds(30));
+        wheel.schedule(2L, ORIGIN.plusMinutes(5));
+
+        assertThat(wheel.advance(ORIGIN.plusMinutes(2).plusSeconds(40))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusMinutes(3))).containsExactly(1L);
+        assertThat(wheel.advance(ORIGIN.plusMinutes(6))).containsExactly(2L);
+        assertThat(wheel.advance(ORIGIN.plusMinutes(20))).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 마감은 해당 바퀴가 될 때까지 꺼내지 않음")
+    void keepsDeadlinesBeyondOneRevolution() {
+        wheel.schedule(1L, ORIGIN.plusMinutes(19));
+
+        assertThat(wheel.advance(ORIGIN.plusMinutes(4))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusMinutes(12))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusMinutes(19))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusMinutes(20))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록하면 이전 마감으로는 꺼내지 않음")
+    void cancelAndReschedule() {
+        wheel.schedule(1L, ORIGIN.plusMinutes(1));
+        wheel.schedule(2L, ORIGIN.plusMinutes(1));
+        assertThat(wheel.cancel(1L)).isTrue();
+        wheel.schedule(2L, ORIGIN.plusMinutes(10));
+
+        assertThat(wheel.advance(ORIGIN.plusMinutes(5))).isEmpty();
+        assertThat(wheel.advance(ORIGIN.plusMinutes(11))).containsExactly(2L);
+        assertThat(wheel.cancel(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("scheduleIfAbsent 는 이미 등록된 마감을 덮어쓰지 않음")
+    void scheduleIfAbsentKeepsExistingDeadline() {
+        // 시작 시 스트리밍 조회가 읽은 오래된 기한보다 그사이 연장된 기한이 먼저 등록된 경우
+        wheel.schedule(1L, ORIGIN.plusMinutes(10));
+
+        assertThat(wheel.scheduleIfAbsent(1L, ORIGIN.plusMinutes(2))).isFalse();
+        assertThat(wheel.scheduleIfAbsent(2L, ORIGIN.plusMinutes(2))).isTrue();
+
+        assertThat(wheel.advance(ORIGIN.plusMinutes(5))).containsExactly(2L);
+        assertThat(wheel.advance(ORIGIN.plusMinutes(11))).containsExactly(1L);
+        assertThat(wheel.scheduleIfAbsent(1L, ORIGIN.plusMinutes(12))).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록과 동시에 진행되는 채우기는 등록된 마감을 덮어쓰지 않음")
+    void concurrentLoadDoesNotOverwriteSchedule() throws Exception {
+        int count = 10_000;
+        LocalDateTime stale = ORIGIN.plusMinutes(2);
+        LocalDateTime extended = ORIGIN.plusMinutes(30);
+
+        Thread loader = Thread.ofVirtual().start(() -> {
+            for (long id = 0; id < count; id++) {
+                wheel.scheduleIfAbsent(id, stale);
+            }
+        });
+        for (long id = 0; id < count; id += 2) {
+            wheel.schedule(id, extended); // 짝수 ID 는 커밋 후 연장된 기한으로 등록
+        }
+        loader.join();
+
+        List<Long> fired = wheel.advance(ORIGIN.plusMinutes(5));
+        assertThat(fired).hasSize(count / 2).allMatch(id -> id % 2 == 1);
+        assertThat(wheel.size()).isEqualTo(count / 2);
+    }
+
+    @Test
+    @DisplayName("오래 멈춰 있다가 진행해도 지난 마감을 모두 꺼내고, 이미 지난 마감은 다음 진행에서 꺼냄")
+    void catchesUpAfterLongPause() {
+        wheel.schedule(1L, ORIGIN.plusMinutes(3));
+        wheel.schedule(2L, ORIGIN.plusMinutes(30));
+        wheel.schedule(3L, ORIGIN.plusMinutes(100));
+
+        assertThat(wheel.advance(ORIGIN.plusMinutes(50))).containsExactlyInAnyOrder(1L, 2L);
+
+        wheel.schedule(4L, ORIGIN.minusMinutes(5));
+        assertThat(wheel.advance(ORIGIN.plusMinutes(51))).containsExactly(4L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}